@@ -0,0 +1,97 @@
+package com.febrie.eroom.config;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 설정의 하위 섹션을 기본값과 함께 읽기 위한 래퍼
+ * 섹션이나 키가 없으면 기본값을 반환합니다.
+ */
+public class ConfigSection {
+
+    private final JsonObject section;
+
+    /**
+     * ConfigSection 생성자
+     */
+    public ConfigSection(JsonObject section) {
+        this.section = section != null ? section : new JsonObject();
+    }
+
+    /**
+     * 부모 객체에서 하위 섹션을 가져옵니다.
+     */
+    @NotNull
+    public static ConfigSection of(JsonObject parent, String name) {
+        if (parent == null || !parent.has(name) || !parent.get(name).isJsonObject()) {
+            return new ConfigSection(null);
+        }
+        return new ConfigSection(parent.getAsJsonObject(name));
+    }
+
+    /**
+     * 하위 섹션을 가져옵니다.
+     */
+    @NotNull
+    public ConfigSection getSection(String name) {
+        return of(section, name);
+    }
+
+    /**
+     * 키가 존재하는지 확인합니다.
+     */
+    public boolean has(String key) {
+        return section.has(key) && !section.get(key).isJsonNull();
+    }
+
+    /**
+     * 정수 값을 반환합니다.
+     */
+    public int getInt(String key, int defaultValue) {
+        return has(key) ? section.get(key).getAsInt() : defaultValue;
+    }
+
+    /**
+     * long 값을 반환합니다.
+     */
+    public long getLong(String key, long defaultValue) {
+        return has(key) ? section.get(key).getAsLong() : defaultValue;
+    }
+
+    /**
+     * 실수 값을 반환합니다.
+     */
+    public double getDouble(String key, double defaultValue) {
+        return has(key) ? section.get(key).getAsDouble() : defaultValue;
+    }
+
+    /**
+     * 불리언 값을 반환합니다.
+     */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return has(key) ? section.get(key).getAsBoolean() : defaultValue;
+    }
+
+    /**
+     * 문자열 값을 반환합니다.
+     */
+    public String getString(String key, String defaultValue) {
+        return has(key) ? section.get(key).getAsString() : defaultValue;
+    }
+
+    /**
+     * 원본 JSON 요소를 반환합니다.
+     */
+    public JsonElement get(String key) {
+        return section.get(key);
+    }
+
+    /**
+     * 원본 JSON 객체를 반환합니다.
+     */
+    @NotNull
+    public JsonObject asJsonObject() {
+        return section;
+    }
+}
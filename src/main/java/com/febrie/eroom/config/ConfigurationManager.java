@@ -8,4 +8,12 @@ public interface ConfigurationManager {
     JsonObject getModelConfig();
 
     String getPrompt(String type);
-}
\ No newline at end of file
+
+    /**
+     * 최상위 설정 섹션을 반환합니다.
+     * 섹션이 없으면 빈 섹션을 반환합니다.
+     */
+    default ConfigSection getSection(String name) {
+        return ConfigSection.of(getConfig(), name);
+    }
+}
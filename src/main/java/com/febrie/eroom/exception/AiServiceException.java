@@ -0,0 +1,84 @@
+package com.febrie.eroom.exception;
+
+/**
+ * AI 서비스 호출이 실패했을 때 발생하는 예외
+ * 실패 원인과 재시도 가능 여부를 함께 전달합니다.
+ */
+public class AiServiceException extends RuntimeException {
+
+    /**
+     * 실패 원인을 나타내는 열거형
+     */
+    public enum Reason {
+        CONFIGURATION(false),
+        RATE_LIMITED(true),
+        OVERLOADED(true),
+        SERVER_ERROR(true),
+        NETWORK(true),
+        CLIENT_ERROR(false),
+        EMPTY_RESPONSE(true),
+        PARSE_FAILURE(true),
+        DEADLINE_EXCEEDED(false),
+        INTERRUPTED(false);
+
+        private final boolean retryable;
+
+        Reason(boolean retryable) {
+            this.retryable = retryable;
+        }
+
+        public boolean isRetryable() {
+            return retryable;
+        }
+    }
+
+    private final Reason reason;
+    private final int statusCode;
+    private final Long retryAfterMillis;
+
+    /**
+     * 원인과 메시지로 예외를 생성합니다.
+     */
+    public AiServiceException(Reason reason, String message) {
+        this(reason, message, null, -1, null);
+    }
+
+    /**
+     * 원인, 메시지, 원인 예외로 예외를 생성합니다.
+     */
+    public AiServiceException(Reason reason, String message, Throwable cause) {
+        this(reason, message, cause, -1, null);
+    }
+
+    /**
+     * HTTP 상태 코드와 Retry-After 정보를 포함하여 예외를 생성합니다.
+     */
+    public AiServiceException(Reason reason, String message, Throwable cause, int statusCode, Long retryAfterMillis) {
+        super(message, cause);
+        this.reason = reason;
+        this.statusCode = statusCode;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public boolean isRetryable() {
+        return reason.isRetryable();
+    }
+
+    /**
+     * HTTP 상태 코드를 반환합니다. 없으면 -1입니다.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * 서버가 요청한 재시도 대기 시간을 반환합니다. 없으면 null입니다.
+     */
+    public Long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
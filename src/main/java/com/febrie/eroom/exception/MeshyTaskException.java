@@ -0,0 +1,39 @@
+package com.febrie.eroom.exception;
+
+/**
+ * Meshy 작업이 실패하거나 시간 초과되었을 때 발생하는 예외
+ */
+public class MeshyTaskException extends RuntimeException {
+
+    private final String taskId;
+    private final boolean timeout;
+
+    /**
+     * 작업 ID와 메시지로 예외를 생성합니다.
+     */
+    public MeshyTaskException(String taskId, String message, boolean timeout) {
+        super(message);
+        this.taskId = taskId;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 작업 ID, 메시지, 원인 예외로 예외를 생성합니다.
+     */
+    public MeshyTaskException(String taskId, String message, Throwable cause) {
+        super(message, cause);
+        this.taskId = taskId;
+        this.timeout = false;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    /**
+     * 시간 초과로 인한 실패인지 반환합니다.
+     */
+    public boolean isTimeout() {
+        return timeout;
+    }
+}
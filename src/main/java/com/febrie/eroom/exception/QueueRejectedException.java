@@ -0,0 +1,37 @@
+package com.febrie.eroom.exception;
+
+/**
+ * 요청 큐가 새 요청을 받아들일 수 없을 때 발생하는 예외
+ * 클라이언트가 다시 시도할 때까지 기다릴 시간을 함께 전달합니다.
+ */
+public class QueueRejectedException extends RuntimeException {
+
+    /**
+     * 거부 사유
+     */
+    public enum Reason {
+        QUEUE_FULL,
+        WAIT_TOO_LONG,
+        TENANT_LIMIT
+    }
+
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    /**
+     * 메시지와 거부 사유, 재시도 대기 시간으로 예외를 생성합니다.
+     */
+    public QueueRejectedException(String message, Reason reason, long retryAfterSeconds) {
+        super(message);
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,7 +1,10 @@
 package com.febrie.eroom.factory;
 
 import com.febrie.eroom.service.ai.AiService;
+import com.febrie.eroom.service.event.RoomEventBus;
+import com.febrie.eroom.service.journal.JobJournal;
 import com.febrie.eroom.service.mesh.MeshService;
+import com.febrie.eroom.service.mesh.ModelJobTable;
 import com.febrie.eroom.service.room.RoomService;
 
 public interface ServiceFactory {
@@ -10,4 +13,22 @@ public interface ServiceFactory {
     MeshService createMeshService();
 
     RoomService createRoomService();
+
+    /**
+     * 작업 저널을 반환합니다.
+     * 저널 파일은 하나의 인스턴스만 열어야 하므로 항상 같은 인스턴스를 반환합니다.
+     */
+    JobJournal getJobJournal();
+
+    /**
+     * 방 생성 진행 이벤트 발행기 모음을 반환합니다.
+     * 룸 서비스와 이벤트 스트림 핸들러가 공유해야 하므로 항상 같은 인스턴스를 반환합니다.
+     */
+    RoomEventBus getRoomEventBus();
+
+    /**
+     * 백그라운드 모델 작업 표를 반환합니다.
+     * 룸 서비스와 모델 작업 조회 핸들러가 공유해야 하므로 항상 같은 인스턴스를 반환합니다.
+     */
+    ModelJobTable getModelJobTable();
 }
\ No newline at end of file
@@ -1,12 +1,21 @@
 package com.febrie.eroom.factory;
 
 import com.febrie.eroom.config.ApiKeyProvider;
+import com.febrie.eroom.config.ConfigSection;
 import com.febrie.eroom.config.ConfigurationManager;
 import com.febrie.eroom.service.ai.AiService;
 import com.febrie.eroom.service.ai.AnthropicAiService;
+import com.febrie.eroom.service.cache.TieredCache;
+import com.febrie.eroom.service.event.RoomEventBus;
+import com.febrie.eroom.service.journal.JobCheckpointStore;
+import com.febrie.eroom.service.journal.JobJournal;
+import com.febrie.eroom.service.journal.SegmentedJobJournal;
+import com.febrie.eroom.service.mesh.CachingMeshService;
 import com.febrie.eroom.service.mesh.LocalModelService;
 import com.febrie.eroom.service.mesh.MeshService;
 import com.febrie.eroom.service.mesh.MeshyApiService;
+import com.febrie.eroom.service.mesh.ModelJobTable;
+import com.febrie.eroom.service.mesh.ModelReuseIndex;
 import com.febrie.eroom.service.room.RoomService;
 import com.febrie.eroom.service.room.RoomServiceImpl;
 import com.google.gson.JsonArray;
@@ -26,6 +35,13 @@ public class ServiceFactoryImpl implements ServiceFactory {
 
     // 설정 필드 상수
     private static final String CONFIG_LOCAL_MODEL_SERVERS = "localModelServers";
+    private static final String CONFIG_MESHY = "meshy";
+    private static final String CONFIG_POLLING = "polling";
+    private static final String CONFIG_MODEL_CACHE = "modelCache";
+    private static final String CONFIG_ENABLED = "enabled";
+    private static final String CONFIG_MODEL_REUSE = "modelReuse";
+    private static final String CONFIG_JOURNAL = "journal";
+    private static final String CONFIG_MODEL_JOBS = "modelJobs";
 
     // 기본 로컬 서버 주소
     private static final String[] DEFAULT_LOCAL_SERVERS = {
@@ -35,6 +51,9 @@ public class ServiceFactoryImpl implements ServiceFactory {
 
     private final ApiKeyProvider apiKeyProvider;
     private final ConfigurationManager configManager;
+    private JobJournal jobJournal;
+    private RoomEventBus roomEventBus;
+    private ModelJobTable modelJobTable;
 
     /**
      * ServiceFactoryImpl 생성자
@@ -57,7 +76,8 @@ public class ServiceFactoryImpl implements ServiceFactory {
      */
     @Override
     public MeshService createMeshService() {
-        return new MeshyApiService(apiKeyProvider);
+        MeshService meshyService = new MeshyApiService(apiKeyProvider, configManager.getSection(CONFIG_MESHY).getSection(CONFIG_POLLING));
+        return withModelCache(meshyService, "meshy");
     }
 
     /**
@@ -66,7 +86,21 @@ public class ServiceFactoryImpl implements ServiceFactory {
      */
     public MeshService createLocalModelService() {
         List<String> serverUrls = loadLocalServerUrls();
-        return new LocalModelService(serverUrls);
+        return withModelCache(new LocalModelService(serverUrls), "local");
+    }
+
+    /**
+     * 설정에서 모델 캐시가 활성화되어 있으면 캐시 데코레이터로 감쌉니다.
+     * 서비스마다 별도의 하위 디렉터리를 사용합니다.
+     */
+    private MeshService withModelCache(MeshService service, String namespace) {
+        ConfigSection cacheConfig = configManager.getSection(CONFIG_MODEL_CACHE);
+        if (!cacheConfig.getBoolean(CONFIG_ENABLED, false)) {
+            return service;
+        }
+
+        TieredCache cache = TieredCache.fromConfig("model-" + namespace, cacheConfig.getSection(namespace));
+        return new CachingMeshService(service, namespace, cache);
     }
 
     /**
@@ -79,7 +113,50 @@ public class ServiceFactoryImpl implements ServiceFactory {
         MeshService meshService = createMeshService();
         MeshService localModelService = createLocalModelService();
 
-        return new RoomServiceImpl(aiService, meshService, localModelService, configManager);
+        ModelReuseIndex modelReuseIndex = ModelReuseIndex.fromConfig(configManager.getSection(CONFIG_MODEL_REUSE));
+
+        JobCheckpointStore checkpointStore = new JobCheckpointStore(getJobJournal());
+
+        return new RoomServiceImpl(aiService, meshService, localModelService, modelReuseIndex, checkpointStore,
+                getRoomEventBus(), getModelJobTable(), configManager);
+    }
+
+    /**
+     * 작업 저널을 반환합니다.
+     * 설정에서 저널이 활성화되어 있지 않으면 아무것도 기록하지 않는 저널을 사용합니다.
+     */
+    @Override
+    public synchronized JobJournal getJobJournal() {
+        if (jobJournal == null) {
+            ConfigSection journalConfig = configManager.getSection(CONFIG_JOURNAL);
+            jobJournal = journalConfig.getBoolean(CONFIG_ENABLED, false)
+                    ? SegmentedJobJournal.fromConfig(journalConfig)
+                    : JobJournal.disabled();
+        }
+        return jobJournal;
+    }
+
+    /**
+     * 방 생성 진행 이벤트 발행기 모음을 반환합니다.
+     */
+    @Override
+    public synchronized RoomEventBus getRoomEventBus() {
+        if (roomEventBus == null) {
+            roomEventBus = new RoomEventBus();
+        }
+        return roomEventBus;
+    }
+
+    /**
+     * 백그라운드 모델 작업 표를 반환합니다.
+     * 설정에서 활성화되어 있지 않으면 모델은 방 작업 안에서 생성됩니다.
+     */
+    @Override
+    public synchronized ModelJobTable getModelJobTable() {
+        if (modelJobTable == null) {
+            modelJobTable = ModelJobTable.fromConfig(configManager.getSection(CONFIG_MODEL_JOBS));
+        }
+        return modelJobTable;
     }
 
     /**
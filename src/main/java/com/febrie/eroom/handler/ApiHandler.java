@@ -1,19 +1,36 @@
 package com.febrie.eroom.handler;
 
+import com.febrie.eroom.exception.QueueRejectedException;
 import com.febrie.eroom.model.RoomCreationRequest;
 import com.febrie.eroom.service.JobResultStore;
 import com.febrie.eroom.service.ResponseFormatter;
+import com.febrie.eroom.service.event.RoomEventBus;
+import com.febrie.eroom.service.mesh.ModelJobTable;
 import com.febrie.eroom.service.queue.QueueManager;
+import com.febrie.eroom.service.queue.TenantKeyResolver;
+import com.febrie.eroom.service.room.RoomService;
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.sse.ServerSentEventConnection;
+import io.undertow.server.handlers.sse.ServerSentEventHandler;
+import io.undertow.util.Headers;
+import io.undertow.util.HttpString;
+import io.undertow.util.SameThreadExecutor;
 import io.undertow.util.StatusCodes;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xnio.XnioExecutor;
 
+import java.util.Deque;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class ApiHandler implements RequestHandler {
     private static final Logger log = LoggerFactory.getLogger(ApiHandler.class);
@@ -29,27 +46,60 @@ public class ApiHandler implements RequestHandler {
     private static final String ERROR_REQUEST_READ = "요청 본문을 읽는데 실패했습니다.";
     private static final String ERROR_RUID_REQUIRED = "쿼리 파라미터 'ruid'가 필요합니다.";
     private static final String ERROR_JOB_NOT_FOUND = "ruid '%s'에 해당하는 작업을 찾을 수 없습니다. 이미 처리되었거나 존재하지 않는 작업입니다.";
+    private static final String ERROR_EVENT_STREAM = "이벤트 스트림을 시작하지 못했습니다.";
+    private static final String ERROR_MODEL_JOB_QUERY_REQUIRED = "쿼리 파라미터 'id' 또는 'ruid'가 필요합니다.";
+    private static final String ERROR_MODEL_JOB_NOT_FOUND = "'%s'에 해당하는 모델 작업을 찾을 수 없습니다.";
 
     // 필드 이름 상수
     private static final String FIELD_STATUS = "status";
     private static final String FIELD_MESSAGE = "message";
     private static final String FIELD_QUEUE = "queue";
+    private static final String FIELD_METRICS = "metrics";
+    private static final String FIELD_RESULTS = "results";
     private static final String FIELD_RUID = "ruid";
+    private static final String FIELD_RETRY_AFTER = "retryAfterSeconds";
+    private static final String FIELD_REASON = "reason";
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_PARTIAL = "partial";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_JOBS = "jobs";
+
+    // 결과 대기 상수
+    private static final String PARAM_WAIT = "wait";
+    private static final String PARAM_SINCE = "since";
+    private static final int MAX_WAIT_SECONDS = 60;
+    private static final HttpString HEADER_RESULT_VERSION = new HttpString("X-Result-Version");
+
+    // 이벤트 스트림 상수
+    private static final String EVENT_STATUS = "status";
+    private static final String STATUS_NOT_FOUND = "NOT_FOUND";
+    private static final long EVENT_KEEP_ALIVE_MS = 15_000;
 
     private final Gson gson;
     private final QueueManager queueManager;
     private final JobResultStore resultStore;
+    private final RoomService roomService;
+    private final TenantKeyResolver tenantKeyResolver;
+    private final RoomEventBus eventBus;
+    private final ModelJobTable modelJobTable;
     private final ResponseFormatter responseFormatter;
+    private final ServerSentEventHandler eventStreamHandler;
 
     /**
      * ApiHandler 생성자
      * API 요청을 처리하는 핸들러를 초기화합니다.
      */
-    public ApiHandler(Gson gson, QueueManager queueManager, JobResultStore resultStore) {
+    public ApiHandler(Gson gson, QueueManager queueManager, JobResultStore resultStore, RoomService roomService,
+                      TenantKeyResolver tenantKeyResolver, RoomEventBus eventBus, ModelJobTable modelJobTable) {
         this.gson = gson;
         this.queueManager = queueManager;
         this.resultStore = resultStore;
+        this.roomService = roomService;
+        this.tenantKeyResolver = tenantKeyResolver;
+        this.eventBus = eventBus;
+        this.modelJobTable = modelJobTable;
         this.responseFormatter = new ResponseFormatter(gson);
+        this.eventStreamHandler = new ServerSentEventHandler(this::streamRoomEvents);
     }
 
     /**
@@ -83,18 +133,20 @@ public class ApiHandler implements RequestHandler {
 
     /**
      * 방 생성 요청을 처리합니다.
-     * 비동기로 요청 본문을 읽고 처리합니다.
+     * 비동기로 요청 본문을 읽고, 접수 기록이 디스크에 반영될 때까지 기다릴 수 있으므로 처리는 워커 스레드에서 합니다.
      */
     @Override
     public void handleRoomCreate(@NotNull HttpServerExchange exchange) {
         exchange.getRequestReceiver().receiveFullString(
-                this::processRoomCreationRequest,
+                (receivedExchange, message) -> receivedExchange.dispatch(
+                        () -> processRoomCreationRequest(receivedExchange, message)),
                 this::handleRequestReadError
         );
     }
 
     /**
      * 방 생성 결과 조회 요청을 처리합니다.
+     * 디스크 계층에 내려 둔 결과를 읽을 수 있으므로 조회는 워커 스레드에서 합니다.
      */
     @Override
     public void handleRoomResult(HttpServerExchange exchange) {
@@ -104,7 +156,63 @@ public class ApiHandler implements RequestHandler {
             return;
         }
 
-        processResultQuery(exchange, ruid);
+        exchange.dispatch(() -> processResultQuery(exchange, ruid));
+    }
+
+    /**
+     * 방 생성 진행 이벤트 스트림 요청을 처리합니다.
+     * 작업이 있으면 Server-Sent Events 연결로 전환하고, 없으면 일반 오류 응답을 보냅니다.
+     */
+    @Override
+    public void handleRoomEvents(HttpServerExchange exchange) {
+        String ruid = extractRuidFromQuery(exchange);
+        if (ruid == null) {
+            responseFormatter.sendErrorResponse(exchange, StatusCodes.BAD_REQUEST, ERROR_RUID_REQUIRED);
+            return;
+        }
+        if (resultStore.getJobStatus(ruid).isEmpty()) {
+            responseFormatter.sendErrorResponse(exchange, StatusCodes.NOT_FOUND, String.format(ERROR_JOB_NOT_FOUND, ruid));
+            return;
+        }
+
+        try {
+            eventStreamHandler.handleRequest(exchange);
+        } catch (Exception e) {
+            responseFormatter.sendErrorResponse(exchange, StatusCodes.INTERNAL_SERVER_ERROR, ERROR_EVENT_STREAM, e, false);
+        }
+    }
+
+    /**
+     * 백그라운드 모델 작업 조회 요청을 처리합니다.
+     * id로 작업 하나를, ruid로 방에 속한 모든 모델 작업을 조회합니다.
+     */
+    @Override
+    public void handleModelResult(HttpServerExchange exchange) {
+        Optional<String> jobId = responseFormatter.getQueryParam(exchange, FIELD_ID);
+        if (jobId.isPresent()) {
+            modelJobTable.get(jobId.get()).ifPresentOrElse(
+                    job -> responseFormatter.sendJsonResponse(exchange, StatusCodes.OK, job.toJson()),
+                    () -> responseFormatter.sendErrorResponse(exchange, StatusCodes.NOT_FOUND,
+                            String.format(ERROR_MODEL_JOB_NOT_FOUND, jobId.get())));
+            return;
+        }
+
+        String ruid = extractRuidFromQuery(exchange);
+        if (ruid == null) {
+            responseFormatter.sendErrorResponse(exchange, StatusCodes.BAD_REQUEST, ERROR_MODEL_JOB_QUERY_REQUIRED);
+            return;
+        }
+        List<ModelJobTable.ModelJob> jobs = modelJobTable.findByRoom(ruid);
+        if (jobs.isEmpty()) {
+            responseFormatter.sendErrorResponse(exchange, StatusCodes.NOT_FOUND, String.format(ERROR_MODEL_JOB_NOT_FOUND, ruid));
+            return;
+        }
+        JsonObject response = new JsonObject();
+        response.addProperty(FIELD_RUID, ruid);
+        JsonArray array = new JsonArray();
+        jobs.forEach(job -> array.add(job.toJson()));
+        response.add(FIELD_JOBS, array);
+        responseFormatter.sendJsonResponse(exchange, StatusCodes.OK, response);
     }
 
     /**
@@ -126,6 +234,8 @@ public class ApiHandler implements RequestHandler {
         JsonObject response = new JsonObject();
         response.addProperty(FIELD_STATUS, "healthy");
         response.add(FIELD_QUEUE, formatQueueStatus(queueManager.getQueueStatus()));
+        response.add(FIELD_METRICS, roomService.getMetrics());
+        response.add(FIELD_RESULTS, resultStore.getStats());
         return response;
     }
 
@@ -139,9 +249,73 @@ public class ApiHandler implements RequestHandler {
         queue.addProperty("active", status.active());
         queue.addProperty("completed", status.completed());
         queue.addProperty("maxConcurrent", status.maxConcurrent());
+        queue.addProperty("capacity", status.capacity());
+        queue.addProperty("rejected", status.rejected());
+        queue.add("lanes", formatLaneStatuses(status.lanes()));
         return queue;
     }
 
+    /**
+     * 레인별 상태를 포맷팅합니다.
+     */
+    @NotNull
+    private JsonObject formatLaneStatuses(@NotNull List<QueueManager.LaneStatus> lanes) {
+        JsonObject json = new JsonObject();
+        for (QueueManager.LaneStatus lane : lanes) {
+            JsonObject laneJson = new JsonObject();
+            laneJson.addProperty("queued", lane.queued());
+            laneJson.addProperty("active", lane.active());
+            laneJson.addProperty("maxConcurrent", lane.maxConcurrent());
+            laneJson.addProperty("capacity", lane.capacity());
+            laneJson.addProperty("estimatedWaitMs", lane.estimatedWaitMs());
+            laneJson.addProperty("serviceTimeEstimateMs", lane.serviceTimeEstimateMs());
+            laneJson.add("concurrency", formatLimiterStatus(lane.concurrency()));
+            laneJson.add("tenants", formatTenantStatuses(lane.tenants()));
+            json.add(lane.lane(), laneJson);
+        }
+        return json;
+    }
+
+    /**
+     * 레인의 동시 처리 제한기 상태를 포맷팅합니다.
+     */
+    @NotNull
+    private JsonObject formatLimiterStatus(@NotNull QueueManager.LimiterStatus limiter) {
+        JsonObject json = new JsonObject();
+        json.addProperty("adaptive", limiter.adaptive());
+        json.addProperty("limit", limiter.limit());
+        json.addProperty("minLimit", limiter.minLimit());
+        json.addProperty("maxLimit", limiter.maxLimit());
+        json.addProperty("inFlight", limiter.inFlight());
+        json.addProperty("shortLatencyMs", limiter.shortLatencyMs());
+        json.addProperty("longLatencyMs", limiter.longLatencyMs());
+        json.addProperty("increases", limiter.increases());
+        json.addProperty("latencyBackoffs", limiter.latencyBackoffs());
+        json.addProperty("errorBackoffs", limiter.errorBackoffs());
+        return json;
+    }
+
+    /**
+     * 테넌트별 대기 상태를 포맷팅합니다.
+     */
+    @NotNull
+    private JsonArray formatTenantStatuses(@NotNull List<QueueManager.TenantStatus> tenants) {
+        JsonArray array = new JsonArray();
+        for (QueueManager.TenantStatus tenant : tenants) {
+            JsonObject json = new JsonObject();
+            json.addProperty("tenant", tenant.tenant());
+            json.addProperty("weight", tenant.weight());
+            json.addProperty("queued", tenant.queued());
+            json.addProperty("enqueued", tenant.enqueued());
+            json.addProperty("dispatched", tenant.dispatched());
+            json.addProperty("averageWaitMs", tenant.averageWaitMs());
+            json.addProperty("p95WaitMs", tenant.p95WaitMs());
+            json.addProperty("oldestWaitMs", tenant.oldestWaitMs());
+            array.add(json);
+        }
+        return array;
+    }
+
     /**
      * 방 생성 요청을 처리합니다.
      */
@@ -154,10 +328,12 @@ public class ApiHandler implements RequestHandler {
                 return;
             }
 
-            submitRequestToQueue(exchange, request);
+            submitRequestToQueue(exchange, request, resolveTenant(exchange, request));
 
         } catch (JsonSyntaxException e) {
             responseFormatter.sendErrorResponse(exchange, StatusCodes.BAD_REQUEST, ERROR_JSON_PARSE);
+        } catch (QueueRejectedException e) {
+            sendRejectedResponse(exchange, e);
         } catch (Exception e) {
             responseFormatter.sendErrorResponse(exchange, StatusCodes.INTERNAL_SERVER_ERROR,
                     ERROR_QUEUE_SUBMIT, e, true);
@@ -178,15 +354,41 @@ public class ApiHandler implements RequestHandler {
         return request == null || request.getUuid() == null || request.getUuid().trim().isEmpty();
     }
 
+    /**
+     * 공정 큐의 테넌트 키를 결정합니다.
+     */
+    @NotNull
+    private String resolveTenant(@NotNull HttpServerExchange exchange, RoomCreationRequest request) {
+        return tenantKeyResolver.resolve(request, exchange.getRequestHeaders().getFirst(Headers.AUTHORIZATION));
+    }
+
     /**
      * 요청을 큐에 제출합니다.
      */
-    private void submitRequestToQueue(HttpServerExchange exchange, RoomCreationRequest request) {
-        String ruid = queueManager.submitRequest(request);
+    private void submitRequestToQueue(HttpServerExchange exchange, RoomCreationRequest request, String tenantId) {
+        String ruid = queueManager.submitRequest(request, tenantId);
         JsonObject response = createRoomCreationResponse(ruid);
         responseFormatter.sendSuccessResponse(exchange, StatusCodes.ACCEPTED, response);
     }
 
+    /**
+     * 큐 진입 거부 응답을 전송합니다.
+     * 큐가 가득 차면 503, 예상 대기 시간이 너무 길거나 테넌트 제한에 걸리면 429를 Retry-After 헤더와 함께 반환합니다.
+     */
+    private void sendRejectedResponse(@NotNull HttpServerExchange exchange, @NotNull QueueRejectedException e) {
+        int statusCode = e.getReason() == QueueRejectedException.Reason.QUEUE_FULL ?
+                StatusCodes.SERVICE_UNAVAILABLE : StatusCodes.TOO_MANY_REQUESTS;
+
+        JsonObject response = new JsonObject();
+        response.addProperty("success", false);
+        response.addProperty("error", e.getMessage());
+        response.addProperty(FIELD_REASON, e.getReason().name());
+        response.addProperty(FIELD_RETRY_AFTER, e.getRetryAfterSeconds());
+
+        exchange.getResponseHeaders().put(Headers.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+        responseFormatter.sendJsonResponse(exchange, statusCode, response);
+    }
+
     /**
      * 방 생성 응답을 생성합니다.
      */
@@ -214,19 +416,184 @@ public class ApiHandler implements RequestHandler {
         return responseFormatter.getQueryParam(exchange, FIELD_RUID).orElse(null);
     }
 
+    /**
+     * wait 쿼리 파라미터를 초 단위로 읽습니다.
+     * 없거나 잘못된 값은 0, 상한을 넘는 값은 상한으로 처리합니다.
+     */
+    private int extractWaitSeconds(HttpServerExchange exchange) {
+        return responseFormatter.getQueryParam(exchange, PARAM_WAIT)
+                .map(value -> {
+                    try {
+                        return Math.min(MAX_WAIT_SECONDS, Math.max(0, Integer.parseInt(value.trim())));
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                })
+                .orElse(0);
+    }
+
+    /**
+     * since 쿼리 파라미터로 클라이언트가 이미 받은 결과 버전을 읽습니다.
+     * 없거나 잘못된 값이면 -1을 반환합니다.
+     */
+    private long extractSinceVersion(HttpServerExchange exchange) {
+        return responseFormatter.getQueryParam(exchange, PARAM_SINCE)
+                .map(value -> {
+                    try {
+                        return Long.parseLong(value.trim());
+                    } catch (NumberFormatException e) {
+                        return -1L;
+                    }
+                })
+                .orElse(-1L);
+    }
+
     /**
      * 결과 조회를 처리합니다.
+     * wait가 지정되고 작업이 진행 중이면 작업이 끝나거나 대기 시간이 지날 때까지 응답을 미룹니다.
+     * since도 지정되면 그 버전보다 새로운 부분 결과가 생겼을 때에도 응답합니다.
      */
     private void processResultQuery(HttpServerExchange exchange, String ruid) {
         Optional<JobResultStore.JobState> jobStateOptional = resultStore.getJobState(ruid);
 
+        int waitSeconds = extractWaitSeconds(exchange);
+        long sinceVersion = extractSinceVersion(exchange);
+        if (waitSeconds > 0 && jobStateOptional.isPresent() && shouldWait(jobStateOptional.get(), sinceVersion)) {
+            exchange.dispatch(SameThreadExecutor.INSTANCE, () -> parkUntilFinished(exchange, ruid, waitSeconds, sinceVersion));
+            return;
+        }
+
+        respondWithJobState(exchange, ruid, jobStateOptional);
+    }
+
+    /**
+     * 진행 중이고, since가 지정되었다면 아직 그보다 새로운 버전이 없는지 확인합니다.
+     */
+    private boolean shouldWait(@NotNull JobResultStore.JobState jobState, long sinceVersion) {
+        return isInProgress(jobState.status()) && (sinceVersion < 0 || jobState.version() <= sinceVersion);
+    }
+
+    private boolean isInProgress(@NotNull JobResultStore.Status status) {
+        return status == JobResultStore.Status.QUEUED || status == JobResultStore.Status.PROCESSING;
+    }
+
+    /**
+     * 작업 완료 리스너와 대기 시간 타이머를 걸고 작업 스레드를 점유하지 않은 채 응답을 미룹니다.
+     * sinceVersion이 0 이상이면 그보다 새로운 버전이 생길 때까지만 기다립니다.
+     * 둘 중 먼저 발생한 쪽이 워커 스레드에서 현재 상태로 한 번만 응답합니다.
+     */
+    private void parkUntilFinished(@NotNull HttpServerExchange exchange, String ruid, int waitSeconds, long sinceVersion) {
+        AtomicBoolean answered = new AtomicBoolean();
+        Runnable answer = () -> {
+            if (answered.compareAndSet(false, true)) {
+                exchange.getConnection().getWorker().execute(
+                        () -> respondWithJobState(exchange, ruid, resultStore.getJobState(ruid)));
+            }
+        };
+
+        Runnable unregister = sinceVersion >= 0
+                ? resultStore.addUpdateListener(ruid, sinceVersion, answer)
+                : resultStore.addCompletionListener(ruid, answer);
+        if (unregister == null) {
+            answer.run();
+            return;
+        }
+
+        XnioExecutor.Key timeout = exchange.getIoThread().executeAfter(answer, waitSeconds, TimeUnit.SECONDS);
+        Runnable cleanup = () -> {
+            unregister.run();
+            timeout.remove();
+        };
+        exchange.addExchangeCompleteListener((completed, next) -> {
+            cleanup.run();
+            next.proceed();
+        });
+        exchange.getConnection().addCloseListener(connection -> cleanup.run());
+    }
+
+    /**
+     * 연결된 이벤트 스트림에 작업의 진행 이벤트를 흘려 보냅니다.
+     * 현재 상태와 놓친 이벤트를 먼저 보내고, 작업이 끝나면 최종 상태를 보낸 뒤 스트림을 닫습니다.
+     * 놓친 이벤트는 메타데이터만 담은 요약이며, 시나리오와 스크립트 본문은 부분 결과로 조회합니다.
+     * 전송은 연결의 논블로킹 채널에 쌓아 두는 방식이라 발행 스레드를 막지 않습니다.
+     */
+    private void streamRoomEvents(@NotNull ServerSentEventConnection connection, @Nullable String lastEventId) {
+        String ruid = firstQueryParam(connection, FIELD_RUID);
+        connection.setKeepAliveTime(EVENT_KEEP_ALIVE_MS);
+
+        Optional<JobResultStore.Status> status = resultStore.getJobStatus(ruid);
+        if (status.isEmpty() || !isInProgress(status.get())) {
+            finishEventStream(connection, ruid);
+            return;
+        }
+        sendStatusEvent(connection, ruid, status.get().name());
+
+        Runnable unsubscribe = eventBus.subscribe(ruid, parseEventId(lastEventId),
+                event -> connection.send(event.data().toString(), event.type(), String.valueOf(event.id()), null));
+        Runnable unregister = resultStore.addCompletionListener(ruid, () -> finishEventStream(connection, ruid));
+        if (unregister == null) {
+            unsubscribe.run();
+            finishEventStream(connection, ruid);
+            return;
+        }
+        connection.addCloseTask(closed -> {
+            unsubscribe.run();
+            unregister.run();
+        });
+    }
+
+    /**
+     * 최종 상태 이벤트를 보내고 남은 이벤트를 모두 전송한 뒤 스트림을 닫습니다.
+     */
+    private void finishEventStream(@NotNull ServerSentEventConnection connection, String ruid) {
+        String status = resultStore.getJobStatus(ruid)
+                .map(Enum::name)
+                .orElse(STATUS_NOT_FOUND);
+        sendStatusEvent(connection, ruid, status);
+        connection.shutdown();
+    }
+
+    private void sendStatusEvent(@NotNull ServerSentEventConnection connection, String ruid, String status) {
+        JsonObject data = new JsonObject();
+        data.addProperty(FIELD_RUID, ruid);
+        data.addProperty(FIELD_STATUS, status);
+        connection.send(data.toString(), EVENT_STATUS, null, null);
+    }
+
+    @Nullable
+    private String firstQueryParam(@NotNull ServerSentEventConnection connection, String name) {
+        Deque<String> values = connection.getQueryParameters().get(name);
+        return values != null ? values.peekFirst() : null;
+    }
+
+    /**
+     * Last-Event-ID 값을 읽습니다. 없거나 잘못된 값이면 처음부터 보냅니다.
+     */
+    private long parseEventId(@Nullable String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 조회한 작업 상태로 응답합니다.
+     */
+    private void respondWithJobState(HttpServerExchange exchange, String ruid,
+                                     @NotNull Optional<JobResultStore.JobState> jobStateOptional) {
         if (jobStateOptional.isEmpty()) {
             String errorMessage = String.format(ERROR_JOB_NOT_FOUND, ruid);
             responseFormatter.sendErrorResponse(exchange, StatusCodes.NOT_FOUND, errorMessage);
             return;
         }
 
-        processJobState(exchange, ruid, jobStateOptional.get());
+        JobResultStore.JobState jobState = jobStateOptional.get();
+        exchange.getResponseHeaders().put(HEADER_RESULT_VERSION, jobState.version());
+        processJobState(exchange, ruid, jobState);
     }
 
     /**
@@ -242,9 +609,14 @@ public class ApiHandler implements RequestHandler {
 
     /**
      * 진행 중인 작업에 대한 응답을 전송합니다.
+     * 현재까지의 부분 결과가 있으면 버전과 함께 포함합니다.
      */
     private void sendInProgressResponse(HttpServerExchange exchange, String ruid, @NotNull JobResultStore.JobState jobState) {
         JsonObject statusResponse = createJobStatusResponse(ruid, jobState.status());
+        statusResponse.addProperty(FIELD_VERSION, jobState.version());
+        if (jobState.partial() != null) {
+            statusResponse.add(FIELD_PARTIAL, jobState.partial().toJson());
+        }
         responseFormatter.sendJsonResponse(exchange, StatusCodes.OK, statusResponse);
     }
 
@@ -263,7 +635,7 @@ public class ApiHandler implements RequestHandler {
      * 완료된 작업에 대한 응답을 전송합니다.
      */
     private void sendCompletedResponse(HttpServerExchange exchange, String ruid, @NotNull JobResultStore.JobState jobState) {
-        responseFormatter.sendJsonResponse(exchange, StatusCodes.OK, jobState.result());
+        responseFormatter.sendCompressedJsonResponse(exchange, StatusCodes.OK, jobState.result());
         resultStore.deleteJob(ruid);
         log.info("ruid '{}'에 대한 결과가 전달되고 삭제되었습니다.", ruid);
     }
@@ -272,7 +644,7 @@ public class ApiHandler implements RequestHandler {
      * 실패한 작업에 대한 응답을 전송합니다.
      */
     private void sendFailedResponse(HttpServerExchange exchange, String ruid, @NotNull JobResultStore.JobState jobState) {
-        responseFormatter.sendJsonResponse(exchange, StatusCodes.OK, jobState.result());
+        responseFormatter.sendCompressedJsonResponse(exchange, StatusCodes.OK, jobState.result());
         resultStore.deleteJob(ruid);
         log.warn("ruid '{}'에 대한 실패 결과가 전달되고 삭제되었습니다.", ruid);
     }
@@ -31,4 +31,14 @@ public interface RequestHandler {
      * 방 생성 결과 조회 요청을 처리합니다.
      */
     void handleRoomResult(HttpServerExchange exchange);
+
+    /**
+     * 방 생성 진행 이벤트 스트림 요청을 처리합니다.
+     */
+    void handleRoomEvents(HttpServerExchange exchange);
+
+    /**
+     * 백그라운드 모델 작업 조회 요청을 처리합니다.
+     */
+    void handleModelResult(HttpServerExchange exchange);
 }
\ No newline at end of file
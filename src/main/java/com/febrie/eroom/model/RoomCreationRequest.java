@@ -23,10 +23,16 @@ public class RoomCreationRequest {
     @SerializedName("is_free_modeling")
     private Boolean isFreeModeling;
 
+    private String priority;
+
     public boolean isFreeModeling() {
         return isFreeModeling != null && isFreeModeling;
     }
 
+    public boolean isHighPriority() {
+        return priority != null && "high".equalsIgnoreCase(priority.trim());
+    }
+
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
@@ -11,6 +11,18 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 public class RoomCreationResponse {
+
+    /**
+     * 실패 원인 분류
+     * 큐의 동시 처리 제한기가 상위 서비스 상태를 판단하는 데 사용합니다.
+     */
+    public enum FailureKind {
+        INVALID_REQUEST,
+        RATE_LIMITED,
+        UPSTREAM_ERROR,
+        INTERNAL_ERROR
+    }
+
     private String uuid;
     private String puid;
     private String theme;
@@ -22,4 +34,5 @@ public class RoomCreationResponse {
     private JsonObject modelTracking;
     private boolean success;
     private String errorMessage;
+    private FailureKind failureKind;
 }
\ No newline at end of file
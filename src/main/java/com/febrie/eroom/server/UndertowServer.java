@@ -7,8 +7,13 @@ import com.febrie.eroom.filter.ApiKeyAuthFilter;
 import com.febrie.eroom.handler.ApiHandler;
 import com.febrie.eroom.handler.RequestHandler;
 import com.febrie.eroom.service.JobResultStore;
+import com.febrie.eroom.service.concurrent.ExecutionMode;
+import com.febrie.eroom.service.event.PartialResultRecorder;
+import com.febrie.eroom.service.event.RoomEventBus;
+import com.febrie.eroom.service.journal.JobJournal;
 import com.febrie.eroom.service.queue.QueueManager;
 import com.febrie.eroom.service.queue.RoomRequestQueueManager;
+import com.febrie.eroom.service.queue.TenantKeyResolver;
 import com.febrie.eroom.service.room.RoomService;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -22,12 +27,14 @@ import org.slf4j.LoggerFactory;
 
 public class UndertowServer implements Server {
     private static final Logger log = LoggerFactory.getLogger(UndertowServer.class);
-    private static final int MAX_CONCURRENT_REQUESTS = 1;
+    private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 1;
     private static final String HOST = "0.0.0.0";
 
     private final Undertow server;
     private final QueueManager queueManager;
     private final RoomService roomService;
+    private final JobJournal jobJournal;
+    private final JobResultStore resultStore;
 
     /**
      * UndertowServer 생성자
@@ -39,11 +46,17 @@ public class UndertowServer implements Server {
 
         // 핸심 서비스 생성
         this.roomService = dependencies.serviceFactory().createRoomService();
-        JobResultStore resultStore = new JobResultStore();
-        this.queueManager = new RoomRequestQueueManager(roomService, resultStore, MAX_CONCURRENT_REQUESTS);
+        this.jobJournal = dependencies.serviceFactory().getJobJournal();
+        this.resultStore = JobResultStore.fromConfig(dependencies.configManager().getSection("resultStore"), jobJournal);
+        this.queueManager = createQueueManager(dependencies.configManager(), resultStore);
 
         // 핸들러 생성
-        RequestHandler apiHandler = new ApiHandler(dependencies.gson(), queueManager, resultStore);
+        TenantKeyResolver tenantKeyResolver = TenantKeyResolver.fromConfig(
+                dependencies.configManager().getSection("queue").getSection("fairness"));
+        RoomEventBus eventBus = dependencies.serviceFactory().getRoomEventBus();
+        eventBus.addListener(new PartialResultRecorder(resultStore));
+        RequestHandler apiHandler = new ApiHandler(dependencies.gson(), queueManager, resultStore, roomService,
+                tenantKeyResolver, eventBus, dependencies.serviceFactory().getModelJobTable());
 
         // 서버 빌드
         this.server = buildServer(port, apiHandler, dependencies.authProvider());
@@ -51,6 +64,19 @@ public class UndertowServer implements Server {
         log.info("Undertow 서버가 포트 {}에서 시작 준비 완료", port);
     }
 
+    /**
+     * 실행 설정에 따라 큐 매니저를 생성합니다.
+     */
+    @NotNull
+    private QueueManager createQueueManager(@NotNull ConfigurationManager configManager, JobResultStore resultStore) {
+        ConfigSection execution = configManager.getSection("execution");
+        ExecutionMode mode = ExecutionMode.fromString(execution.getString("mode", "platform"));
+        int maxConcurrentRequests = execution.getInt("maxConcurrentRooms", DEFAULT_MAX_CONCURRENT_REQUESTS);
+
+        return new RoomRequestQueueManager(roomService, resultStore, jobJournal, maxConcurrentRequests, mode,
+                configManager.getSection("queue"));
+    }
+
     /**
      * 의존성들을 초기화합니다.
      */
@@ -88,7 +114,9 @@ public class UndertowServer implements Server {
                 .get("/health", handler::handleHealth)
                 .get("/queue/status", handler::handleQueueStatus)
                 .post("/room/create", handler::handleRoomCreate)
-                .get("/room/result", handler::handleRoomResult);
+                .get("/room/result", handler::handleRoomResult)
+                .get("/room/events", handler::handleRoomEvents)
+                .get("/model/result", handler::handleModelResult);
     }
 
     /**
@@ -111,6 +139,8 @@ public class UndertowServer implements Server {
 
             shutdownQueueManager();
             shutdownRoomService();
+            closeResultStore();
+            closeJobJournal();
             shutdownServer();
 
             log.info("서버가 중지되었습니다");
@@ -139,6 +169,25 @@ public class UndertowServer implements Server {
         }
     }
 
+    /**
+     * 결과 저장소의 만료 타이머를 멈춥니다.
+     */
+    private void closeResultStore() {
+        if (resultStore != null) {
+            resultStore.close();
+        }
+    }
+
+    /**
+     * 작업 저널을 닫습니다.
+     * 작업 처리가 모두 멈춘 뒤에 닫아야 마지막 기록까지 디스크에 반영됩니다.
+     */
+    private void closeJobJournal() {
+        if (jobJournal != null) {
+            jobJournal.close();
+        }
+    }
+
     /**
      * 서버를 종료합니다.
      */
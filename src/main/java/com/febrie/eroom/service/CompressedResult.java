@@ -0,0 +1,156 @@
+package com.febrie.eroom.service;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip으로 압축해 보관하는 JSON 결과
+ * 결과를 Gson 트리 대신 압축된 UTF-8 바이트로 한 번만 저장하고,
+ * gzip을 받는 클라이언트에게는 압축을 풀지 않고 그대로 전송합니다.
+ * 디스크 계층으로 내려간 결과는 바이트 없이 크기만 가진 자리표시자로 남고, 조회할 때 디스크에서 읽어 옵니다.
+ */
+public final class CompressedResult {
+
+    private final ByteBuffer gzip;
+    private final int compressedLength;
+    private final int rawLength;
+
+    private CompressedResult(ByteBuffer gzip, int rawLength) {
+        this.gzip = gzip.asReadOnlyBuffer();
+        this.compressedLength = gzip.remaining();
+        this.rawLength = rawLength;
+    }
+
+    private CompressedResult(int compressedLength, int rawLength) {
+        this.gzip = null;
+        this.compressedLength = compressedLength;
+        this.rawLength = rawLength;
+    }
+
+    /**
+     * 이미 압축된 바이트 영역을 감쌉니다. 영역을 복사하지 않습니다.
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public static CompressedResult wrap(@NotNull ByteBuffer gzip, int rawLength) {
+        return new CompressedResult(gzip, rawLength);
+    }
+
+    /**
+     * 디스크 계층에 있는 결과의 자리표시자를 만듭니다.
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    static CompressedResult spilled(int compressedLength, int rawLength) {
+        return new CompressedResult(compressedLength, rawLength);
+    }
+
+    /**
+     * JSON을 공백 없이 직렬화한 뒤 gzip으로 압축합니다.
+     */
+    @NotNull
+    @Contract("_ -> new")
+    public static CompressedResult of(@NotNull JsonObject json) {
+        byte[] raw = json.toString().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException("결과 압축 실패", e);
+        }
+        return new CompressedResult(ByteBuffer.wrap(buffer.toByteArray()), raw.length);
+    }
+
+    /**
+     * 압축된 바이트를 읽기 전용 버퍼로 반환합니다.
+     */
+    @NotNull
+    public ByteBuffer gzipBuffer() {
+        return bytes().duplicate();
+    }
+
+    /**
+     * 바이트 없이 디스크 계층에 있는 자리표시자인지 확인합니다.
+     */
+    public boolean isSpilled() {
+        return gzip == null;
+    }
+
+    /**
+     * 압축을 푼 UTF-8 바이트를 버퍼로 반환합니다.
+     */
+    @NotNull
+    public ByteBuffer rawBuffer() {
+        return ByteBuffer.wrap(decompress());
+    }
+
+    /**
+     * 압축을 풀어 JSON으로 다시 파싱합니다.
+     */
+    @NotNull
+    public JsonObject toJson() {
+        return JsonParser.parseString(new String(decompress(), StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+
+    public int getCompressedLength() {
+        return compressedLength;
+    }
+
+    public int getRawLength() {
+        return rawLength;
+    }
+
+    @NotNull
+    private ByteBuffer bytes() {
+        if (gzip == null) {
+            throw new IllegalStateException("디스크 계층에 있는 결과는 먼저 읽어 와야 합니다");
+        }
+        return gzip;
+    }
+
+    @NotNull
+    private byte[] decompress() {
+        try (GZIPInputStream input = new GZIPInputStream(new BufferInputStream(bytes().duplicate()))) {
+            return input.readNBytes(rawLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException("결과 압축 해제 실패", e);
+        }
+    }
+
+    /**
+     * 바이트 버퍼를 복사 없이 읽는 입력 스트림
+     */
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte @NotNull [] target, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(target, offset, count);
+            return count;
+        }
+    }
+}
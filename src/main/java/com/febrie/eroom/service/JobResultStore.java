@@ -1,17 +1,35 @@
 package com.febrie.eroom.service;
 
+import com.febrie.eroom.config.ConfigSection;
+import com.febrie.eroom.service.concurrent.HierarchicalTimingWheel;
+import com.febrie.eroom.service.journal.JobJournal;
 import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 
 /**
  * 작업 결과를 저장하고 관리하는 저장소
+ * 상태 변경, 최종 결과, 삭제는 작업 저널에도 기록해 재시작 후 복구할 수 있게 합니다.
+ * 조회되지 않은 결과가 쌓이지 않도록 상태별 보존 시간이 지나면 만료시키고,
+ * 최종 결과의 총 크기가 예산을 넘으면 가장 오래 조회되지 않은 결과부터 제거합니다.
+ * 최종 결과는 gzip으로 압축해 보관하므로 크기 예산도 압축된 크기를 기준으로 합니다.
+ * 디스크 계층이 설정되면 힙에 둔 결과가 메모리 예산을 넘을 때 오래 조회되지 않은 결과부터 디스크 세그먼트로 내려 보냅니다.
+ * 진행 중인 작업은 단계가 끝날 때마다 갱신되는 부분 결과를 가지며, 상태가 바뀔 때마다 버전이 올라갑니다.
  */
-public class JobResultStore {
+public class JobResultStore implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(JobResultStore.class);
 
     /**
      * 작업 상태를 나타내는 열거형
@@ -24,9 +42,15 @@ public class JobResultStore {
     }
 
     /**
-     * 작업 상태와 결과를 포함하는 레코드
+     * 작업 상태와 압축된 결과를 포함하는 레코드
+     * version은 상태, 부분 결과, 최종 결과가 바뀔 때마다 증가하며, partial은 진행 중인 작업의 현재까지 결과입니다.
      */
-    public record JobState(Status status, @Nullable JsonObject result) {
+    public record JobState(Status status, @Nullable CompressedResult result, long version, @Nullable PartialResult partial) {
+
+        @NotNull
+        private JobState withResult(@NotNull CompressedResult relocated) {
+            return new JobState(status, relocated, version, partial);
+        }
     }
 
     // 최종 상태들
@@ -35,14 +59,134 @@ public class JobResultStore {
     // 오류 메시지
     private static final String ERROR_INVALID_FINAL_STATUS = "Final status must be COMPLETED or FAILED.";
 
-    private final Map<String, JobState> jobStore = new ConcurrentHashMap<>();
+    // 설정 키
+    private static final String KEY_TICK_MS = "tickMs";
+    private static final String KEY_WHEEL_SIZE = "wheelSize";
+    private static final String KEY_WHEEL_LEVELS = "wheelLevels";
+    private static final String KEY_MAX_BYTES = "maxBytes";
+    private static final String KEY_TTL_SUFFIX = "TtlMinutes";
+    private static final String KEY_SPILL = "spill";
+    private static final String KEY_ENABLED = "enabled";
+    private static final String KEY_MEMORY_BYTES = "memoryBytes";
+
+    // 기본값
+    private static final long DEFAULT_TICK_MS = 1000;
+    private static final int DEFAULT_WHEEL_SIZE = 64;
+    private static final int DEFAULT_WHEEL_LEVELS = 4;
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+    private static final long DEFAULT_MEMORY_BYTES = 32L * 1024 * 1024;
+    private static final Map<Status, Long> DEFAULT_TTL_MINUTES = Map.of(
+            Status.QUEUED, 0L,
+            Status.PROCESSING, 0L,
+            Status.COMPLETED, 60L,
+            Status.FAILED, 30L);
+
+    private final Map<String, Entry> jobStore = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, List<UpdateListener>> updateListeners = new HashMap<>();
+    private final JobJournal jobJournal;
+    private final Map<Status, Long> ttlMs;
+    private final long maxBytes;
+    private final HierarchicalTimingWheel<String> expiryWheel;
+    private final ScheduledExecutorService expiryTicker;
+    @Nullable
+    private final ResultSpillStore spillStore;
+    private final long memoryBytes;
+    private long totalBytes;
+    private long totalRawBytes;
+    private long heapBytes;
+
+    // 제거 지표
+    private final Map<Status, AtomicLong> expirations = new EnumMap<>(Status.class);
+    private final AtomicLong sizeEvictions = new AtomicLong();
+    private final AtomicLong evictedBytes = new AtomicLong();
+
+    /**
+     * 작업 저널 없이 메모리에만 저장하는 저장소를 생성합니다.
+     */
+    public JobResultStore() {
+        this(JobJournal.disabled());
+    }
+
+    /**
+     * 작업 저널에 변경 사항을 기록하는 저장소를 기본 보존 정책으로 생성합니다.
+     */
+    public JobResultStore(JobJournal jobJournal) {
+        this(jobJournal, toMillis(DEFAULT_TTL_MINUTES), DEFAULT_MAX_BYTES, DEFAULT_TICK_MS, DEFAULT_WHEEL_SIZE,
+                DEFAULT_WHEEL_LEVELS, null, 0);
+    }
+
+    /**
+     * 작업 저널과 보존 정책으로 저장소를 생성합니다.
+     * 보존 시간이 0 이하인 상태는 만료되지 않으며, maxBytes가 0 이하면 크기 제한이 없습니다.
+     * maxBytes는 힙과 디스크 계층을 합친 예산이고, memoryBytes는 그중 힙에 둘 예산입니다.
+     */
+    public JobResultStore(JobJournal jobJournal, @NotNull Map<Status, Long> ttlMs, long maxBytes,
+                          long tickMs, int wheelSize, int wheelLevels,
+                          @Nullable ResultSpillStore spillStore, long memoryBytes) {
+        this.jobJournal = jobJournal;
+        this.ttlMs = new EnumMap<>(ttlMs);
+        this.maxBytes = maxBytes;
+        this.spillStore = spillStore;
+        this.memoryBytes = memoryBytes;
+        this.expiryWheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, wheelLevels, System.currentTimeMillis());
+        for (Status status : Status.values()) {
+            expirations.put(status, new AtomicLong());
+        }
+        this.expiryTicker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-result-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.expiryTicker.scheduleAtFixedRate(this::expireDueEntries, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 설정으로 저장소를 생성합니다.
+     * 상태별 보존 시간은 queuedTtlMinutes, processingTtlMinutes, completedTtlMinutes, failedTtlMinutes 키로 지정합니다.
+     * spill 섹션이 활성화되어 있으면 디스크 계층을 사용합니다.
+     */
+    @NotNull
+    public static JobResultStore fromConfig(@NotNull ConfigSection section, JobJournal jobJournal) {
+        Map<Status, Long> ttlMs = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            long minutes = section.getLong(ttlKey(status), DEFAULT_TTL_MINUTES.get(status));
+            ttlMs.put(status, TimeUnit.MINUTES.toMillis(minutes));
+        }
+        ConfigSection spill = section.getSection(KEY_SPILL);
+        ResultSpillStore spillStore = spill.getBoolean(KEY_ENABLED, false) ? ResultSpillStore.fromConfig(spill) : null;
+        return new JobResultStore(
+                jobJournal,
+                ttlMs,
+                section.getLong(KEY_MAX_BYTES, DEFAULT_MAX_BYTES),
+                section.getLong(KEY_TICK_MS, DEFAULT_TICK_MS),
+                section.getInt(KEY_WHEEL_SIZE, DEFAULT_WHEEL_SIZE),
+                section.getInt(KEY_WHEEL_LEVELS, DEFAULT_WHEEL_LEVELS),
+                spillStore,
+                spill.getLong(KEY_MEMORY_BYTES, DEFAULT_MEMORY_BYTES)
+        );
+    }
+
+    @NotNull
+    private static String ttlKey(@NotNull Status status) {
+        return status.name().toLowerCase(Locale.ROOT) + KEY_TTL_SUFFIX;
+    }
+
+    @NotNull
+    private static Map<Status, Long> toMillis(@NotNull Map<Status, Long> minutes) {
+        Map<Status, Long> millis = new EnumMap<>(Status.class);
+        minutes.forEach((status, value) -> millis.put(status, TimeUnit.MINUTES.toMillis(value)));
+        return millis;
+    }
 
     /**
      * 새 작업을 등록합니다.
      * 초기 상태는 QUEUED로 설정됩니다.
+     * 접수 기록은 요청 내용과 함께 큐 매니저가 저널에 남깁니다.
      */
     public void registerJob(String trackingId) {
-        jobStore.put(trackingId, new JobState(Status.QUEUED, null));
+        synchronized (jobStore) {
+            putEntry(trackingId, new JobState(Status.QUEUED, null, nextVersion(trackingId), null), 0);
+        }
     }
 
     /**
@@ -50,9 +194,39 @@ public class JobResultStore {
      * 기존 작업이 존재하는 경우에만 상태를 변경합니다.
      */
     public void updateJobStatus(String trackingId, Status status) {
-        jobStore.computeIfPresent(trackingId, (key, oldState) ->
-                new JobState(status, oldState.result())
-        );
+        List<Runnable> listeners;
+        synchronized (jobStore) {
+            Entry entry = jobStore.get(trackingId);
+            if (entry == null) {
+                return;
+            }
+            JobState current = entry.state;
+            putEntry(trackingId, new JobState(status, current.result(), current.version() + 1, current.partial()), entry.bytes);
+            listeners = takeUpdateListeners(trackingId, current.version() + 1);
+        }
+        jobJournal.recordStatus(trackingId, status);
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * 진행 중인 작업의 부분 결과를 갱신하고 버전을 올립니다.
+     * 부분 결과는 바뀌지 않는 값이므로 이미 조회된 상태는 갱신의 영향을 받지 않습니다.
+     * 부분 결과는 저널에 기록하지 않으며, 재시작 후에는 단계 체크포인트로 이어서 진행하며 다시 채워집니다.
+     * 작업이 없거나 이미 끝났으면 무시합니다.
+     */
+    public void updatePartialResult(String trackingId, @NotNull UnaryOperator<PartialResult> update) {
+        List<Runnable> listeners;
+        synchronized (jobStore) {
+            Entry entry = jobStore.get(trackingId);
+            if (entry == null || FINAL_STATUSES.contains(entry.state.status())) {
+                return;
+            }
+            JobState current = entry.state;
+            PartialResult partial = update.apply(current.partial() != null ? current.partial() : PartialResult.EMPTY);
+            entry.state = new JobState(current.status(), current.result(), current.version() + 1, partial);
+            listeners = takeUpdateListeners(trackingId, entry.state.version());
+        }
+        listeners.forEach(Runnable::run);
     }
 
     /**
@@ -60,8 +234,100 @@ public class JobResultStore {
      * 상태는 반드시 COMPLETED 또는 FAILED여야 합니다.
      */
     public void storeFinalResult(String trackingId, JsonObject result, Status finalStatus) {
+        CompressedResult compressed = CompressedResult.of(result);
+        restoreFinalResult(trackingId, compressed, finalStatus);
+        jobJournal.recordResult(trackingId, finalStatus, compressed);
+    }
+
+    /**
+     * 저널에서 복구한 최종 결과를 저널에 다시 기록하지 않고 저장합니다.
+     */
+    public void restoreFinalResult(String trackingId, CompressedResult compressed, Status finalStatus) {
         validateFinalStatus(finalStatus);
-        jobStore.put(trackingId, new JobState(finalStatus, result));
+        List<String> evicted;
+        List<Runnable> listeners;
+        synchronized (jobStore) {
+            putEntry(trackingId, new JobState(finalStatus, compressed, nextVersion(trackingId), null),
+                    compressed.getCompressedLength());
+            evicted = evictOverBudget(trackingId);
+            spillOverMemoryBudget(trackingId);
+            listeners = takeAllUpdateListeners(trackingId);
+        }
+        evicted.forEach(jobJournal::recordDeleted);
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * 작업이 끝나거나 사라질 때 한 번 호출될 리스너를 등록합니다.
+     * 작업이 없거나 이미 최종 상태면 등록하지 않고 null을 반환하며, 등록되면 등록을 취소하는 동작을 반환합니다.
+     * 리스너는 결과를 저장한 스레드에서 호출되므로 바로 반환해야 합니다.
+     */
+    @Nullable
+    public Runnable addCompletionListener(String trackingId, @NotNull Runnable listener) {
+        return addUpdateListener(trackingId, Long.MAX_VALUE, listener);
+    }
+
+    /**
+     * 작업 버전이 afterVersion보다 커지거나 작업이 끝나거나 사라질 때 한 번 호출될 리스너를 등록합니다.
+     * 작업이 없거나 이미 최종 상태이거나 버전이 이미 afterVersion보다 크면 등록하지 않고 null을 반환합니다.
+     */
+    @Nullable
+    public Runnable addUpdateListener(String trackingId, long afterVersion, @NotNull Runnable listener) {
+        UpdateListener registered = new UpdateListener(afterVersion, listener);
+        synchronized (jobStore) {
+            Entry entry = jobStore.get(trackingId);
+            if (entry == null || FINAL_STATUSES.contains(entry.state.status()) || entry.state.version() > afterVersion) {
+                return null;
+            }
+            updateListeners.computeIfAbsent(trackingId, key -> new ArrayList<>(1)).add(registered);
+        }
+        return () -> removeUpdateListener(trackingId, registered);
+    }
+
+    private void removeUpdateListener(String trackingId, @NotNull UpdateListener listener) {
+        synchronized (jobStore) {
+            List<UpdateListener> listeners = updateListeners.get(trackingId);
+            if (listeners != null && listeners.remove(listener) && listeners.isEmpty()) {
+                updateListeners.remove(trackingId);
+            }
+        }
+    }
+
+    /**
+     * 작업이 끝나거나 사라져 모든 리스너를 꺼냅니다.
+     */
+    @NotNull
+    private List<Runnable> takeAllUpdateListeners(String trackingId) {
+        List<UpdateListener> listeners = updateListeners.remove(trackingId);
+        return listeners != null ? listeners.stream().map(UpdateListener::action).toList() : List.of();
+    }
+
+    /**
+     * 새 버전을 기다리던 리스너들을 꺼냅니다.
+     */
+    @NotNull
+    private List<Runnable> takeUpdateListeners(String trackingId, long version) {
+        List<UpdateListener> listeners = updateListeners.get(trackingId);
+        if (listeners == null) {
+            return List.of();
+        }
+        List<Runnable> due = new ArrayList<>();
+        listeners.removeIf(listener -> {
+            if (listener.afterVersion() < version) {
+                due.add(listener.action());
+                return true;
+            }
+            return false;
+        });
+        if (listeners.isEmpty()) {
+            updateListeners.remove(trackingId);
+        }
+        return due;
+    }
+
+    private long nextVersion(String trackingId) {
+        Entry entry = jobStore.get(trackingId);
+        return entry != null ? entry.state.version() + 1 : 1;
     }
 
     /**
@@ -75,16 +341,309 @@ public class JobResultStore {
 
     /**
      * 작업 상태를 조회합니다.
-     * 존재하지 않는 경우 빈 Optional을 반환합니다.
+     * 존재하지 않는 경우 빈 Optional을 반환하며, 디스크 계층에 있는 결과는 힙으로 읽어 온 상태를 반환합니다.
+     * 디스크 읽기는 잠금 밖에서 하므로 I/O 스레드가 아닌 곳에서 호출해야 합니다.
      */
     public Optional<JobState> getJobState(String trackingId) {
-        return Optional.ofNullable(jobStore.get(trackingId));
+        while (true) {
+            JobState state;
+            ResultSpillStore.Location location;
+            synchronized (jobStore) {
+                Entry entry = jobStore.get(trackingId);
+                if (entry == null) {
+                    return Optional.empty();
+                }
+                if (!entry.isSpilled() || spillStore == null) {
+                    return Optional.of(entry.state);
+                }
+                state = entry.state;
+                location = spillStore.locate(trackingId);
+            }
+
+            try {
+                return Optional.of(state.withResult(location.read()));
+            } catch (ClosedChannelException e) {
+                // 읽는 사이 세그먼트가 압축되거나 지워졌으므로 위치를 다시 찾습니다
+            } catch (IOException e) {
+                throw new UncheckedIOException("결과 세그먼트 읽기 실패: " + trackingId, e);
+            }
+        }
+    }
+
+    /**
+     * 작업의 현재 상태만 조회합니다.
+     * 디스크 계층의 결과를 읽지 않으므로 I/O 스레드에서 호출해도 됩니다.
+     */
+    public Optional<Status> getJobStatus(String trackingId) {
+        synchronized (jobStore) {
+            Entry entry = jobStore.get(trackingId);
+            return entry == null ? Optional.empty() : Optional.of(entry.state.status());
+        }
     }
 
     /**
      * 작업을 삭제합니다.
      */
     public void deleteJob(String trackingId) {
-        jobStore.remove(trackingId);
+        boolean removed;
+        List<Runnable> listeners;
+        synchronized (jobStore) {
+            removed = removeEntry(trackingId) != null;
+            listeners = takeAllUpdateListeners(trackingId);
+        }
+        if (removed) {
+            jobJournal.recordDeleted(trackingId);
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    /**
+     * 보존 현황과 제거 지표를 반환합니다.
+     */
+    @NotNull
+    public JsonObject getStats() {
+        JsonObject stats = new JsonObject();
+        synchronized (jobStore) {
+            stats.addProperty("entries", jobStore.size());
+            stats.addProperty("bytes", totalBytes);
+            stats.addProperty("uncompressedBytes", totalRawBytes);
+        }
+        stats.addProperty("maxBytes", maxBytes);
+        stats.addProperty("scheduledExpirations", expiryWheel.size());
+        if (spillStore != null) {
+            synchronized (jobStore) {
+                stats.addProperty("heapBytes", heapBytes);
+                stats.add("spill", spillStore.getStats());
+            }
+            stats.addProperty("memoryBytes", memoryBytes);
+        }
+
+        JsonObject expired = new JsonObject();
+        expirations.forEach((status, count) -> expired.addProperty(status.name(), count.get()));
+        stats.add("expired", expired);
+        stats.addProperty("sizeEvictions", sizeEvictions.get());
+        stats.addProperty("evictedBytes", evictedBytes.get());
+        return stats;
+    }
+
+    /**
+     * 만료 타이머를 멈추고 디스크 계층의 세그먼트를 정리합니다.
+     */
+    @Override
+    public void close() {
+        expiryTicker.shutdownNow();
+        if (spillStore != null) {
+            synchronized (jobStore) {
+                spillStore.close();
+            }
+        }
+    }
+
+    /**
+     * 항목을 저장하고 새 상태의 보존 시간으로 만료를 다시 예약합니다.
+     */
+    private void putEntry(String trackingId, @NotNull JobState state, long bytes) {
+        Entry previous = jobStore.get(trackingId);
+        if (previous != null) {
+            cancelExpiry(previous);
+            totalBytes -= previous.bytes;
+            totalRawBytes -= previous.rawBytes();
+            heapBytes -= previous.heapBytes();
+            if (previous.isSpilled() && previous.state.result() != state.result()) {
+                releaseSpilled(trackingId);
+            }
+        }
+        Entry entry = new Entry(state, bytes);
+        long ttl = ttlMs.getOrDefault(state.status(), 0L);
+        if (ttl > 0) {
+            entry.expiry = expiryWheel.schedule(trackingId, System.currentTimeMillis() + ttl);
+        }
+        jobStore.put(trackingId, entry);
+        totalBytes += bytes;
+        totalRawBytes += entry.rawBytes();
+        heapBytes += entry.heapBytes();
+    }
+
+    @Nullable
+    private Entry removeEntry(String trackingId) {
+        Entry removed = jobStore.remove(trackingId);
+        if (removed != null) {
+            cancelExpiry(removed);
+            totalBytes -= removed.bytes;
+            totalRawBytes -= removed.rawBytes();
+            heapBytes -= removed.heapBytes();
+            if (removed.isSpilled()) {
+                releaseSpilled(trackingId);
+            }
+        }
+        return removed;
+    }
+
+    private void releaseSpilled(String trackingId) {
+        if (spillStore != null) {
+            spillStore.release(trackingId);
+        }
+    }
+
+    /**
+     * 힙에 둔 결과가 메모리 예산을 넘으면 가장 오래 조회되지 않은 결과부터 디스크 계층으로 내려 보냅니다.
+     * 방금 저장한 결과는 곧 조회될 가능성이 높으므로 힙에 남깁니다.
+     */
+    private void spillOverMemoryBudget(String justStored) {
+        if (spillStore == null || heapBytes <= memoryBytes) {
+            return;
+        }
+        for (Map.Entry<String, Entry> candidate : jobStore.entrySet()) {
+            if (heapBytes <= memoryBytes) {
+                break;
+            }
+            Entry entry = candidate.getValue();
+            if (entry.heapBytes() == 0 || candidate.getKey().equals(justStored)) {
+                continue;
+            }
+            CompressedResult spilled = spillStore.spill(candidate.getKey(), entry.state.result());
+            if (spilled != null) {
+                heapBytes -= entry.heapBytes();
+                entry.state = entry.state.withResult(spilled);
+            }
+        }
+    }
+
+    /**
+     * 삭제된 결과가 많은 디스크 세그먼트를 압축합니다.
+     * 활성 세그먼트로 옮기지 못한 결과는 힙으로 되돌리며, 조회 순서가 바뀌지 않도록 항목을 순회하며 갱신합니다.
+     */
+    private void compactSpilledResults() {
+        if (spillStore == null) {
+            return;
+        }
+        synchronized (jobStore) {
+            Map<String, CompressedResult> unmoved = spillStore.compact();
+            if (unmoved.isEmpty()) {
+                return;
+            }
+            for (Map.Entry<String, Entry> candidate : jobStore.entrySet()) {
+                CompressedResult relocated = unmoved.get(candidate.getKey());
+                if (relocated != null) {
+                    Entry entry = candidate.getValue();
+                    heapBytes -= entry.heapBytes();
+                    entry.state = entry.state.withResult(relocated);
+                    heapBytes += entry.heapBytes();
+                }
+            }
+        }
+    }
+
+    private void cancelExpiry(@NotNull Entry entry) {
+        if (entry.expiry != null) {
+            entry.expiry.cancel();
+            entry.expiry = null;
+        }
+    }
+
+    /**
+     * 최종 결과의 총 크기가 예산을 넘으면 가장 오래 조회되지 않은 결과부터 제거합니다.
+     * 진행 중인 작업과 방금 저장한 결과는 제거하지 않습니다.
+     */
+    @NotNull
+    private List<String> evictOverBudget(String justStored) {
+        if (maxBytes <= 0 || totalBytes <= maxBytes) {
+            return List.of();
+        }
+        List<String> victims = new ArrayList<>();
+        long excess = totalBytes - maxBytes;
+        for (Map.Entry<String, Entry> candidate : jobStore.entrySet()) {
+            if (excess <= 0) {
+                break;
+            }
+            Entry entry = candidate.getValue();
+            if (entry.state.result() == null || candidate.getKey().equals(justStored)) {
+                continue;
+            }
+            victims.add(candidate.getKey());
+            excess -= entry.bytes;
+        }
+        for (String victim : victims) {
+            Entry removed = removeEntry(victim);
+            if (removed != null) {
+                sizeEvictions.incrementAndGet();
+                evictedBytes.addAndGet(removed.bytes);
+            }
+        }
+        if (!victims.isEmpty()) {
+            log.info("결과 저장소 크기 예산 초과로 {}개 결과 제거 - bytes: {}, maxBytes: {}", victims.size(), totalBytes, maxBytes);
+        }
+        return victims;
+    }
+
+    /**
+     * 보존 시간이 지난 항목들을 제거합니다.
+     * 예약 이후 상태가 바뀐 항목은 새 예약을 따르므로 건너뜁니다.
+     */
+    private void expireDueEntries() {
+        try {
+            compactSpilledResults();
+            List<HierarchicalTimingWheel.Timeout<String>> due = expiryWheel.advance(System.currentTimeMillis());
+            if (due.isEmpty()) {
+                return;
+            }
+            List<String> expired = new ArrayList<>();
+            List<Runnable> listeners = new ArrayList<>();
+            synchronized (jobStore) {
+                for (HierarchicalTimingWheel.Timeout<String> timeout : due) {
+                    String trackingId = timeout.getItem();
+                    Entry entry = jobStore.get(trackingId);
+                    if (entry == null || entry.expiry != timeout) {
+                        continue;
+                    }
+                    entry.expiry = null;
+                    removeEntry(trackingId);
+                    expirations.get(entry.state.status()).incrementAndGet();
+                    expired.add(trackingId);
+                    listeners.addAll(takeAllUpdateListeners(trackingId));
+                }
+            }
+            expired.forEach(jobJournal::recordDeleted);
+            listeners.forEach(Runnable::run);
+            if (!expired.isEmpty()) {
+                log.info("보존 시간이 지난 작업 결과 {}개 만료", expired.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("작업 결과 만료 처리 중 오류", e);
+        }
+    }
+
+    /**
+     * 버전 변경을 기다리는 리스너
+     * 작업이 끝나는 것만 기다리는 리스너는 afterVersion이 Long.MAX_VALUE입니다.
+     */
+    private record UpdateListener(long afterVersion, Runnable action) {
+    }
+
+    /**
+     * 저장된 작업 상태와 보존 관리 정보
+     * 디스크 계층으로 내려가면 state의 결과가 자리표시자로 바뀌고, 조회할 때 디스크에서 읽어 옵니다.
+     */
+    private static final class Entry {
+        private JobState state;
+        private final long bytes;
+        private HierarchicalTimingWheel.Timeout<String> expiry;
+
+        private Entry(JobState state, long bytes) {
+            this.state = state;
+            this.bytes = bytes;
+        }
+
+        private long rawBytes() {
+            return state.result() != null ? state.result().getRawLength() : 0;
+        }
+
+        private boolean isSpilled() {
+            return state.result() != null && state.result().isSpilled();
+        }
+
+        private long heapBytes() {
+            return state.result() != null && !state.result().isSpilled() ? bytes : 0;
+        }
     }
-}
\ No newline at end of file
+}
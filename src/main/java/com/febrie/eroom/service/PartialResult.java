@@ -0,0 +1,81 @@
+package com.febrie.eroom.service;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 진행 중인 작업의 부분 결과
+ * 단계별 조각을 바꾸지 않는 값으로 보관하고, 조회할 때 JSON 스냅샷을 만듭니다.
+ * 갱신은 바뀐 필드나 그룹의 맵만 새로 만들고 나머지 조각은 그대로 공유하므로, 이벤트마다 전체를 복사하지 않습니다.
+ * 필드는 시나리오처럼 하나의 값이고, 그룹은 스크립트나 모델처럼 이름별 값의 모음입니다.
+ */
+public final class PartialResult {
+
+    public static final PartialResult EMPTY = new PartialResult(Map.of(), Map.of());
+
+    private final Map<String, JsonElement> fields;
+    private final Map<String, Map<String, JsonElement>> groups;
+
+    private PartialResult(Map<String, JsonElement> fields, Map<String, Map<String, JsonElement>> groups) {
+        this.fields = fields;
+        this.groups = groups;
+    }
+
+    /**
+     * 필드 하나를 바꾼 부분 결과를 반환합니다.
+     * 값은 복사해 보관하므로 호출자가 이후에 수정해도 영향을 받지 않습니다.
+     */
+    @NotNull
+    @Contract("_, _ -> new")
+    public PartialResult withField(@NotNull String field, @NotNull JsonElement value) {
+        Map<String, JsonElement> updated = new LinkedHashMap<>(fields);
+        updated.put(field, value.deepCopy());
+        return new PartialResult(Collections.unmodifiableMap(updated), groups);
+    }
+
+    /**
+     * 그룹에 이름별 값을 더한 부분 결과를 반환합니다.
+     * 같은 이름의 값은 교체하며, 다른 그룹은 그대로 공유합니다.
+     */
+    @NotNull
+    public PartialResult withMembers(@NotNull String group, @NotNull Map<String, ? extends JsonElement> members) {
+        if (members.isEmpty()) {
+            return this;
+        }
+        Map<String, JsonElement> updatedGroup = new LinkedHashMap<>(groups.getOrDefault(group, Map.of()));
+        members.forEach((name, value) -> updatedGroup.put(name, value.deepCopy()));
+        Map<String, Map<String, JsonElement>> updated = new LinkedHashMap<>(groups);
+        updated.put(group, Collections.unmodifiableMap(updatedGroup));
+        return new PartialResult(fields, Collections.unmodifiableMap(updated));
+    }
+
+    /**
+     * 그룹의 값 하나를 바꾼 부분 결과를 반환합니다.
+     */
+    @NotNull
+    public PartialResult withMember(@NotNull String group, @NotNull String name, @NotNull JsonElement value) {
+        return withMembers(group, Map.of(name, value));
+    }
+
+    /**
+     * 현재 조각들로 JSON 스냅샷을 만듭니다.
+     * 조각은 새 객체에 복사해 넣으므로 반환된 JSON을 수정해도 부분 결과는 바뀌지 않습니다.
+     */
+    @NotNull
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        fields.forEach((field, value) -> json.add(field, value.deepCopy()));
+        groups.forEach((group, members) -> {
+            JsonObject object = new JsonObject();
+            members.forEach((name, value) -> object.add(name, value.deepCopy()));
+            json.add(group, object);
+        });
+        return json;
+    }
+}
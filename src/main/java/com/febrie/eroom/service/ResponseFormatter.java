@@ -3,12 +3,14 @@ package com.febrie.eroom.service;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.StatusCodes;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -21,6 +23,7 @@ public class ResponseFormatter {
     private static final String ERROR_KEY = "error";
     private static final String MESSAGE_KEY = "message";
     private static final String TIMESTAMP_KEY = "timestamp";
+    private static final String ENCODING_GZIP = "gzip";
 
     private final Gson gson;
 
@@ -46,6 +49,66 @@ public class ResponseFormatter {
         }
     }
 
+    /**
+     * 압축 보관된 JSON 결과를 전송합니다.
+     * 클라이언트가 gzip을 받으면 저장된 바이트를 그대로 보내고, 아니면 압축을 풀어 보냅니다.
+     */
+    public void sendCompressedJsonResponse(HttpServerExchange exchange, int statusCode, CompressedResult body) {
+        if (body == null) {
+            sendEmptyResponse(exchange, statusCode);
+            return;
+        }
+        if (exchange.isResponseStarted()) {
+            return;
+        }
+
+        prepareJsonResponse(exchange, statusCode);
+        exchange.getResponseHeaders().put(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+        if (acceptsGzip(exchange)) {
+            exchange.getResponseHeaders().put(Headers.CONTENT_ENCODING, ENCODING_GZIP);
+            exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, body.getCompressedLength());
+            exchange.getResponseSender().send(body.gzipBuffer());
+        } else {
+            exchange.getResponseHeaders().put(Headers.CONTENT_LENGTH, body.getRawLength());
+            exchange.getResponseSender().send(body.rawBuffer());
+        }
+    }
+
+    /**
+     * Accept-Encoding 헤더가 gzip을 허용하는지 확인합니다.
+     * q=0으로 명시적으로 거부한 경우는 허용하지 않는 것으로 봅니다.
+     */
+    private boolean acceptsGzip(@NotNull HttpServerExchange exchange) {
+        HeaderValues headers = exchange.getRequestHeaders().get(Headers.ACCEPT_ENCODING);
+        if (headers == null) {
+            return false;
+        }
+        for (String header : headers) {
+            for (String coding : header.split(",")) {
+                String[] parts = coding.trim().split(";");
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                if ((name.equals(ENCODING_GZIP) || name.equals("*")) && !isZeroQuality(parts)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isZeroQuality(String @NotNull [] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) == 0.0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * 빈 응답을 전송합니다.
      */
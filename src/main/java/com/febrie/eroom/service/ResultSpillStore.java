@@ -0,0 +1,327 @@
+package com.febrie.eroom.service;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * 세그먼트 파일에 압축 결과를 내려 두는 디스크 계층
+ * 결과는 추가 전용 세그먼트 파일에 이어 쓰고 RUID별 오프셋 색인으로 찾으며,
+ * 읽을 때마다 위치 지정 읽기로 힙 버퍼에 한 번 복사합니다.
+ * 메모리 매핑을 쓰지 않으므로 세그먼트는 채널을 닫은 뒤 바로 지울 수 있고, 이미 읽어 간 결과는 영향을 받지 않습니다.
+ * 삭제된 결과가 많아진 세그먼트는 살아 있는 결과만 활성 세그먼트로 옮긴 뒤 지웁니다.
+ * 작업 결과의 영속성은 작업 저널이 담당하므로 시작할 때 이전 세그먼트 파일은 모두 지웁니다.
+ * 스레드 안전하지 않으며 호출자가 동기화해야 합니다.
+ * 단, locate로 얻은 위치의 읽기는 위치 지정 읽기이므로 잠금 밖에서 해도 됩니다.
+ */
+public class ResultSpillStore implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ResultSpillStore.class);
+
+    // 설정 키
+    private static final String KEY_DIRECTORY = "directory";
+    private static final String KEY_SEGMENT_BYTES = "segmentBytes";
+    private static final String KEY_COMPACTION_RATIO = "compactionRatio";
+
+    // 기본값
+    private static final String DEFAULT_DIRECTORY = "data/results";
+    private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final double DEFAULT_COMPACTION_RATIO = 0.5;
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final double compactionRatio;
+    private final Map<String, Location> index = new HashMap<>();
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private long nextSegmentId;
+
+    // 지표
+    private long spills;
+    private long compactions;
+    private long reclaimedBytes;
+
+    /**
+     * ResultSpillStore 생성자
+     */
+    public ResultSpillStore(@NotNull Path directory, long segmentBytes, double compactionRatio) {
+        this.directory = directory;
+        this.segmentBytes = (int) Math.min(Integer.MAX_VALUE, Math.max(1024, segmentBytes));
+        this.compactionRatio = compactionRatio;
+        try {
+            Files.createDirectories(directory);
+            deleteLeftoverSegments();
+        } catch (IOException e) {
+            throw new UncheckedIOException("결과 세그먼트 디렉토리 준비 실패: " + directory, e);
+        }
+    }
+
+    /**
+     * 설정으로 디스크 계층을 생성합니다.
+     */
+    @NotNull
+    public static ResultSpillStore fromConfig(@NotNull ConfigSection section) {
+        return new ResultSpillStore(
+                Paths.get(section.getString(KEY_DIRECTORY, DEFAULT_DIRECTORY)),
+                section.getLong(KEY_SEGMENT_BYTES, DEFAULT_SEGMENT_BYTES),
+                section.getDouble(KEY_COMPACTION_RATIO, DEFAULT_COMPACTION_RATIO)
+        );
+    }
+
+    /**
+     * 결과를 활성 세그먼트에 쓰고 바이트 없이 크기만 가진 자리표시자를 반환합니다.
+     * 세그먼트보다 크거나 쓰기에 실패하면 null을 반환하며, 이때 결과는 메모리에 남겨야 합니다.
+     */
+    @Nullable
+    public CompressedResult spill(@NotNull String ruid, @NotNull CompressedResult result) {
+        Location location = append(ruid, result);
+        if (location == null) {
+            return null;
+        }
+        spills++;
+        return CompressedResult.spilled(location.length(), location.rawLength());
+    }
+
+    /**
+     * 내려 둔 결과의 위치를 찾습니다.
+     * 세그먼트는 추가 전용이라 위치의 바이트는 바뀌지 않지만, 세그먼트가 압축되거나 지워지면
+     * 읽기가 ClosedChannelException으로 실패하므로 그때는 위치를 다시 찾아야 합니다.
+     */
+    @NotNull
+    Location locate(@NotNull String ruid) {
+        Location location = index.get(ruid);
+        if (location == null) {
+            throw new IllegalStateException("디스크 계층에 결과가 없습니다: " + ruid);
+        }
+        return location;
+    }
+
+    /**
+     * 내려 둔 결과를 더 이상 쓰지 않는 것으로 표시합니다.
+     * 비활성 세그먼트에 살아 있는 결과가 없으면 바로 지웁니다.
+     */
+    public void release(@NotNull String ruid) {
+        Location location = index.remove(ruid);
+        if (location == null) {
+            return;
+        }
+        Segment segment = location.segment();
+        segment.liveBytes -= location.length();
+        if (segment != active && segment.liveBytes == 0) {
+            deleteSegment(segment);
+        }
+    }
+
+    /**
+     * 삭제된 결과의 비율이 기준을 넘은 비활성 세그먼트 하나를 압축합니다.
+     * 살아 있는 결과는 활성 세그먼트로 옮기고, 옮기지 못한 결과는 힙으로 읽어 RUID별로 반환합니다.
+     * 옮겨진 결과의 자리표시자는 크기가 같으므로 호출자가 바꿀 필요가 없습니다.
+     */
+    @NotNull
+    public Map<String, CompressedResult> compact() {
+        Segment victim = findCompactionCandidate();
+        if (victim == null) {
+            return Map.of();
+        }
+
+        Map<String, CompressedResult> unmoved = new HashMap<>();
+        List<Map.Entry<String, Location>> live = index.entrySet().stream()
+                .filter(entry -> entry.getValue().segment() == victim)
+                .toList();
+        reclaimedBytes += victim.writePosition - victim.liveBytes;
+        for (Map.Entry<String, Location> entry : live) {
+            CompressedResult current;
+            try {
+                current = entry.getValue().read();
+            } catch (IOException e) {
+                log.warn("결과 세그먼트 {} 압축 중단 - {}", victim.id, e.getMessage());
+                return unmoved;
+            }
+            index.remove(entry.getKey());
+            victim.liveBytes -= entry.getValue().length();
+            if (append(entry.getKey(), current) == null) {
+                unmoved.put(entry.getKey(), current);
+            }
+        }
+        compactions++;
+        deleteSegment(victim);
+        log.debug("결과 세그먼트 {} 압축 - moved: {}, unmoved: {}", victim.id, live.size() - unmoved.size(), unmoved.size());
+        return unmoved;
+    }
+
+    /**
+     * 디스크 계층 지표를 반환합니다.
+     */
+    @NotNull
+    public JsonObject getStats() {
+        long diskBytes = 0;
+        long liveBytes = 0;
+        for (Segment segment : segments.values()) {
+            diskBytes += segment.writePosition;
+            liveBytes += segment.liveBytes;
+        }
+        JsonObject stats = new JsonObject();
+        stats.addProperty("segments", segments.size());
+        stats.addProperty("entries", index.size());
+        stats.addProperty("diskBytes", diskBytes);
+        stats.addProperty("liveBytes", liveBytes);
+        stats.addProperty("spills", spills);
+        stats.addProperty("compactions", compactions);
+        stats.addProperty("reclaimedBytes", reclaimedBytes);
+        return stats;
+    }
+
+    /**
+     * 모든 세그먼트를 닫고 지웁니다.
+     */
+    @Override
+    public void close() {
+        new ArrayList<>(segments.values()).forEach(this::deleteSegment);
+        index.clear();
+        active = null;
+    }
+
+    @Nullable
+    private Location append(@NotNull String ruid, @NotNull CompressedResult result) {
+        int length = result.getCompressedLength();
+        if (length > segmentBytes) {
+            return null;
+        }
+        try {
+            if (active == null || active.remaining() < length) {
+                Segment previous = active;
+                active = openSegment();
+                if (previous != null && previous.liveBytes == 0) {
+                    deleteSegment(previous);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("결과 세그먼트 생성 실패: {}", e.getMessage());
+            return null;
+        }
+
+        int offset = active.writePosition;
+        try {
+            ByteBuffer source = result.gzipBuffer();
+            long position = offset;
+            while (source.hasRemaining()) {
+                position += active.channel.write(source, position);
+            }
+        } catch (IOException e) {
+            log.warn("결과 세그먼트 쓰기 실패: {}", e.getMessage());
+            return null;
+        }
+        active.writePosition += length;
+        active.liveBytes += length;
+
+        Location location = new Location(active, offset, length, result.getRawLength());
+        index.put(ruid, location);
+        return location;
+    }
+
+    @Nullable
+    private Segment findCompactionCandidate() {
+        for (Segment segment : segments.values()) {
+            if (segment == active || segment.writePosition == 0) {
+                continue;
+            }
+            double deadRatio = 1.0 - (double) segment.liveBytes / segment.writePosition;
+            if (deadRatio >= compactionRatio) {
+                return segment;
+            }
+        }
+        return null;
+    }
+
+    @NotNull
+    private Segment openSegment() throws IOException {
+        long id = nextSegmentId++;
+        Path path = directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Segment segment = new Segment(id, path, channel, segmentBytes);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * 세그먼트 채널을 닫고 파일을 지웁니다.
+     * 읽어 간 결과는 힙 복사본이므로 진행 중인 응답은 영향을 받지 않습니다.
+     */
+    private void deleteSegment(@NotNull Segment segment) {
+        segments.remove(segment.id);
+        if (segment == active) {
+            active = null;
+        }
+        try {
+            segment.channel.close();
+            Files.deleteIfExists(segment.path);
+        } catch (IOException e) {
+            log.warn("결과 세그먼트 삭제 실패: {} - {}", segment.path, e.getMessage());
+        }
+    }
+
+    private void deleteLeftoverSegments() throws IOException {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path path : stream) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 안의 결과 위치
+     */
+    record Location(Segment segment, int offset, int length, int rawLength) {
+        /**
+         * 결과를 힙 버퍼로 읽어 옵니다.
+         */
+        @NotNull
+        CompressedResult read() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            long position = offset;
+            while (buffer.hasRemaining()) {
+                int read = segment.channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("세그먼트가 예상보다 짧습니다: " + segment.path);
+                }
+                position += read;
+            }
+            return CompressedResult.wrap(buffer.flip(), rawLength);
+        }
+    }
+
+    /**
+     * 추가 전용 세그먼트 파일
+     */
+    private static final class Segment {
+        private final long id;
+        private final Path path;
+        private final FileChannel channel;
+        private final int capacity;
+        private int writePosition;
+        private long liveBytes;
+
+        private Segment(long id, Path path, FileChannel channel, int capacity) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.capacity = capacity;
+        }
+
+        private int remaining() {
+            return capacity - writePosition;
+        }
+    }
+}
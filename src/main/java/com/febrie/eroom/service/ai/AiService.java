@@ -3,9 +3,21 @@ package com.febrie.eroom.service.ai;
 import com.google.gson.JsonObject;
 
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 public interface AiService {
     JsonObject generateScenario(String scenarioPrompt, JsonObject requestData);
 
     Map<String, String> generateUnifiedScripts(String unifiedScriptsPrompt, JsonObject requestData);
-}
\ No newline at end of file
+
+    /**
+     * 스크립트를 생성하면서 완성된 스크립트를 하나씩 전달합니다.
+     * 스트리밍을 지원하지 않는 구현체는 생성 완료 후 일괄 전달합니다.
+     */
+    default Map<String, String> generateUnifiedScripts(String unifiedScriptsPrompt, JsonObject requestData,
+                                                       BiConsumer<String, String> scriptListener) {
+        Map<String, String> scripts = generateUnifiedScripts(unifiedScriptsPrompt, requestData);
+        scripts.forEach(scriptListener);
+        return scripts;
+    }
+}
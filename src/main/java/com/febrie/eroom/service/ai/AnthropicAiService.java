@@ -2,11 +2,20 @@ package com.febrie.eroom.service.ai;
 
 import com.anthropic.client.AnthropicClient;
 import com.anthropic.client.okhttp.AnthropicOkHttpClient;
+import com.anthropic.core.RequestOptions;
+import com.anthropic.core.http.Headers;
+import com.anthropic.core.http.StreamResponse;
+import com.anthropic.errors.AnthropicException;
+import com.anthropic.errors.AnthropicIoException;
+import com.anthropic.errors.AnthropicServiceException;
 import com.anthropic.models.messages.ContentBlock;
 import com.anthropic.models.messages.Message;
 import com.anthropic.models.messages.MessageCreateParams;
+import com.anthropic.models.messages.RawMessageStreamEvent;
 import com.febrie.eroom.config.ApiKeyProvider;
+import com.febrie.eroom.config.ConfigSection;
 import com.febrie.eroom.config.ConfigurationManager;
+import com.febrie.eroom.exception.AiServiceException;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
@@ -20,12 +29,19 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -49,12 +65,25 @@ public class AnthropicAiService implements AiService {
     private static final String CLASS_NAME_SUFFIX = "C";
     private static final int LOG_TRUNCATE_LENGTH = 500;
 
+    // 스트리밍 및 재시도 설정 키
+    private static final String KEY_STREAMING = "streaming";
+    private static final String KEY_RETRY = "retry";
+
+    // 재시도 관련 HTTP 상수
+    private static final String HEADER_RETRY_AFTER = "retry-after";
+    private static final String HEADER_RETRY_AFTER_MS = "retry-after-ms";
+    private static final int STATUS_REQUEST_TIMEOUT = 408;
+    private static final int STATUS_CONFLICT = 409;
+    private static final int STATUS_RATE_LIMITED = 429;
+    private static final int STATUS_OVERLOADED = 529;
+
     // 파일 저장 관련 상수
     private static final String LOG_DIR = "C:\\Users\\201-11\\Desktop\\Server\\logs\\llm_results";
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
 
     private final ApiKeyProvider apiKeyProvider;
     private final ConfigurationManager configManager;
+    private final RetryPolicy retryPolicy;
     private volatile AnthropicClient client;
 
     /**
@@ -64,6 +93,7 @@ public class AnthropicAiService implements AiService {
     public AnthropicAiService(ApiKeyProvider apiKeyProvider, ConfigurationManager configManager) {
         this.apiKeyProvider = apiKeyProvider;
         this.configManager = configManager;
+        this.retryPolicy = RetryPolicy.fromConfig(ConfigSection.of(configManager.getModelConfig(), KEY_RETRY));
     }
 
     /**
@@ -74,12 +104,14 @@ public class AnthropicAiService implements AiService {
         String theme = extractTheme(requestData);
         log.info("통합 시나리오 생성 시작: theme={}", theme);
 
-        String response = executeAnthropicCall(scenarioPrompt, requestData, "scenarioTemperature");
+        return executeWithRetry("scenario", deadline -> {
+            String response = executeAnthropicCall(scenarioPrompt, requestData, "scenarioTemperature", deadline);
 
-        // 파일로 저장
-        saveResponseToFile(response, "scenario", requestData);
+            // 파일로 저장
+            saveResponseToFile(response, "scenario", requestData);
 
-        return parseJsonResponse(response);
+            return parseJsonResponse(response);
+        });
     }
 
     /**
@@ -89,16 +121,122 @@ public class AnthropicAiService implements AiService {
     public Map<String, String> generateUnifiedScripts(String unifiedScriptsPrompt, JsonObject requestData) {
         log.info("마크다운 기반 통합 스크립트 생성 시작");
 
-        String response = executeAnthropicCall(unifiedScriptsPrompt, requestData, "scriptTemperature");
+        return executeWithRetry("script", deadline -> {
+            String response = executeAnthropicCall(unifiedScriptsPrompt, requestData, "scriptTemperature", deadline);
+
+            // 배치 처리인지 확인
+            boolean isBatch = requestData.has("batch_index");
+            String scriptType = isBatch ? "scripts_batch_" + requestData.get("batch_index").getAsInt() : "scripts";
+
+            // 파일로 저장
+            saveResponseToFile(response, scriptType, requestData);
+
+            return parseAndEncodeScripts(response);
+        });
+    }
+
+    /**
+     * AI를 통해 통합 스크립트를 스트리밍으로 생성합니다.
+     * 코드 블록이 닫히는 즉시 스크립트를 리스너에 전달합니다.
+     * 재시도해도 이미 전달한 이름의 스크립트는 다시 전달하지 않으며, 반환값은 마지막 시도의 결과입니다.
+     */
+    @Override
+    public Map<String, String> generateUnifiedScripts(String unifiedScriptsPrompt, JsonObject requestData,
+                                                      BiConsumer<String, String> scriptListener) {
+        if (!isStreamingEnabled()) {
+            return AiService.super.generateUnifiedScripts(unifiedScriptsPrompt, requestData, scriptListener);
+        }
+
+        log.info("스트리밍 기반 통합 스크립트 생성 시작");
+
+        // 재시도마다 파서와 결과를 새로 만들어 이름 중복 처리가 누적되지 않도록 하고, 전달 기록은 재시도 간에 유지함
+        Set<String> deliveredScripts = new HashSet<>();
+        return executeWithRetry("script", deadline -> {
+            Map<String, String> encodedScripts = new HashMap<>();
+            StreamingCodeBlockParser parser = new StreamingCodeBlockParser(
+                    code -> handleStreamedCodeBlock(code, encodedScripts, deliveredScripts, scriptListener));
+
+            String response = executeAnthropicStreamingCall(unifiedScriptsPrompt, requestData, "scriptTemperature", parser, deadline);
+
+            boolean isBatch = requestData.has("batch_index");
+            String scriptType = isBatch ? "scripts_batch_" + requestData.get("batch_index").getAsInt() : "scripts";
+            saveResponseToFile(response, scriptType, requestData);
+
+            if (encodedScripts.isEmpty()) {
+                log.error("스트리밍 응답에서 스크립트를 찾을 수 없습니다. 응답 내용: {}", truncateForLog(response));
+                throw new AiServiceException(AiServiceException.Reason.PARSE_FAILURE, "파싱된 스크립트가 없습니다.");
+            }
+
+            log.info("스트리밍 스크립트 생성 완료: {} 개의 스크립트, {} 개의 코드 블록",
+                    encodedScripts.size(), parser.getCompletedBlocks());
+            return encodedScripts;
+        });
+    }
+
+    /**
+     * 재시도 정책에 따라 AI 호출을 실행합니다.
+     * 재시도 가능한 오류는 백오프 후 다시 시도하고, 호출 마감 시간을 넘기면 중단합니다.
+     */
+    private <T> T executeWithRetry(String contentType, LongFunction<T> call) {
+        long deadline = System.currentTimeMillis() + retryPolicy.getCallDeadlineMs();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.apply(deadline);
+            } catch (AiServiceException e) {
+                if (!e.isRetryable() || attempt >= retryPolicy.getMaxAttempts()) {
+                    log.error("{} 생성 실패 - reason: {}, attempt: {}/{}, error: {}",
+                            contentType, e.getReason(), attempt, retryPolicy.getMaxAttempts(), e.getMessage());
+                    throw e;
+                }
+
+                long backoffMs = retryPolicy.computeBackoffMs(attempt, e.getRetryAfterMillis());
+                if (System.currentTimeMillis() + backoffMs >= deadline) {
+                    throw new AiServiceException(AiServiceException.Reason.DEADLINE_EXCEEDED,
+                            contentType + " 생성 마감 시간 초과: " + e.getMessage(), e);
+                }
+
+                log.warn("{} 생성 재시도 예정 - reason: {}, attempt: {}/{}, backoff: {}ms, error: {}",
+                        contentType, e.getReason(), attempt, retryPolicy.getMaxAttempts(), backoffMs, e.getMessage());
+                sleepForBackoff(backoffMs);
+            }
+        }
+    }
+
+    /**
+     * 백오프 시간만큼 대기합니다.
+     */
+    private void sleepForBackoff(long backoffMs) {
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AiServiceException(AiServiceException.Reason.INTERRUPTED, "재시도 대기 중 인터럽트 발생", e);
+        }
+    }
 
-        // 배치 처리인지 확인
-        boolean isBatch = requestData.has("batch_index");
-        String scriptType = isBatch ? "scripts_batch_" + requestData.get("batch_index").getAsInt() : "scripts";
+    /**
+     * 스트리밍 모드가 활성화되어 있는지 확인합니다.
+     */
+    private boolean isStreamingEnabled() {
+        JsonObject modelConfig = configManager.getModelConfig();
+        return modelConfig.has(KEY_STREAMING) && modelConfig.get(KEY_STREAMING).getAsBoolean();
+    }
 
-        // 파일로 저장
-        saveResponseToFile(response, scriptType, requestData);
+    /**
+     * 스트리밍 중 완성된 코드 블록을 처리합니다.
+     * 이전 시도에서 이미 전달한 스크립트는 결과에만 담고 리스너에는 다시 전달하지 않습니다.
+     */
+    private void handleStreamedCodeBlock(String code, @NotNull Map<String, String> encodedScripts,
+                                         @NotNull Set<String> deliveredScripts,
+                                         BiConsumer<String, String> scriptListener) {
+        String scriptName = processCodeBlock(code, encodedScripts.size() + 1, encodedScripts);
+        if (scriptName == null || !deliveredScripts.add(scriptName)) {
+            return;
+        }
 
-        return parseAndEncodeScripts(response);
+        log.debug("스트리밍 스크립트 수신: {}", scriptName);
+        scriptListener.accept(scriptName, encodedScripts.get(scriptName));
     }
 
     /**
@@ -151,8 +289,10 @@ public class AnthropicAiService implements AiService {
         String apiKey = apiKeyProvider.getAnthropicKey();
         validateApiKey(apiKey);
 
+        // 재시도는 executeWithRetry에서 일괄 처리하므로 SDK 내부 재시도는 끔
         client = AnthropicOkHttpClient.builder()
                 .apiKey(apiKey)
+                .maxRetries(0)
                 .build();
 
         log.info("AnthropicClient 초기화 완료");
@@ -163,26 +303,135 @@ public class AnthropicAiService implements AiService {
      */
     private void validateApiKey(String apiKey) {
         if (apiKey == null || apiKey.trim().isEmpty()) {
-            terminateWithError("Anthropic API 키가 설정되지 않았습니다.");
+            throw new AiServiceException(AiServiceException.Reason.CONFIGURATION, "Anthropic API 키가 설정되지 않았습니다.");
         }
     }
 
     /**
      * Anthropic API를 호출합니다.
      */
-    private String executeAnthropicCall(String systemPrompt, JsonObject requestData, String temperatureKey) {
+    private String executeAnthropicCall(String systemPrompt, JsonObject requestData, String temperatureKey, long deadline) {
+        MessageCreateParams params = createMessageParams(systemPrompt, requestData, temperatureKey);
+        RequestOptions options = createRequestOptions(deadline);
+
+        Message response;
         try {
-            MessageCreateParams params = createMessageParams(systemPrompt, requestData, temperatureKey);
-            Message response = getClient().messages().create(params);
+            response = getClient().messages().create(params, options);
+        } catch (AnthropicException e) {
+            throw translateAnthropicException(e, temperatureKey);
+        }
+
+        String textContent = extractResponseText(response);
+        validateResponseContent(textContent, temperatureKey);
 
-            String textContent = extractResponseText(response);
-            validateResponseContent(textContent, temperatureKey);
+        return textContent;
+    }
+
+    /**
+     * Anthropic 스트리밍 API를 호출합니다.
+     * 텍스트 델타를 파서에 전달하고 전체 응답을 반환합니다.
+     */
+    private String executeAnthropicStreamingCall(String systemPrompt, JsonObject requestData, String temperatureKey,
+                                                 StreamingCodeBlockParser parser, long deadline) {
+        MessageCreateParams params = createMessageParams(systemPrompt, requestData, temperatureKey);
+        RequestOptions options = createRequestOptions(deadline);
+        StringBuilder fullText = new StringBuilder();
+
+        try (StreamResponse<RawMessageStreamEvent> stream = getClient().messages().createStreaming(params, options)) {
+            stream.stream()
+                    .flatMap(event -> event.contentBlockDelta().stream())
+                    .flatMap(deltaEvent -> deltaEvent.delta().text().stream())
+                    .forEach(textDelta -> {
+                        fullText.append(textDelta.text());
+                        parser.append(textDelta.text());
+                    });
+        } catch (AnthropicException e) {
+            throw translateAnthropicException(e, temperatureKey);
+        }
+        parser.finish();
+
+        String textContent = fullText.toString().trim();
+        validateResponseContent(textContent, temperatureKey);
+        return textContent;
+    }
 
-            return textContent;
+    /**
+     * 남은 마감 시간으로 요청 옵션을 생성합니다.
+     */
+    @NotNull
+    private RequestOptions createRequestOptions(long deadline) {
+        long remainingMs = deadline - System.currentTimeMillis();
+        if (remainingMs <= 0) {
+            throw new AiServiceException(AiServiceException.Reason.DEADLINE_EXCEEDED, "AI 호출 마감 시간이 지났습니다.");
+        }
+        return RequestOptions.builder()
+                .timeout(Duration.ofMillis(remainingMs))
+                .build();
+    }
+
+    /**
+     * SDK 예외를 실패 원인이 분류된 예외로 변환합니다.
+     */
+    @NotNull
+    private AiServiceException translateAnthropicException(@NotNull AnthropicException e, String temperatureKey) {
+        String contentType = temperatureKey.replace("Temperature", "");
+        String message = String.format("%s 생성 중 오류 발생: %s", contentType, e.getMessage());
+
+        if (e instanceof AnthropicServiceException serviceException) {
+            int statusCode = serviceException.statusCode();
+            Long retryAfterMs = parseRetryAfter(serviceException.headers());
+            return new AiServiceException(classifyStatusCode(statusCode), message, e, statusCode, retryAfterMs);
+        }
+        if (e instanceof AnthropicIoException) {
+            return new AiServiceException(AiServiceException.Reason.NETWORK, message, e);
+        }
+        return new AiServiceException(AiServiceException.Reason.SERVER_ERROR, message, e);
+    }
+
+    /**
+     * HTTP 상태 코드로 실패 원인을 분류합니다.
+     */
+    @NotNull
+    private AiServiceException.Reason classifyStatusCode(int statusCode) {
+        if (statusCode == STATUS_RATE_LIMITED) {
+            return AiServiceException.Reason.RATE_LIMITED;
+        }
+        if (statusCode == STATUS_OVERLOADED) {
+            return AiServiceException.Reason.OVERLOADED;
+        }
+        if (statusCode >= 500 || statusCode == STATUS_REQUEST_TIMEOUT || statusCode == STATUS_CONFLICT) {
+            return AiServiceException.Reason.SERVER_ERROR;
+        }
+        return AiServiceException.Reason.CLIENT_ERROR;
+    }
+
+    /**
+     * Retry-After 헤더를 밀리초로 파싱합니다.
+     * retry-after-ms, 초 단위 숫자, HTTP 날짜 형식을 지원합니다.
+     */
+    @Nullable
+    private Long parseRetryAfter(@NotNull Headers headers) {
+        try {
+            List<String> millisValues = headers.values(HEADER_RETRY_AFTER_MS);
+            if (!millisValues.isEmpty()) {
+                return (long) Double.parseDouble(millisValues.get(0).trim());
+            }
+
+            List<String> values = headers.values(HEADER_RETRY_AFTER);
+            if (values.isEmpty()) {
+                return null;
+            }
+
+            String value = values.get(0).trim();
+            if (value.matches("\\d+(\\.\\d+)?")) {
+                return (long) (Double.parseDouble(value) * 1000);
+            }
+
+            ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, retryAt.toInstant().toEpochMilli() - System.currentTimeMillis());
         } catch (Exception e) {
-            String contentType = temperatureKey.replace("Temperature", "");
-            terminateWithError(String.format("%s 생성 중 오류 발생: %s", contentType, e.getMessage()), e);
-            return "";
+            log.debug("Retry-After 헤더 파싱 실패: {}", e.getMessage());
+            return null;
         }
     }
 
@@ -217,7 +466,7 @@ public class AnthropicAiService implements AiService {
     /**
      * JSON 응답을 파싱합니다.
      */
-    @Nullable
+    @NotNull
     private JsonObject parseJsonResponse(String textContent) {
         try {
             String jsonContent = extractJsonFromMarkdown(textContent);
@@ -228,11 +477,10 @@ public class AnthropicAiService implements AiService {
             JsonObject result = JsonParser.parseString(jsonContent).getAsJsonObject();
             log.info("통합 시나리오 생성 완료");
             return result;
-        } catch (JsonSyntaxException e) {
+        } catch (JsonSyntaxException | IllegalStateException e) {
             log.error("시나리오 JSON 파싱 실패: {}. 응답: {}",
                     e.getMessage(), truncateForLog(textContent));
-            terminateWithError("JSON 파싱 실패");
-            return null;
+            throw new AiServiceException(AiServiceException.Reason.PARSE_FAILURE, "JSON 파싱 실패: " + e.getMessage(), e);
         }
     }
 
@@ -260,7 +508,7 @@ public class AnthropicAiService implements AiService {
         if (encodedScripts.isEmpty()) {
             log.error("마크다운 컨텐츠에서 스크립트를 찾을 수 없습니다. 응답 내용: {}",
                     truncateForLog(content));
-            terminateWithError("파싱된 스크립트가 없습니다.");
+            throw new AiServiceException(AiServiceException.Reason.PARSE_FAILURE, "파싱된 스크립트가 없습니다.");
         }
 
         log.info("마크다운 스크립트 Base64 인코딩 완료: {} 개의 스크립트", encodedScripts.size());
@@ -297,18 +545,20 @@ public class AnthropicAiService implements AiService {
 
     /**
      * 개별 코드 블록을 처리합니다.
+     * 저장된 스크립트 이름을 반환하며, 저장되지 않은 경우 null을 반환합니다.
      */
-    private void processCodeBlock(@NotNull String scriptCode, int blockNumber, Map<String, String> encodedScripts) {
+    @Nullable
+    private String processCodeBlock(@NotNull String scriptCode, int blockNumber, Map<String, String> encodedScripts) {
         if (scriptCode.isEmpty()) {
             log.debug("빈 코드 블록 #{} 건너뜀", blockNumber);
-            return;
+            return null;
         }
 
         String scriptName = extractClassNameFromCode(scriptCode);
         if (scriptName == null) {
             log.warn("코드 블록 #{}에서 클래스 이름을 추출할 수 없습니다. 코드 길이: {}자",
                     blockNumber, scriptCode.length());
-            return;
+            return null;
         }
 
         scriptName = normalizeScriptName(scriptName);
@@ -317,6 +567,7 @@ public class AnthropicAiService implements AiService {
 
         log.debug("코드 블록 #{}: 스크립트 '{}' 추출 성공 ({}자)",
                 blockNumber, uniqueName, scriptCode.length());
+        return encodedScripts.containsKey(uniqueName) ? uniqueName : null;
     }
 
     /**
@@ -386,8 +637,7 @@ public class AnthropicAiService implements AiService {
             String encoded = Base64.getEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8));
             return Optional.of(encoded);
         } catch (Exception e) {
-            terminateWithError("Base64 인코딩 실패: " + e.getMessage(), e);
-            return Optional.empty();
+            throw new AiServiceException(AiServiceException.Reason.PARSE_FAILURE, "Base64 인코딩 실패: " + e.getMessage(), e);
         }
     }
 
@@ -422,7 +672,7 @@ public class AnthropicAiService implements AiService {
      */
     private void validateModelConfig(@NotNull JsonObject modelConfig, String temperatureKey) {
         if (!modelConfig.has("maxTokens") || !modelConfig.has("name") || !modelConfig.has(temperatureKey)) {
-            terminateWithError("필수 모델 설정이 누락되었습니다: " + temperatureKey);
+            throw new AiServiceException(AiServiceException.Reason.CONFIGURATION, "필수 모델 설정이 누락되었습니다: " + temperatureKey);
         }
     }
 
@@ -432,23 +682,7 @@ public class AnthropicAiService implements AiService {
     private void validateResponseContent(String textContent, String temperatureKey) {
         if (textContent == null || textContent.isEmpty()) {
             String contentType = temperatureKey.replace("Temperature", "");
-            terminateWithError(contentType + " 생성 응답이 비어있습니다.");
+            throw new AiServiceException(AiServiceException.Reason.EMPTY_RESPONSE, contentType + " 생성 응답이 비어있습니다.");
         }
     }
-
-    /**
-     * 오류와 함께 프로그램을 종료합니다.
-     */
-    private void terminateWithError(String message) {
-        log.error("{} 서버를 종료합니다.", message);
-        System.exit(1);
-    }
-
-    /**
-     * 예외와 함께 오류 메시지를 로깅하고 프로그램을 종료합니다.
-     */
-    private void terminateWithError(String message, Exception e) {
-        log.error("{} 서버를 종료합니다.", message, e);
-        System.exit(1);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.febrie.eroom.service.ai;
+
+import com.febrie.eroom.config.ConfigSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * AI 호출 재시도 정책
+ * 지수 백오프와 지터를 적용하고, 서버가 요청한 Retry-After를 존중합니다.
+ */
+public class RetryPolicy {
+
+    // 설정 키
+    private static final String KEY_MAX_ATTEMPTS = "maxAttempts";
+    private static final String KEY_INITIAL_BACKOFF_MS = "initialBackoffMs";
+    private static final String KEY_MAX_BACKOFF_MS = "maxBackoffMs";
+    private static final String KEY_CALL_DEADLINE_SECONDS = "callDeadlineSeconds";
+
+    // 기본값
+    private static final int DEFAULT_MAX_ATTEMPTS = 4;
+    private static final long DEFAULT_INITIAL_BACKOFF_MS = 1000;
+    private static final long DEFAULT_MAX_BACKOFF_MS = 30000;
+    private static final long DEFAULT_CALL_DEADLINE_SECONDS = 600;
+
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final long callDeadlineMs;
+
+    /**
+     * RetryPolicy 생성자
+     */
+    public RetryPolicy(int maxAttempts, long initialBackoffMs, long maxBackoffMs, long callDeadlineMs) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = Math.max(0, initialBackoffMs);
+        this.maxBackoffMs = Math.max(this.initialBackoffMs, maxBackoffMs);
+        this.callDeadlineMs = callDeadlineMs;
+    }
+
+    /**
+     * 설정 섹션에서 정책을 생성합니다.
+     */
+    @NotNull
+    public static RetryPolicy fromConfig(@NotNull ConfigSection section) {
+        return new RetryPolicy(
+                section.getInt(KEY_MAX_ATTEMPTS, DEFAULT_MAX_ATTEMPTS),
+                section.getLong(KEY_INITIAL_BACKOFF_MS, DEFAULT_INITIAL_BACKOFF_MS),
+                section.getLong(KEY_MAX_BACKOFF_MS, DEFAULT_MAX_BACKOFF_MS),
+                section.getLong(KEY_CALL_DEADLINE_SECONDS, DEFAULT_CALL_DEADLINE_SECONDS) * 1000
+        );
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getCallDeadlineMs() {
+        return callDeadlineMs;
+    }
+
+    /**
+     * 다음 시도 전 대기 시간을 계산합니다.
+     * 지수 백오프의 절반 이상을 보장하는 지터를 적용하며, Retry-After가 더 길면 그 값을 따릅니다.
+     */
+    public long computeBackoffMs(int attempt, @Nullable Long retryAfterMs) {
+        long exponential = initialBackoffMs << Math.min(attempt - 1, 20);
+        long capped = Math.min(maxBackoffMs, exponential);
+        long half = capped / 2;
+        long jittered = half + (half > 0 ? ThreadLocalRandom.current().nextLong(half + 1) : 0);
+
+        if (retryAfterMs != null && retryAfterMs > jittered) {
+            return retryAfterMs;
+        }
+        return jittered;
+    }
+}
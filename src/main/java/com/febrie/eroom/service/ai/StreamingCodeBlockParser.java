@@ -0,0 +1,93 @@
+package com.febrie.eroom.service.ai;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 응답에서 마크다운 코드 블록을 점진적으로 추출하는 파서
+ * 닫는 펜스(```)가 도착하는 즉시 블록 내용을 전달합니다.
+ */
+public class StreamingCodeBlockParser {
+
+    private static final String FENCE = "```";
+
+    private final Consumer<String> blockConsumer;
+    private final StringBuilder pendingLine = new StringBuilder();
+    private final StringBuilder currentBlock = new StringBuilder();
+    private boolean insideBlock = false;
+    private int completedBlocks = 0;
+
+    /**
+     * StreamingCodeBlockParser 생성자
+     */
+    public StreamingCodeBlockParser(Consumer<String> blockConsumer) {
+        this.blockConsumer = blockConsumer;
+    }
+
+    /**
+     * 새로 도착한 텍스트 조각을 처리합니다.
+     * 완성된 줄 단위로만 펜스를 판별합니다.
+     */
+    public void append(@NotNull String delta) {
+        for (int i = 0; i < delta.length(); i++) {
+            char c = delta.charAt(i);
+            if (c == '\n') {
+                processLine(pendingLine.toString());
+                pendingLine.setLength(0);
+            } else {
+                pendingLine.append(c);
+            }
+        }
+    }
+
+    /**
+     * 스트림 종료 시 남은 줄을 처리합니다.
+     */
+    public void finish() {
+        if (!pendingLine.isEmpty()) {
+            processLine(pendingLine.toString());
+            pendingLine.setLength(0);
+        }
+    }
+
+    /**
+     * 완료된 코드 블록 수를 반환합니다.
+     */
+    public int getCompletedBlocks() {
+        return completedBlocks;
+    }
+
+    /**
+     * 한 줄을 처리합니다.
+     */
+    private void processLine(@NotNull String line) {
+        if (!insideBlock) {
+            if (line.trim().startsWith(FENCE)) {
+                insideBlock = true;
+                currentBlock.setLength(0);
+            }
+            return;
+        }
+
+        String trimmed = line.trim();
+        if (trimmed.endsWith(FENCE)) {
+            // 코드와 같은 줄에 닫는 펜스가 붙어 있는 경우도 처리
+            currentBlock.append(trimmed, 0, trimmed.length() - FENCE.length());
+            closeBlock();
+            return;
+        }
+
+        currentBlock.append(line).append('\n');
+    }
+
+    /**
+     * 현재 블록을 닫고 전달합니다.
+     */
+    private void closeBlock() {
+        insideBlock = false;
+        completedBlocks++;
+        blockConsumer.accept(currentBlock.toString().trim());
+        currentBlock.setLength(0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.febrie.eroom.service.cache;
+
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시 적중률 지표
+ * 메모리/디스크 적중, 미스, 저장, 만료, 제거, 디스크 용량 초과 제거 횟수를 집계합니다.
+ */
+public class CacheStats {
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong puts = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong diskEvictions = new AtomicLong();
+
+    public void recordMemoryHit() {
+        memoryHits.incrementAndGet();
+    }
+
+    public void recordDiskHit() {
+        diskHits.incrementAndGet();
+    }
+
+    public void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    public void recordPut() {
+        puts.incrementAndGet();
+    }
+
+    public void recordExpiration() {
+        expirations.incrementAndGet();
+    }
+
+    public void recordEviction() {
+        evictions.incrementAndGet();
+    }
+
+    public void recordDiskEvictions(long count) {
+        diskEvictions.addAndGet(count);
+    }
+
+    /**
+     * 전체 조회 중 적중 비율을 반환합니다.
+     */
+    public double getHitRate() {
+        long hits = memoryHits.get() + diskHits.get();
+        long total = hits + misses.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * 지표를 JSON으로 변환합니다.
+     */
+    @NotNull
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.addProperty("memoryHits", memoryHits.get());
+        json.addProperty("diskHits", diskHits.get());
+        json.addProperty("misses", misses.get());
+        json.addProperty("hitRate", Math.round(getHitRate() * 1000) / 1000.0);
+        json.addProperty("puts", puts.get());
+        json.addProperty("expirations", expirations.get());
+        json.addProperty("evictions", evictions.get());
+        json.addProperty("diskEvictions", diskEvictions.get());
+        return json;
+    }
+}
@@ -0,0 +1,317 @@
+package com.febrie.eroom.service.cache;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 단어 n-gram 기반 MinHash/LSH 유사도 색인
+ * 밴드별 버킷으로 후보를 좁힌 뒤 실제 자카드 유사도로 최종 판정합니다.
+ * 해시 시드가 고정되어 있어 스냅샷을 다른 프로세스에서 다시 읽을 수 있습니다.
+ */
+public class MinHashLshIndex {
+
+    // 해시 시드 생성용 고정 값 - 변경하면 기존 스냅샷과 호환되지 않습니다
+    private static final long SEED_BASE = 0x9E3779B97F4A7C15L;
+    private static final int MAX_NGRAM = 2;
+
+    // 스냅샷 필드
+    private static final String FIELD_NUM_HASHES = "numHashes";
+    private static final String FIELD_BANDS = "bands";
+    private static final String FIELD_ENTRIES = "entries";
+    private static final String FIELD_TEXT = "text";
+    private static final String FIELD_PAYLOAD = "payload";
+
+    private final int numHashes;
+    private final int bands;
+    private final int rowsPerBand;
+    private final int maxEntries;
+    private final long[] seeds;
+    private final List<Entry> entries = new ArrayList<>();
+    private final List<Map<Long, List<Entry>>> buckets = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * MinHashLshIndex 생성자
+     * 해시 수는 밴드 수의 배수로 맞춰집니다.
+     */
+    public MinHashLshIndex(int numHashes, int bands, int maxEntries) {
+        this.bands = Math.max(1, bands);
+        this.rowsPerBand = Math.max(1, numHashes / this.bands);
+        this.numHashes = this.rowsPerBand * this.bands;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.seeds = createSeeds(this.numHashes);
+        for (int i = 0; i < this.bands; i++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * 텍스트를 단어 1~2-gram 집합으로 변환합니다.
+     */
+    @NotNull
+    public static Set<String> shingles(@NotNull String text) {
+        String[] words = text.trim().split("\\s+");
+        Set<String> shingles = new HashSet<>();
+        for (int n = 1; n <= MAX_NGRAM; n++) {
+            for (int i = 0; i + n <= words.length; i++) {
+                if (words[i].isEmpty()) {
+                    continue;
+                }
+                shingles.add(String.join(" ", Arrays.copyOfRange(words, i, i + n)));
+            }
+        }
+        return shingles;
+    }
+
+    /**
+     * 두 집합의 자카드 유사도를 계산합니다.
+     */
+    public static double jaccard(@NotNull Set<String> a, @NotNull Set<String> b) {
+        if (a.isEmpty() && b.isEmpty()) {
+            return 1.0;
+        }
+        int intersection = 0;
+        for (String item : a) {
+            if (b.contains(item)) {
+                intersection++;
+            }
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    /**
+     * 항목을 추가합니다.
+     * 같은 텍스트가 이미 있으면 값을 갱신하고, 최대 개수를 넘으면 가장 오래된 항목을 제거합니다.
+     */
+    public void insert(@NotNull String text, @NotNull String payload) {
+        Set<String> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return;
+        }
+        long[] signature = signature(shingles);
+
+        lock.writeLock().lock();
+        try {
+            Optional<Entry> existing = findExact(text, signature);
+            if (existing.isPresent()) {
+                existing.get().payload = payload;
+                return;
+            }
+
+            Entry entry = new Entry(text, shingles, signature, payload);
+            entries.add(entry);
+            forEachBand(signature, (band, key) -> buckets.get(band).computeIfAbsent(key, k -> new ArrayList<>()).add(entry));
+
+            if (entries.size() > maxEntries) {
+                removeEntry(entries.get(0));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 가장 유사한 항목을 찾습니다.
+     * 유사도가 임계값 이상인 항목이 없으면 빈 값을 반환합니다.
+     */
+    @NotNull
+    public Optional<Match> findMostSimilar(@NotNull String text, double threshold) {
+        Set<String> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return Optional.empty();
+        }
+        long[] signature = signature(shingles);
+
+        lock.readLock().lock();
+        try {
+            Set<Entry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            forEachBand(signature, (band, key) -> candidates.addAll(buckets.get(band).getOrDefault(key, List.of())));
+
+            Match best = null;
+            for (Entry candidate : candidates) {
+                double similarity = jaccard(shingles, candidate.shingles);
+                if (similarity >= threshold && (best == null || similarity > best.similarity())) {
+                    best = new Match(candidate.text, candidate.payload, similarity);
+                }
+            }
+            return Optional.ofNullable(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 내용을 JSON 스냅샷으로 변환합니다.
+     * 시그니처는 시드로 다시 계산할 수 있으므로 텍스트와 값만 저장합니다.
+     */
+    @NotNull
+    public JsonObject toSnapshot() {
+        JsonArray array = new JsonArray();
+        lock.readLock().lock();
+        try {
+            for (Entry entry : entries) {
+                JsonObject item = new JsonObject();
+                item.addProperty(FIELD_TEXT, entry.text);
+                item.addProperty(FIELD_PAYLOAD, entry.payload);
+                array.add(item);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        JsonObject snapshot = new JsonObject();
+        snapshot.addProperty(FIELD_NUM_HASHES, numHashes);
+        snapshot.addProperty(FIELD_BANDS, bands);
+        snapshot.add(FIELD_ENTRIES, array);
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷의 항목을 추가합니다.
+     *
+     * @return 불러온 항목 수
+     */
+    public int loadSnapshot(@NotNull JsonObject snapshot) {
+        if (!snapshot.has(FIELD_ENTRIES)) {
+            return 0;
+        }
+        int loaded = 0;
+        for (JsonElement element : snapshot.getAsJsonArray(FIELD_ENTRIES)) {
+            JsonObject item = element.getAsJsonObject();
+            insert(item.get(FIELD_TEXT).getAsString(), item.get(FIELD_PAYLOAD).getAsString());
+            loaded++;
+        }
+        return loaded;
+    }
+
+    /**
+     * MinHash 시그니처를 계산합니다.
+     */
+    @NotNull
+    private long[] signature(@NotNull Set<String> shingles) {
+        long[] signature = new long[numHashes];
+        Arrays.fill(signature, -1L);
+        for (String shingle : shingles) {
+            long base = fnv1a64(shingle);
+            for (int i = 0; i < numHashes; i++) {
+                long hash = mix64(base ^ seeds[i]);
+                if (Long.compareUnsigned(hash, signature[i]) < 0) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 밴드마다 버킷 키를 계산해 전달합니다.
+     */
+    private void forEachBand(@NotNull long[] signature, @NotNull BandConsumer consumer) {
+        for (int band = 0; band < bands; band++) {
+            consumer.accept(band, bandKey(signature, band));
+        }
+    }
+
+    /**
+     * 한 밴드에 속한 시그니처 값들로 버킷 키를 계산합니다.
+     */
+    private long bandKey(@NotNull long[] signature, int band) {
+        long key = 1125899906842597L;
+        for (int row = 0; row < rowsPerBand; row++) {
+            key = 31 * key + signature[band * rowsPerBand + row];
+        }
+        return key;
+    }
+
+    /**
+     * 같은 텍스트의 항목을 찾습니다.
+     * 동일한 텍스트는 모든 밴드가 같으므로 첫 밴드 버킷만 확인합니다.
+     */
+    @NotNull
+    private Optional<Entry> findExact(String text, long[] signature) {
+        return buckets.get(0).getOrDefault(bandKey(signature, 0), List.of()).stream()
+                .filter(entry -> entry.text.equals(text))
+                .findFirst();
+    }
+
+    private void removeEntry(@NotNull Entry entry) {
+        entries.remove(entry);
+        forEachBand(entry.signature, (band, key) -> {
+            List<Entry> bucket = buckets.get(band).get(key);
+            if (bucket != null) {
+                bucket.remove(entry);
+                if (bucket.isEmpty()) {
+                    buckets.get(band).remove(key);
+                }
+            }
+        });
+    }
+
+    @NotNull
+    private static long[] createSeeds(int count) {
+        SplittableRandom random = new SplittableRandom(SEED_BASE);
+        long[] seeds = new long[count];
+        for (int i = 0; i < count; i++) {
+            seeds[i] = random.nextLong();
+        }
+        return seeds;
+    }
+
+    private static long fnv1a64(@NotNull String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    @FunctionalInterface
+    private interface BandConsumer {
+        void accept(int band, long key);
+    }
+
+    /**
+     * 유사 항목 조회 결과
+     */
+    public record Match(String text, String payload, double similarity) {
+    }
+
+    /**
+     * 색인 항목
+     */
+    private static final class Entry {
+        private final String text;
+        private final Set<String> shingles;
+        private final long[] signature;
+        private volatile String payload;
+
+        private Entry(String text, Set<String> shingles, long[] signature, String payload) {
+            this.text = text;
+            this.shingles = shingles;
+            this.signature = signature;
+            this.payload = payload;
+        }
+    }
+}
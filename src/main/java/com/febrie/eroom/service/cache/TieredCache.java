@@ -0,0 +1,371 @@
+package com.febrie.eroom.service.cache;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 LRU 계층과 디스크 계층으로 구성된 캐시
+ * 키는 내용 해시이며, 값은 JSON으로 저장되고 TTL이 지나면 만료됩니다.
+ * 디스크 용량 상한이 있으면 상한을 넘을 때 가장 오래 사용되지 않은 파일부터 지웁니다.
+ */
+public class TieredCache {
+    private static final Logger log = LoggerFactory.getLogger(TieredCache.class);
+
+    // 설정 키
+    private static final String KEY_MEMORY_ENTRIES = "memoryEntries";
+    private static final String KEY_TTL_HOURS = "ttlHours";
+    private static final String KEY_DIRECTORY = "directory";
+    private static final String KEY_MAX_DISK_MEGABYTES = "maxDiskMegabytes";
+
+    // 기본값
+    private static final int DEFAULT_MEMORY_ENTRIES = 1000;
+    private static final long DEFAULT_TTL_HOURS = 24 * 7;
+    private static final long DEFAULT_MAX_DISK_MEGABYTES = 0;
+
+    // 디스크 정리 후 남길 용량 비율 (쓰기마다 정리하지 않도록 여유를 둡니다)
+    private static final double DISK_EVICTION_TARGET = 0.9;
+
+    // 디스크 항목 필드
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_VALUE = "value";
+    private static final String FILE_EXTENSION = ".json";
+
+    private final String name;
+    private final long ttlMs;
+    private final Path directory;
+    private final long maxDiskBytes;
+    private final Map<String, CacheEntry> memory;
+    private final CacheStats stats = new CacheStats();
+    private final AtomicLong diskBytes = new AtomicLong();
+
+    /**
+     * TieredCache 생성자
+     * 디렉터리가 null이면 메모리 계층만 사용합니다.
+     */
+    public TieredCache(String name, int memoryEntries, long ttlMs, @Nullable Path directory) {
+        this(name, memoryEntries, ttlMs, directory, 0);
+    }
+
+    /**
+     * TieredCache 생성자
+     * maxDiskBytes가 0 이하이면 디스크 용량을 제한하지 않습니다.
+     */
+    public TieredCache(String name, int memoryEntries, long ttlMs, @Nullable Path directory, long maxDiskBytes) {
+        this.name = name;
+        this.ttlMs = ttlMs;
+        this.directory = directory;
+        this.maxDiskBytes = Math.max(0, maxDiskBytes);
+        this.memory = createLruMap(Math.max(1, memoryEntries));
+        initializeDirectory();
+    }
+
+    /**
+     * 설정 섹션에서 캐시를 생성합니다.
+     */
+    @NotNull
+    public static TieredCache fromConfig(String name, @NotNull ConfigSection section) {
+        String directory = section.getString(KEY_DIRECTORY, null);
+        return new TieredCache(
+                name,
+                section.getInt(KEY_MEMORY_ENTRIES, DEFAULT_MEMORY_ENTRIES),
+                section.getLong(KEY_TTL_HOURS, DEFAULT_TTL_HOURS) * 3600_000L,
+                directory != null && !directory.isBlank() ? Paths.get(directory) : null,
+                section.getLong(KEY_MAX_DISK_MEGABYTES, DEFAULT_MAX_DISK_MEGABYTES) * 1024 * 1024
+        );
+    }
+
+    /**
+     * 여러 문자열을 이어 SHA-256 해시 키를 생성합니다.
+     */
+    @NotNull
+    public static String hashKey(@NotNull String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 값을 조회합니다.
+     * 메모리에 없으면 디스크를 확인하고, 찾은 값은 메모리로 올립니다.
+     */
+    @NotNull
+    public Optional<JsonElement> get(@NotNull String key) {
+        long now = System.currentTimeMillis();
+
+        CacheEntry entry;
+        synchronized (memory) {
+            entry = memory.get(key);
+            if (entry != null && isExpired(entry, now)) {
+                memory.remove(key);
+                stats.recordExpiration();
+                entry = null;
+            }
+        }
+        if (entry != null) {
+            stats.recordMemoryHit();
+            return Optional.of(entry.value());
+        }
+
+        entry = readFromDisk(key, now);
+        if (entry != null) {
+            stats.recordDiskHit();
+            putInMemory(key, entry);
+            return Optional.of(entry.value());
+        }
+
+        stats.recordMiss();
+        return Optional.empty();
+    }
+
+    /**
+     * 값을 저장합니다.
+     */
+    public void put(@NotNull String key, @NotNull JsonElement value) {
+        CacheEntry entry = new CacheEntry(value, System.currentTimeMillis());
+        putInMemory(key, entry);
+        writeToDisk(key, entry);
+        stats.recordPut();
+    }
+
+    /**
+     * 값을 제거합니다.
+     */
+    public void invalidate(@NotNull String key) {
+        synchronized (memory) {
+            memory.remove(key);
+        }
+        if (directory != null) {
+            try {
+                Files.deleteIfExists(resolvePath(key));
+            } catch (IOException e) {
+                log.warn("[{}] 캐시 파일 삭제 실패: {}", name, e.getMessage());
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 메모리 계층의 항목 수를 반환합니다.
+     */
+    public int getMemorySize() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    @NotNull
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    /**
+     * 캐시 상태를 JSON으로 반환합니다.
+     */
+    @NotNull
+    public JsonObject toJson() {
+        JsonObject json = stats.toJson();
+        json.addProperty("memoryEntries", getMemorySize());
+        json.addProperty("persistent", directory != null);
+        if (maxDiskBytes > 0) {
+            json.addProperty("diskBytes", diskBytes.get());
+            json.addProperty("maxDiskBytes", maxDiskBytes);
+        }
+        return json;
+    }
+
+    /**
+     * 접근 순서 기반 LRU 맵을 생성합니다.
+     */
+    @NotNull
+    private Map<String, CacheEntry> createLruMap(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    stats.recordEviction();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private void putInMemory(String key, CacheEntry entry) {
+        synchronized (memory) {
+            memory.put(key, entry);
+        }
+    }
+
+    private boolean isExpired(@NotNull CacheEntry entry, long now) {
+        return ttlMs > 0 && now - entry.createdAt() > ttlMs;
+    }
+
+    /**
+     * 캐시 디렉터리를 준비합니다.
+     */
+    private void initializeDirectory() {
+        if (directory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            log.info("[{}] 캐시 디렉터리: {}", name, directory.toAbsolutePath());
+            if (maxDiskBytes > 0) {
+                enforceDiskLimit();
+            }
+        } catch (IOException e) {
+            log.warn("[{}] 캐시 디렉터리 생성 실패, 메모리 캐시만 사용합니다: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 디스크에서 항목을 읽습니다.
+     * 만료되었거나 손상된 파일은 삭제합니다.
+     */
+    @Nullable
+    private CacheEntry readFromDisk(String key, long now) {
+        if (directory == null) {
+            return null;
+        }
+
+        Path path = resolvePath(key);
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        try {
+            JsonObject stored = JsonParser.parseString(Files.readString(path, StandardCharsets.UTF_8)).getAsJsonObject();
+            CacheEntry entry = new CacheEntry(stored.get(FIELD_VALUE), stored.get(FIELD_CREATED_AT).getAsLong());
+            if (isExpired(entry, now)) {
+                Files.deleteIfExists(path);
+                stats.recordExpiration();
+                return null;
+            }
+            if (maxDiskBytes > 0) {
+                Files.setLastModifiedTime(path, FileTime.fromMillis(now));
+            }
+            return entry;
+        } catch (Exception e) {
+            log.warn("[{}] 캐시 파일 읽기 실패, 삭제합니다: {} - {}", name, path.getFileName(), e.getMessage());
+            deleteQuietly(path);
+            return null;
+        }
+    }
+
+    /**
+     * 디스크에 항목을 기록합니다.
+     * 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+     */
+    private void writeToDisk(String key, CacheEntry entry) {
+        if (directory == null) {
+            return;
+        }
+
+        JsonObject stored = new JsonObject();
+        stored.addProperty(FIELD_CREATED_AT, entry.createdAt());
+        stored.add(FIELD_VALUE, entry.value());
+
+        Path path = resolvePath(key);
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            byte[] bytes = stored.toString().getBytes(StandardCharsets.UTF_8);
+            long previousSize = Files.exists(path) ? Files.size(path) : 0;
+            Files.write(tempPath, bytes);
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (maxDiskBytes > 0 && diskBytes.addAndGet(bytes.length - previousSize) > maxDiskBytes) {
+                enforceDiskLimit();
+            }
+        } catch (IOException e) {
+            log.warn("[{}] 캐시 파일 저장 실패: {}", name, e.getMessage());
+            deleteQuietly(tempPath);
+        }
+    }
+
+    /**
+     * 디스크 사용량을 다시 측정하고, 상한을 넘으면 가장 오래 사용되지 않은 파일부터 목표 용량까지 지웁니다.
+     * 사용량 집계는 근사치이므로 여기서 실제 파일 크기로 바로잡습니다.
+     */
+    private synchronized void enforceDiskLimit() {
+        List<DiskFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))
+                    .forEach(path -> {
+                        try {
+                            files.add(new DiskFile(path, Files.size(path), Files.getLastModifiedTime(path).toMillis()));
+                        } catch (IOException ignored) {
+                        }
+                    });
+        } catch (IOException e) {
+            log.warn("[{}] 캐시 디렉터리 조회 실패: {}", name, e.getMessage());
+            return;
+        }
+
+        long total = files.stream().mapToLong(DiskFile::size).sum();
+        if (total > maxDiskBytes) {
+            long target = (long) (maxDiskBytes * DISK_EVICTION_TARGET);
+            files.sort(Comparator.comparingLong(DiskFile::lastModified));
+            long evicted = 0;
+            for (DiskFile file : files) {
+                if (total <= target) {
+                    break;
+                }
+                deleteQuietly(file.path());
+                total -= file.size();
+                evicted++;
+            }
+            stats.recordDiskEvictions(evicted);
+            log.debug("[{}] 디스크 용량 초과로 캐시 파일 {}개 제거 - 남은 용량: {}bytes", name, evicted, total);
+        }
+        diskBytes.set(total);
+    }
+
+    @NotNull
+    private Path resolvePath(String key) {
+        return directory.resolve(key + FILE_EXTENSION);
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private record CacheEntry(JsonElement value, long createdAt) {
+    }
+
+    /**
+     * 디스크 정리 대상 파일
+     */
+    private record DiskFile(Path path, long size, long lastModified) {
+    }
+}
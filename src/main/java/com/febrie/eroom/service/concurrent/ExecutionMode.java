@@ -0,0 +1,23 @@
+package com.febrie.eroom.service.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 작업 실행 스레드 모드
+ */
+public enum ExecutionMode {
+    PLATFORM,
+    VIRTUAL;
+
+    /**
+     * 설정 문자열에서 실행 모드를 파싱합니다.
+     * 알 수 없는 값은 PLATFORM으로 처리합니다.
+     */
+    @NotNull
+    public static ExecutionMode fromString(String value) {
+        if (value != null && "virtual".equalsIgnoreCase(value.trim())) {
+            return VIRTUAL;
+        }
+        return PLATFORM;
+    }
+}
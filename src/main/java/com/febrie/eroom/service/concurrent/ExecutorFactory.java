@@ -0,0 +1,56 @@
+package com.febrie.eroom.service.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 실행 모드에 맞는 ExecutorService를 생성하는 팩토리
+ * 가상 스레드는 Java 21 이상에서만 사용 가능하며, 그 외 환경에서는 플랫폼 스레드 풀로 대체합니다.
+ */
+public final class ExecutorFactory {
+    private static final Logger log = LoggerFactory.getLogger(ExecutorFactory.class);
+
+    private static final String VIRTUAL_EXECUTOR_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private ExecutorFactory() {
+    }
+
+    /**
+     * 실행 모드에 따라 ExecutorService를 생성합니다.
+     * PLATFORM 모드는 고정 크기 풀을, VIRTUAL 모드는 세마포어로 제한된 가상 스레드 실행기를 사용합니다.
+     */
+    @NotNull
+    public static ExecutorService create(@NotNull ExecutionMode mode, int concurrency, String name) {
+        if (mode == ExecutionMode.VIRTUAL) {
+            ExecutorService virtualExecutor = createVirtualThreadExecutor();
+            if (virtualExecutor != null) {
+                log.info("{} 실행기 생성 - mode: VIRTUAL, concurrencyLimit: {}", name, concurrency);
+                return new SemaphoreBoundedExecutor(virtualExecutor, concurrency);
+            }
+            log.warn("{} 실행기: 현재 JVM에서 가상 스레드를 사용할 수 없어 플랫폼 스레드 풀로 대체합니다", name);
+        }
+
+        log.info("{} 실행기 생성 - mode: PLATFORM, poolSize: {}", name, concurrency);
+        return Executors.newFixedThreadPool(Math.max(1, concurrency));
+    }
+
+    /**
+     * 가상 스레드 실행기를 생성합니다.
+     * Java 17 빌드와의 호환을 위해 리플렉션으로 호출합니다.
+     */
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            Method method = Executors.class.getMethod(VIRTUAL_EXECUTOR_METHOD);
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.febrie.eroom.service.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠
+ * 만료 시각이 먼 항목은 상위 단계의 굵은 칸에 두었다가, 해당 칸의 시간이 되면 하위 단계로 내려 보냅니다.
+ * 등록과 취소는 O(1)이며, 한 틱에는 만료되는 칸 하나와 내려 보낼 칸들만 처리합니다.
+ * 외부에서 주기적으로 advance를 호출해 시간을 진행시켜야 합니다.
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final int levels;
+    private final long startMs;
+    private final long[] spans;
+    private final List<Set<Timeout<T>>> buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * HierarchicalTimingWheel 생성자
+     * 표현 가능한 최대 지연은 tickMs * wheelSize^levels이며, 그보다 먼 항목은 최상위 단계를 여러 번 거칩니다.
+     */
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levels, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2 || levels < 1) {
+            throw new IllegalArgumentException("tickMs > 0, wheelSize >= 2, levels >= 1 이어야 합니다");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levels = levels;
+        this.startMs = startMs;
+        this.spans = new long[levels + 1];
+        this.spans[0] = 1;
+        for (int level = 1; level <= levels; level++) {
+            this.spans[level] = Math.multiplyExact(spans[level - 1], wheelSize);
+        }
+        this.buckets = new ArrayList<>(levels * wheelSize);
+        for (int i = 0; i < levels * wheelSize; i++) {
+            buckets.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * 항목을 deadlineMs에 만료되도록 등록합니다.
+     * 이미 지난 시각이면 다음 틱에 만료됩니다.
+     */
+    @NotNull
+    public synchronized Timeout<T> schedule(@NotNull T item, long deadlineMs) {
+        Timeout<T> timeout = new Timeout<>(this, item, deadlineMs);
+        long expiryTick = Math.max(toTickCeil(deadlineMs), currentTick + 1);
+        place(timeout, expiryTick);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * 시간을 nowMs까지 진행시키고 만료된 항목들을 반환합니다.
+     */
+    @NotNull
+    public synchronized List<Timeout<T>> advance(long nowMs) {
+        long targetTick = Math.floorDiv(nowMs - startMs, tickMs);
+        List<Timeout<T>> expired = new ArrayList<>();
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            cascade();
+            drain(bucket(0, slot(0, currentTick)), expired);
+        }
+        return expired;
+    }
+
+    /**
+     * 등록된 항목 수를 반환합니다.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 현재 틱에 도달한 상위 단계 칸들을 위에서부터 하위 단계로 내려 보냅니다.
+     */
+    private void cascade() {
+        for (int level = levels - 1; level >= 1; level--) {
+            if (currentTick % spans[level] != 0) {
+                continue;
+            }
+            Set<Timeout<T>> source = bucket(level, slot(level, currentTick));
+            List<Timeout<T>> moving = new ArrayList<>(source);
+            source.clear();
+            for (Timeout<T> timeout : moving) {
+                place(timeout, Math.max(toTickCeil(timeout.deadlineMs), currentTick));
+            }
+        }
+    }
+
+    private void drain(@NotNull Set<Timeout<T>> source, @NotNull List<Timeout<T>> expired) {
+        for (Timeout<T> timeout : source) {
+            timeout.bucket = null;
+            expired.add(timeout);
+        }
+        size -= source.size();
+        source.clear();
+    }
+
+    /**
+     * 남은 틱 수에 맞는 단계의 칸에 항목을 넣습니다.
+     * 최대 범위를 넘는 항목은 최상위 단계의 가장 먼 칸에 두고, 그 칸이 내려올 때 다시 배치합니다.
+     */
+    private void place(@NotNull Timeout<T> timeout, long expiryTick) {
+        long delta = expiryTick - currentTick;
+        long placedTick = Math.min(expiryTick, currentTick + spans[levels] - 1);
+        int level = 0;
+        while (level < levels - 1 && delta >= spans[level + 1]) {
+            level++;
+        }
+        Set<Timeout<T>> target = bucket(level, slot(level, placedTick));
+        target.add(timeout);
+        timeout.bucket = target;
+    }
+
+    private long toTickCeil(long timeMs) {
+        return Math.floorDiv(timeMs - startMs + tickMs - 1, tickMs);
+    }
+
+    private int slot(int level, long tick) {
+        return (int) Math.floorMod(tick / spans[level], (long) wheelSize);
+    }
+
+    private Set<Timeout<T>> bucket(int level, int slot) {
+        return buckets.get(level * wheelSize + slot);
+    }
+
+    private synchronized boolean remove(@NotNull Timeout<T> timeout) {
+        if (timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.remove(timeout);
+        timeout.bucket = null;
+        size--;
+        return true;
+    }
+
+    /**
+     * 등록된 만료 예약
+     */
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> wheel;
+        private final T item;
+        private final long deadlineMs;
+        private Set<Timeout<T>> bucket;
+
+        private Timeout(HierarchicalTimingWheel<T> wheel, T item, long deadlineMs) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadlineMs = deadlineMs;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDeadlineMs() {
+            return deadlineMs;
+        }
+
+        /**
+         * 예약을 취소합니다. 이미 만료되었거나 취소된 경우 false를 반환합니다.
+         */
+        public boolean cancel() {
+            return wheel.remove(this);
+        }
+    }
+}
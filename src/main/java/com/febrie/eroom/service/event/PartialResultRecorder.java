@@ -0,0 +1,70 @@
+package com.febrie.eroom.service.event;
+
+import com.febrie.eroom.service.JobResultStore;
+import com.febrie.eroom.service.PartialResult;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 진행 이벤트를 작업 결과 저장소의 부분 결과로 옮겨 적는 리스너
+ * 시나리오, 완료된 스크립트, 모델별 진행 상태를 모아 최종 결과가 나오기 전에도
+ * 현재까지의 결과를 조회할 수 있게 합니다.
+ */
+public class PartialResultRecorder implements BiConsumer<String, RoomEvent> {
+
+    // 부분 결과 필드
+    private static final String FIELD_SCENARIO = "scenario";
+    private static final String FIELD_SCRIPTS = "scripts";
+    private static final String FIELD_SCRIPTS_READY = "scriptsReady";
+    private static final String FIELD_MODELS = "models";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_TRACKING_ID = "trackingId";
+
+    // 모델 진행 상태
+    private static final String MODEL_REFINING = "refining";
+    private static final String MODEL_COMPLETED = "completed";
+    private static final String MODEL_FAILED = "failed";
+
+    private final JobResultStore resultStore;
+
+    public PartialResultRecorder(JobResultStore resultStore) {
+        this.resultStore = resultStore;
+    }
+
+    @Override
+    public void accept(@NotNull String ruid, @NotNull RoomEvent event) {
+        JsonObject data = event.data();
+        switch (event.type()) {
+            case RoomEvent.TYPE_SCENARIO -> resultStore.updatePartialResult(ruid,
+                    partial -> data.has(FIELD_SCENARIO) ? partial.withField(FIELD_SCENARIO, data.get(FIELD_SCENARIO)) : partial);
+            case RoomEvent.TYPE_SCRIPTS -> resultStore.updatePartialResult(ruid,
+                    partial -> mergeScripts(partial, data.getAsJsonObject(FIELD_SCRIPTS)));
+            case RoomEvent.TYPE_SCRIPTS_READY -> resultStore.updatePartialResult(ruid,
+                    partial -> partial.withField(FIELD_SCRIPTS_READY, new JsonPrimitive(true)));
+            case RoomEvent.TYPE_MODEL_PREVIEW -> resultStore.updatePartialResult(ruid,
+                    partial -> putModel(partial, data, MODEL_REFINING));
+            case RoomEvent.TYPE_MODEL -> resultStore.updatePartialResult(ruid,
+                    partial -> putModel(partial, data, data.get(MODEL_FAILED).getAsBoolean() ? MODEL_FAILED : MODEL_COMPLETED));
+            default -> {
+            }
+        }
+    }
+
+    @NotNull
+    private PartialResult mergeScripts(@NotNull PartialResult partial, JsonObject scripts) {
+        return scripts != null ? partial.withMembers(FIELD_SCRIPTS, scripts.asMap()) : partial;
+    }
+
+    @NotNull
+    private PartialResult putModel(@NotNull PartialResult partial, @NotNull JsonObject data, String status) {
+        JsonObject model = new JsonObject();
+        model.addProperty(FIELD_STATUS, status);
+        if (data.has(FIELD_TRACKING_ID) && !data.get(FIELD_TRACKING_ID).isJsonNull()) {
+            model.add(FIELD_TRACKING_ID, data.get(FIELD_TRACKING_ID));
+        }
+        return partial.withMember(FIELD_MODELS, data.get("object").getAsString(), model);
+    }
+}
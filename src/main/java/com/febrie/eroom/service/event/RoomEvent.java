@@ -0,0 +1,18 @@
+package com.febrie.eroom.service.event;
+
+import com.google.gson.JsonObject;
+
+/**
+ * 방 생성 작업의 진행 이벤트
+ * id는 작업 안에서 1부터 증가하며, 재연결한 클라이언트가 놓친 이벤트부터 다시 받는 기준이 됩니다.
+ */
+public record RoomEvent(long id, String type, JsonObject data) {
+
+    // 이벤트 종류
+    public static final String TYPE_STARTED = "started";
+    public static final String TYPE_SCENARIO = "scenario";
+    public static final String TYPE_SCRIPTS = "scripts";
+    public static final String TYPE_SCRIPTS_READY = "scripts_ready";
+    public static final String TYPE_MODEL_PREVIEW = "model_preview";
+    public static final String TYPE_MODEL = "model";
+}
@@ -0,0 +1,179 @@
+package com.febrie.eroom.service.event;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 작업별 진행 이벤트 발행기 모음
+ * 작업마다 가벼운 발행기 하나가 지금까지의 이벤트 요약과 구독자 목록을 들고 있으며,
+ * 늦게 구독한 클라이언트에게는 지난 이벤트의 요약을 먼저 보낸 뒤 이후 이벤트를 이어서 전달합니다.
+ * 요약은 데이터의 최상위 원시 값만 남긴 것으로, 시나리오나 스크립트 본문은 부분 결과로 조회합니다.
+ * 발행기는 작업이 시작될 때 열리고 작업이 끝나면 제거됩니다.
+ * 모든 작업의 이벤트를 받아야 하는 구성 요소는 전역 리스너로 등록합니다.
+ */
+public class RoomEventBus {
+    private static final Logger log = LoggerFactory.getLogger(RoomEventBus.class);
+
+    private final Map<String, Publisher> publishers = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, RoomEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 모든 작업의 이벤트를 RUID와 함께 받는 리스너를 등록합니다.
+     * 리스너는 작업별 발행 순서대로, 잠금 밖에서 발행한 스레드 중 하나가 호출합니다.
+     */
+    public void addListener(@NotNull BiConsumer<String, RoomEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * 작업의 발행기를 엽니다. 작업 시작 전에 구독한 클라이언트가 있으면 그 발행기를 그대로 사용합니다.
+     */
+    public void open(@NotNull String ruid) {
+        publishers.computeIfAbsent(ruid, Publisher::new).opened = true;
+    }
+
+    /**
+     * 열린 발행기에 이벤트를 발행합니다. 발행기가 없으면 무시합니다.
+     */
+    public void publish(@NotNull String ruid, @NotNull String type, @NotNull JsonObject data) {
+        Publisher publisher = publishers.get(ruid);
+        if (publisher != null) {
+            publisher.publish(type, data);
+        }
+    }
+
+    /**
+     * 작업의 이벤트를 구독합니다.
+     * id가 afterId보다 큰 지난 이벤트의 요약을 먼저 전달하며, 반환된 동작을 실행하면 구독을 해제합니다.
+     * 리스너는 발행 스레드에서 호출되므로 블로킹 작업을 하면 안 됩니다.
+     */
+    @NotNull
+    public Runnable subscribe(@NotNull String ruid, long afterId, @NotNull Consumer<RoomEvent> listener) {
+        Publisher publisher = publishers.computeIfAbsent(ruid, Publisher::new);
+        publisher.subscribe(afterId, listener);
+        return () -> {
+            publisher.unsubscribe(listener);
+            publishers.computeIfPresent(ruid, (key, current) -> current == publisher && publisher.isIdle() ? null : current);
+        };
+    }
+
+    /**
+     * 작업의 발행기를 제거합니다. 이미 구독 중인 클라이언트는 더 이상 이벤트를 받지 않습니다.
+     */
+    public void close(@NotNull String ruid) {
+        publishers.remove(ruid);
+    }
+
+    /**
+     * 발행기가 있는 작업 수를 반환합니다.
+     */
+    public int size() {
+        return publishers.size();
+    }
+
+    /**
+     * 이벤트 데이터에서 최상위 원시 값만 남긴 요약을 만듭니다.
+     */
+    @NotNull
+    private static RoomEvent summarize(@NotNull RoomEvent event) {
+        JsonObject summary = new JsonObject();
+        for (Map.Entry<String, JsonElement> entry : event.data().entrySet()) {
+            if (entry.getValue().isJsonPrimitive()) {
+                summary.add(entry.getKey(), entry.getValue());
+            }
+        }
+        return new RoomEvent(event.id(), event.type(), summary);
+    }
+
+    /**
+     * 작업 하나의 이벤트 발행기
+     * 이벤트 번호 부여, 요약 기록, 전달 예약은 잠금 안에서 하고 실제 전달은 잠금 밖에서 합니다.
+     * 전달은 예약된 순서대로 한 번에 한 스레드만 수행하므로 지난 이벤트 재전송과 새 이벤트 전달의 순서가 뒤바뀌지 않습니다.
+     */
+    private final class Publisher {
+        private final String ruid;
+        private final List<RoomEvent> history = new ArrayList<>();
+        private final List<Consumer<RoomEvent>> subscribers = new CopyOnWriteArrayList<>();
+        private final Queue<Runnable> deliveries = new ArrayDeque<>();
+        private boolean delivering;
+        private volatile boolean opened;
+
+        private Publisher(String ruid) {
+            this.ruid = ruid;
+        }
+
+        private void publish(String type, JsonObject data) {
+            synchronized (this) {
+                RoomEvent event = new RoomEvent(history.size() + 1, type, data);
+                history.add(summarize(event));
+                List<Consumer<RoomEvent>> targets = List.copyOf(subscribers);
+                deliveries.add(() -> {
+                    listeners.forEach(listener -> listener.accept(ruid, event));
+                    targets.stream().filter(subscribers::contains).forEach(subscriber -> subscriber.accept(event));
+                });
+            }
+            deliver();
+        }
+
+        private void subscribe(long afterId, Consumer<RoomEvent> listener) {
+            synchronized (this) {
+                List<RoomEvent> missed = history.stream().filter(event -> event.id() > afterId).toList();
+                subscribers.add(listener);
+                deliveries.add(() -> missed.forEach(listener));
+            }
+            deliver();
+        }
+
+        private void unsubscribe(Consumer<RoomEvent> listener) {
+            subscribers.remove(listener);
+        }
+
+        /**
+         * 예약된 전달을 순서대로 실행합니다.
+         * 다른 스레드가 이미 전달 중이면 그 스레드가 이어서 처리합니다.
+         */
+        private void deliver() {
+            synchronized (this) {
+                if (delivering) {
+                    return;
+                }
+                delivering = true;
+            }
+            while (true) {
+                Runnable delivery;
+                synchronized (this) {
+                    delivery = deliveries.poll();
+                    if (delivery == null) {
+                        delivering = false;
+                        return;
+                    }
+                }
+                try {
+                    delivery.run();
+                } catch (RuntimeException e) {
+                    log.warn("이벤트 전달 실패 - ruid: {}, error: {}", ruid, e.getMessage());
+                }
+            }
+        }
+
+        /**
+         * 작업이 시작되지 않았고 구독자도 없는 발행기인지 확인합니다.
+         */
+        private synchronized boolean isIdle() {
+            return !opened && subscribers.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.febrie.eroom.service.journal;
+
+import com.google.gson.JsonElement;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업별 단계 체크포인트 저장소
+ * 완료된 단계의 결과를 RUID별로 메모리에 보관하고 작업 저널에 단계 기록으로 남깁니다.
+ * 재시작 후에는 저널에서 복구한 단계들로 다시 채워, 같은 작업이 마지막 체크포인트부터 이어서 진행되게 합니다.
+ */
+public class JobCheckpointStore {
+
+    private final JobJournal jobJournal;
+    private final Map<String, Map<String, JsonElement>> checkpoints = new ConcurrentHashMap<>();
+
+    public JobCheckpointStore(JobJournal jobJournal) {
+        this.jobJournal = jobJournal;
+    }
+
+    /**
+     * 작업 하나의 체크포인트를 다루는 뷰를 반환합니다.
+     */
+    @NotNull
+    public JobCheckpoints forJob(@NotNull String ruid) {
+        return new JobCheckpoints(ruid);
+    }
+
+    /**
+     * 저널에서 복구한 단계들로 작업의 체크포인트를 채웁니다.
+     * 저널에는 이미 기록되어 있으므로 다시 기록하지 않습니다.
+     */
+    public void restore(@NotNull String ruid, @NotNull Map<String, JsonElement> stages) {
+        if (!stages.isEmpty()) {
+            checkpoints.computeIfAbsent(ruid, key -> new ConcurrentHashMap<>()).putAll(stages);
+        }
+    }
+
+    /**
+     * 작업의 체크포인트를 메모리에서 지웁니다.
+     * 저널의 단계 기록은 최종 결과가 기록된 뒤 압축 때 정리됩니다.
+     */
+    public void clear(@NotNull String ruid) {
+        checkpoints.remove(ruid);
+    }
+
+    /**
+     * 체크포인트가 있는 작업 수를 반환합니다.
+     */
+    public int size() {
+        return checkpoints.size();
+    }
+
+    /**
+     * 작업 하나의 체크포인트 뷰
+     */
+    public final class JobCheckpoints {
+        private final String ruid;
+
+        private JobCheckpoints(String ruid) {
+            this.ruid = ruid;
+        }
+
+        public String getRuid() {
+            return ruid;
+        }
+
+        /**
+         * 단계 결과를 체크포인트로 저장합니다.
+         */
+        public void save(@NotNull String stage, @NotNull JsonElement data) {
+            checkpoints.computeIfAbsent(ruid, key -> new ConcurrentHashMap<>()).put(stage, data);
+            jobJournal.recordStage(ruid, stage, data);
+        }
+
+        /**
+         * 단계의 체크포인트를 조회합니다.
+         */
+        @NotNull
+        public Optional<JsonElement> load(@NotNull String stage) {
+            Map<String, JsonElement> stages = checkpoints.get(ruid);
+            return stages != null ? Optional.ofNullable(stages.get(stage)) : Optional.empty();
+        }
+
+        /**
+         * 이름이 prefix로 시작하는 단계들의 체크포인트를 조회합니다.
+         */
+        @NotNull
+        public Map<String, JsonElement> loadAll(@NotNull String prefix) {
+            Map<String, JsonElement> matched = new LinkedHashMap<>();
+            Map<String, JsonElement> stages = checkpoints.get(ruid);
+            if (stages != null) {
+                stages.forEach((stage, data) -> {
+                    if (stage.startsWith(prefix)) {
+                        matched.put(stage, data);
+                    }
+                });
+            }
+            return matched;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.febrie.eroom.service.journal;
+
+import com.febrie.eroom.service.CompressedResult;
+import com.febrie.eroom.service.JobResultStore;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * 방 생성 작업의 수명 주기를 기록하는 저널
+ * 접수, 처리 시작, 단계 완료, 최종 결과를 순서대로 남기고 재시작 시 재생해 작업을 복구합니다.
+ */
+public interface JobJournal extends AutoCloseable {
+
+    /**
+     * 작업 접수를 기록합니다.
+     * 기록이 디스크에 반영된 뒤 반환합니다.
+     */
+    void recordSubmitted(@NotNull String ruid, @NotNull String tenantId, @NotNull JsonObject request);
+
+    /**
+     * 작업 상태 변경을 기록합니다.
+     */
+    void recordStatus(@NotNull String ruid, @NotNull JobResultStore.Status status);
+
+    /**
+     * 작업 단계 완료를 기록합니다.
+     * 같은 단계가 다시 기록되면 마지막 기록이 유효합니다.
+     */
+    void recordStage(@NotNull String ruid, @NotNull String stage, @NotNull JsonElement data);
+
+    /**
+     * 최종 결과를 압축된 그대로 기록합니다.
+     * 기록이 디스크에 반영된 뒤 반환합니다.
+     */
+    void recordResult(@NotNull String ruid, @NotNull JobResultStore.Status status, @NotNull CompressedResult result);
+
+    /**
+     * 작업 삭제를 기록합니다.
+     */
+    void recordDeleted(@NotNull String ruid);
+
+    /**
+     * 저널을 재생해 남아 있는 작업들을 접수 순서대로 하나씩 전달합니다.
+     * 최종 결과는 작업을 전달할 때 읽으므로, 모든 결과를 한꺼번에 메모리에 올리지 않습니다.
+     */
+    void replay(@NotNull Consumer<RecoveredJob> consumer);
+
+    /**
+     * 저널 상태를 반환합니다.
+     */
+    @NotNull
+    JsonObject getStats();
+
+    @Override
+    void close();
+
+    /**
+     * 아무것도 기록하지 않는 저널을 반환합니다.
+     */
+    @NotNull
+    static JobJournal disabled() {
+        return NoOpJobJournal.INSTANCE;
+    }
+}
@@ -0,0 +1,56 @@
+package com.febrie.eroom.service.journal;
+
+import com.febrie.eroom.service.CompressedResult;
+import com.febrie.eroom.service.JobResultStore;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Consumer;
+
+/**
+ * 저널이 비활성화되었을 때 사용하는 빈 구현체
+ */
+final class NoOpJobJournal implements JobJournal {
+
+    static final NoOpJobJournal INSTANCE = new NoOpJobJournal();
+
+    private NoOpJobJournal() {
+    }
+
+    @Override
+    public void recordSubmitted(@NotNull String ruid, @NotNull String tenantId, @NotNull JsonObject request) {
+    }
+
+    @Override
+    public void recordStatus(@NotNull String ruid, @NotNull JobResultStore.Status status) {
+    }
+
+    @Override
+    public void recordStage(@NotNull String ruid, @NotNull String stage, @NotNull JsonElement data) {
+    }
+
+    @Override
+    public void recordResult(@NotNull String ruid, @NotNull JobResultStore.Status status, @NotNull CompressedResult result) {
+    }
+
+    @Override
+    public void recordDeleted(@NotNull String ruid) {
+    }
+
+    @Override
+    public void replay(@NotNull Consumer<RecoveredJob> consumer) {
+    }
+
+    @NotNull
+    @Override
+    public JsonObject getStats() {
+        JsonObject stats = new JsonObject();
+        stats.addProperty("enabled", false);
+        return stats;
+    }
+
+    @Override
+    public void close() {
+    }
+}
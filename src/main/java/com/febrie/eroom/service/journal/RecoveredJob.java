@@ -0,0 +1,25 @@
+package com.febrie.eroom.service.journal;
+
+import com.febrie.eroom.service.CompressedResult;
+import com.febrie.eroom.service.JobResultStore;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * 저널 재생으로 복구한 작업
+ * 최종 결과가 없으면 status는 QUEUED 또는 PROCESSING이며 다시 처리해야 합니다.
+ */
+public record RecoveredJob(String ruid, String tenantId, JsonObject request, long submittedAt,
+                           JobResultStore.Status status, Map<String, JsonElement> stages,
+                           @Nullable CompressedResult result) {
+
+    /**
+     * 최종 결과가 기록된 작업인지 확인합니다.
+     */
+    public boolean isFinished() {
+        return result != null;
+    }
+}
@@ -0,0 +1,841 @@
+package com.febrie.eroom.service.journal;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.febrie.eroom.service.CompressedResult;
+import com.febrie.eroom.service.JobResultStore;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 세그먼트 파일 기반 작업 저널
+ * 기록은 현재 세그먼트 끝에 [길이][CRC32][JSON] 형식으로 덧붙이며, 세그먼트가 가득 차면 새 파일로 넘어갑니다.
+ * fsync는 플러시 스레드가 모아서 수행하고, 접수와 최종 결과 기록은 다음 fsync가 끝날 때까지 기다립니다.
+ * 닫힌 세그먼트가 일정 개수 이상 쌓이면 작업별 마지막 상태만 남긴 세그먼트 하나로 압축합니다.
+ * 최종 결과는 gzip 바이트 그대로 기록하고, 재생과 압축 중에는 결과 기록의 위치만 들고 있다가 필요할 때 하나씩 읽습니다.
+ */
+public class SegmentedJobJournal implements JobJournal {
+    private static final Logger log = LoggerFactory.getLogger(SegmentedJobJournal.class);
+
+    // 설정 키
+    private static final String KEY_DIRECTORY = "directory";
+    private static final String KEY_SEGMENT_BYTES = "segmentBytes";
+    private static final String KEY_FLUSH_INTERVAL_MS = "flushIntervalMs";
+    private static final String KEY_COMPACTION_SEGMENTS = "compactionSegments";
+    private static final String KEY_RESULT_RETENTION_HOURS = "resultRetentionHours";
+
+    // 기본값
+    private static final String DEFAULT_DIRECTORY = "data/journal";
+    private static final long DEFAULT_SEGMENT_BYTES = 8L * 1024 * 1024;
+    private static final long DEFAULT_FLUSH_INTERVAL_MS = 20;
+    private static final int DEFAULT_COMPACTION_SEGMENTS = 4;
+    private static final long DEFAULT_RESULT_RETENTION_HOURS = 24;
+
+    // 파일 형식
+    private static final String SEGMENT_EXTENSION = ".log";
+    private static final String COMPACT_EXTENSION = ".compact";
+    private static final int HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 64 * 1024 * 1024;
+    private static final long DURABLE_WAIT_SECONDS = 5;
+
+    // 기록 필드
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_RUID = "ruid";
+    private static final String FIELD_TIMESTAMP = "ts";
+    private static final String FIELD_TENANT = "tenant";
+    private static final String FIELD_REQUEST = "request";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_STAGE = "stage";
+    private static final String FIELD_DATA = "data";
+    private static final String FIELD_RESULT = "result";
+    private static final String FIELD_RESULT_GZIP = "resultGzip";
+    private static final String FIELD_RAW_LENGTH = "rawLength";
+
+    // 기록 종류
+    private static final String TYPE_SUBMITTED = "submitted";
+    private static final String TYPE_STATUS = "status";
+    private static final String TYPE_STAGE = "stage";
+    private static final String TYPE_RESULT = "result";
+    private static final String TYPE_DELETED = "deleted";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final long flushIntervalMs;
+    private final int compactionSegments;
+    private final long resultRetentionMs;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // 재생이 읽는 세그먼트를 압축이 지우지 않도록 둘을 배타적으로 실행합니다
+    private final ReentrantLock compactionLock = new ReentrantLock();
+    private final Condition flushRequested = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final TreeSet<Long> sealedSegments = new TreeSet<>();
+    // 세그먼트가 바뀌었지만 아직 fsync하지 않아 열려 있는 이전 세그먼트
+    private final Map<Long, FileChannel> unsyncedSegments = new TreeMap<>();
+    private final Thread flusher;
+
+    private FileChannel activeChannel;
+    private long activeSequence;
+    private long activeBytes;
+    private long appendedRecords;
+    private long durableRecords;
+    private long fsyncs;
+    private long compactions;
+    private long bytesWritten;
+    // 압축에 실패한 마지막 세그먼트 번호, 새 세그먼트가 닫히기 전에는 다시 시도하지 않습니다
+    private long compactionFailedThrough;
+    private volatile boolean closed;
+
+    /**
+     * SegmentedJobJournal 생성자
+     * 중단된 압축을 마무리하고 기존 세그먼트 뒤에 새 세그먼트를 엽니다.
+     */
+    public SegmentedJobJournal(@NotNull Path directory, long segmentBytes, long flushIntervalMs,
+                               int compactionSegments, long resultRetentionMs) {
+        this.directory = directory;
+        this.segmentBytes = Math.max(64 * 1024, segmentBytes);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.compactionSegments = Math.max(2, compactionSegments);
+        this.resultRetentionMs = Math.max(0, resultRetentionMs);
+
+        try {
+            Files.createDirectories(directory);
+            finishInterruptedCompactions();
+            sealedSegments.addAll(listSegments());
+            activeSequence = sealedSegments.isEmpty() ? 1 : sealedSegments.last() + 1;
+            activeChannel = openSegment(activeSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("작업 저널을 열 수 없습니다: " + directory.toAbsolutePath(), e);
+        }
+
+        this.flusher = new Thread(this::runFlusherLoop, "job-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        log.info("작업 저널 초기화 - directory: {}, segments: {}, activeSegment: {}",
+                directory.toAbsolutePath(), sealedSegments.size(), activeSequence);
+    }
+
+    /**
+     * 설정 섹션에서 저널을 생성합니다.
+     */
+    @NotNull
+    public static SegmentedJobJournal fromConfig(@NotNull ConfigSection section) {
+        return new SegmentedJobJournal(
+                Paths.get(section.getString(KEY_DIRECTORY, DEFAULT_DIRECTORY)),
+                section.getLong(KEY_SEGMENT_BYTES, DEFAULT_SEGMENT_BYTES),
+                section.getLong(KEY_FLUSH_INTERVAL_MS, DEFAULT_FLUSH_INTERVAL_MS),
+                section.getInt(KEY_COMPACTION_SEGMENTS, DEFAULT_COMPACTION_SEGMENTS),
+                section.getLong(KEY_RESULT_RETENTION_HOURS, DEFAULT_RESULT_RETENTION_HOURS) * 3600_000L
+        );
+    }
+
+    @Override
+    public void recordSubmitted(@NotNull String ruid, @NotNull String tenantId, @NotNull JsonObject request) {
+        JsonObject entry = newEntry(TYPE_SUBMITTED, ruid);
+        entry.addProperty(FIELD_TENANT, tenantId);
+        entry.add(FIELD_REQUEST, request);
+        append(entry, true);
+    }
+
+    @Override
+    public void recordStatus(@NotNull String ruid, @NotNull JobResultStore.Status status) {
+        JsonObject entry = newEntry(TYPE_STATUS, ruid);
+        entry.addProperty(FIELD_STATUS, status.name());
+        append(entry, false);
+    }
+
+    @Override
+    public void recordStage(@NotNull String ruid, @NotNull String stage, @NotNull JsonElement data) {
+        JsonObject entry = newEntry(TYPE_STAGE, ruid);
+        entry.addProperty(FIELD_STAGE, stage);
+        entry.add(FIELD_DATA, data);
+        append(entry, false);
+    }
+
+    @Override
+    public void recordResult(@NotNull String ruid, @NotNull JobResultStore.Status status, @NotNull CompressedResult result) {
+        ByteBuffer gzip = result.gzipBuffer();
+        byte[] bytes = new byte[gzip.remaining()];
+        gzip.get(bytes);
+
+        JsonObject entry = newEntry(TYPE_RESULT, ruid);
+        entry.addProperty(FIELD_STATUS, status.name());
+        entry.addProperty(FIELD_RAW_LENGTH, result.getRawLength());
+        entry.addProperty(FIELD_RESULT_GZIP, Base64.getEncoder().encodeToString(bytes));
+        append(entry, true);
+    }
+
+    @Override
+    public void recordDeleted(@NotNull String ruid) {
+        append(newEntry(TYPE_DELETED, ruid), false);
+    }
+
+    /**
+     * 닫힌 세그먼트들을 순서대로 재생합니다.
+     * 시작 시 기록을 추가하기 전에 한 번 호출해야 합니다.
+     * 최종 결과는 작업을 전달하기 직전에 세그먼트에서 읽으며, 읽을 수 없는 결과의 작업은 건너뜁니다.
+     */
+    @Override
+    public void replay(@NotNull Consumer<RecoveredJob> consumer) {
+        compactionLock.lock();
+        try {
+            List<Long> segments;
+            lock.lock();
+            try {
+                segments = new ArrayList<>(sealedSegments);
+            } finally {
+                lock.unlock();
+            }
+
+            Map<String, JobRecord> records = fold(segments);
+            long now = System.currentTimeMillis();
+            int jobs = 0;
+            try (RecordReader reader = new RecordReader()) {
+                for (JobRecord record : records.values()) {
+                    if (record.isExpired(now, resultRetentionMs)) {
+                        continue;
+                    }
+                    CompressedResult result = null;
+                    if (record.resultLocation != null) {
+                        try {
+                            result = reader.readResult(record.resultLocation);
+                        } catch (IOException | RuntimeException e) {
+                            log.error("작업 저널 결과 읽기 실패, 작업을 건너뜁니다 - ruid: {}, error: {}", record.ruid, e.getMessage());
+                            continue;
+                        }
+                    }
+                    consumer.accept(record.toRecoveredJob(result));
+                    jobs++;
+                }
+            }
+            log.info("작업 저널 재생 완료 - segments: {}, jobs: {}", segments.size(), jobs);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    @NotNull
+    @Override
+    public JsonObject getStats() {
+        lock.lock();
+        try {
+            JsonObject stats = new JsonObject();
+            stats.addProperty("enabled", true);
+            stats.addProperty("directory", directory.toAbsolutePath().toString());
+            stats.addProperty("segments", sealedSegments.size() + 1);
+            stats.addProperty("activeSegmentBytes", activeBytes);
+            stats.addProperty("appendedRecords", appendedRecords);
+            stats.addProperty("durableRecords", durableRecords);
+            stats.addProperty("fsyncs", fsyncs);
+            stats.addProperty("compactions", compactions);
+            stats.addProperty("bytesWritten", bytesWritten);
+            return stats;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 플러시 스레드를 멈추고 남은 기록을 디스크에 반영한 뒤 닫습니다.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            flush();
+        } catch (IOException e) {
+            log.warn("작업 저널 종료 중 fsync 실패: {}", e.getMessage());
+        }
+
+        lock.lock();
+        try {
+            activeChannel.close();
+            flushed.signalAll();
+            log.info("작업 저널 종료 - appendedRecords: {}, fsyncs: {}", appendedRecords, fsyncs);
+        } catch (IOException e) {
+            log.warn("작업 저널 종료 중 오류: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @NotNull
+    private JsonObject newEntry(@NotNull String type, @NotNull String ruid) {
+        JsonObject entry = new JsonObject();
+        entry.addProperty(FIELD_TYPE, type);
+        entry.addProperty(FIELD_RUID, ruid);
+        entry.addProperty(FIELD_TIMESTAMP, System.currentTimeMillis());
+        return entry;
+    }
+
+    /**
+     * 현재 세그먼트에 기록을 덧붙입니다.
+     * durable이면 플러시 스레드의 다음 fsync가 이 기록을 포함할 때까지 기다립니다.
+     * 기록에 실패해도 작업 처리는 계속되도록 예외를 던지지 않습니다.
+     */
+    private void append(@NotNull JsonObject entry, boolean durable) {
+        if (closed) {
+            return;
+        }
+        ByteBuffer buffer = encode(entry);
+
+        lock.lock();
+        try {
+            if (activeBytes > 0 && activeBytes + buffer.remaining() > segmentBytes) {
+                rollSegment();
+            }
+            activeBytes += writeFully(activeChannel, buffer);
+            long sequence = ++appendedRecords;
+            if (!durable) {
+                return;
+            }
+
+            flushRequested.signal();
+            long remainingNanos = TimeUnit.SECONDS.toNanos(DURABLE_WAIT_SECONDS);
+            while (durableRecords < sequence && !closed && remainingNanos > 0) {
+                remainingNanos = flushed.awaitNanos(remainingNanos);
+            }
+            if (durableRecords < sequence) {
+                log.warn("작업 저널 fsync 대기 시간 초과 - type: {}, ruid: {}",
+                        entry.get(FIELD_TYPE).getAsString(), entry.get(FIELD_RUID).getAsString());
+            }
+        } catch (IOException e) {
+            log.error("작업 저널 기록 실패 - type: {}, ruid: {}, error: {}",
+                    entry.get(FIELD_TYPE).getAsString(), entry.get(FIELD_RUID).getAsString(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 번호의 세그먼트를 엽니다.
+     * 이전 세그먼트는 플러시 스레드가 fsync한 뒤 닫습니다.
+     */
+    private void rollSegment() throws IOException {
+        unsyncedSegments.put(activeSequence, activeChannel);
+        sealedSegments.add(activeSequence);
+        activeSequence++;
+        activeChannel = openSegment(activeSequence);
+        activeBytes = 0;
+        flushRequested.signal();
+    }
+
+    /**
+     * 아직 디스크에 반영되지 않은 기록을 fsync합니다.
+     * 잠금 안에서는 대상 채널과 기록 수만 가져오고 fsync는 잠금 밖에서 하므로, 그동안에도 기록을 덧붙일 수 있습니다.
+     */
+    private void flush() throws IOException {
+        long target;
+        FileChannel active;
+        Map<Long, FileChannel> sealed;
+        lock.lock();
+        try {
+            if (durableRecords == appendedRecords && unsyncedSegments.isEmpty()) {
+                return;
+            }
+            target = appendedRecords;
+            active = activeChannel;
+            sealed = new TreeMap<>(unsyncedSegments);
+        } finally {
+            lock.unlock();
+        }
+
+        for (FileChannel channel : sealed.values()) {
+            channel.force(false);
+            channel.close();
+        }
+        active.force(false);
+
+        lock.lock();
+        try {
+            unsyncedSegments.keySet().removeAll(sealed.keySet());
+            durableRecords = Math.max(durableRecords, target);
+            fsyncs++;
+            flushed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 플러시 스레드의 메인 루프입니다.
+     * flushIntervalMs마다 또는 요청이 있을 때 fsync하고, 필요하면 압축합니다.
+     * 압축에 실패하면 새 세그먼트가 닫힐 때까지 다시 압축하지 않고 평소처럼 기다립니다.
+     */
+    private void runFlusherLoop() {
+        while (!closed) {
+            lock.lock();
+            try {
+                if (durableRecords == appendedRecords && unsyncedSegments.isEmpty() && !isCompactionDue()) {
+                    flushRequested.await(flushIntervalMs, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                lock.unlock();
+            }
+
+            boolean compactionDue;
+            try {
+                flush();
+                lock.lock();
+                try {
+                    compactionDue = isCompactionDue();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (IOException e) {
+                log.error("작업 저널 fsync 실패: {}", e.getMessage());
+                compactionDue = false;
+            }
+
+            if (compactionDue) {
+                compact();
+            }
+        }
+    }
+
+    /**
+     * 닫힌 세그먼트들을 하나로 압축합니다.
+     * 작업별로 접수, 처리 상태, 단계별 마지막 기록, 최종 결과만 남기며,
+     * 삭제된 작업과 보존 기간이 지난 결과는 버립니다.
+     * 압축 파일을 fsync한 뒤 이전 세그먼트를 지우고 마지막 세그먼트 번호로 이름을 바꿉니다.
+     */
+    private void compact() {
+        compactionLock.lock();
+        try {
+            compactSegments();
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    private void compactSegments() {
+        List<Long> segments = compactableSegments();
+        if (segments.size() < 2) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long targetSequence = segments.get(segments.size() - 1);
+        Path compactPath = compactPath(targetSequence);
+        try {
+            Map<String, JobRecord> records = fold(segments);
+            long written = writeCompacted(compactPath, records.values(), startTime);
+            for (Long sequence : segments) {
+                if (sequence != targetSequence) {
+                    Files.deleteIfExists(segmentPath(sequence));
+                }
+            }
+            Files.move(compactPath, segmentPath(targetSequence),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            lock.lock();
+            try {
+                sealedSegments.removeAll(segments);
+                sealedSegments.add(targetSequence);
+                compactions++;
+            } finally {
+                lock.unlock();
+            }
+            log.info("작업 저널 압축 완료 - segments: {} -> 1, jobs: {}, bytes: {}, duration: {}ms",
+                    segments.size(), records.size(), written, System.currentTimeMillis() - startTime);
+        } catch (IOException e) {
+            log.error("작업 저널 압축 실패, 다음 세그먼트가 닫힐 때 다시 시도합니다: {}", e.getMessage());
+            deleteQuietly(compactPath);
+            lock.lock();
+            try {
+                compactionFailedThrough = targetSequence;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * fsync를 마친 닫힌 세그먼트가 압축할 만큼 쌓였는지 확인합니다.
+     * 마지막으로 실패한 압축 이후 새로 닫힌 세그먼트가 없으면 false입니다.
+     * 잠금을 가진 상태에서 호출해야 합니다.
+     */
+    private boolean isCompactionDue() {
+        if (sealedSegments.size() - unsyncedSegments.size() < compactionSegments) {
+            return false;
+        }
+        return sealedSegments.last() > compactionFailedThrough;
+    }
+
+    /**
+     * fsync를 마치고 닫힌 세그먼트 번호를 반환합니다.
+     */
+    @NotNull
+    private List<Long> compactableSegments() {
+        lock.lock();
+        try {
+            List<Long> segments = new ArrayList<>(sealedSegments);
+            segments.removeAll(unsyncedSegments.keySet());
+            return segments;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 압축된 기록을 파일에 쓰고 fsync합니다.
+     * 최종 결과 기록은 풀지 않고 원래 세그먼트에서 하나씩 그대로 복사합니다.
+     */
+    private long writeCompacted(@NotNull Path path, @NotNull Collection<JobRecord> records, long now) throws IOException {
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             RecordReader reader = new RecordReader()) {
+            for (JobRecord record : records) {
+                if (record.isExpired(now, resultRetentionMs)) {
+                    continue;
+                }
+                for (JsonObject entry : record.toEntries()) {
+                    written += writeFully(channel, encode(entry));
+                }
+                if (record.resultLocation != null) {
+                    written += writeFully(channel, reader.read(record.resultLocation));
+                }
+            }
+            channel.force(true);
+        }
+        return written;
+    }
+
+    /**
+     * 세그먼트들을 순서대로 읽어 작업별 상태로 합칩니다.
+     */
+    @NotNull
+    private Map<String, JobRecord> fold(@NotNull List<Long> segments) {
+        Map<String, JobRecord> records = new LinkedHashMap<>();
+        for (Long sequence : segments) {
+            readSegment(sequence, (entry, location) -> apply(records, entry, location));
+        }
+        return records;
+    }
+
+    private void apply(@NotNull Map<String, JobRecord> records, @NotNull JsonObject entry, @NotNull RecordLocation location) {
+        String ruid = entry.get(FIELD_RUID).getAsString();
+        long timestamp = entry.get(FIELD_TIMESTAMP).getAsLong();
+        JobRecord record = records.computeIfAbsent(ruid, JobRecord::new);
+
+        switch (entry.get(FIELD_TYPE).getAsString()) {
+            case TYPE_SUBMITTED -> {
+                record.tenantId = entry.get(FIELD_TENANT).getAsString();
+                record.request = entry.getAsJsonObject(FIELD_REQUEST);
+                record.submittedAt = timestamp;
+            }
+            case TYPE_STATUS -> record.status = JobResultStore.Status.valueOf(entry.get(FIELD_STATUS).getAsString());
+            case TYPE_STAGE -> record.stages.put(entry.get(FIELD_STAGE).getAsString(), entry.get(FIELD_DATA));
+            case TYPE_RESULT -> {
+                record.status = JobResultStore.Status.valueOf(entry.get(FIELD_STATUS).getAsString());
+                record.resultLocation = location;
+                record.finishedAt = timestamp;
+            }
+            case TYPE_DELETED -> records.remove(ruid);
+            default -> log.warn("알 수 없는 작업 저널 기록 종류: {}", entry.get(FIELD_TYPE));
+        }
+    }
+
+    /**
+     * 세그먼트의 기록을 처음부터 순서대로 읽어 기록과 그 위치를 전달합니다.
+     * 세그먼트 전체를 메모리에 올리지 않고 기록 하나씩 읽습니다.
+     * 길이나 CRC가 맞지 않는 기록을 만나면 그 뒤는 기록 도중 중단된 것으로 보고 무시합니다.
+     */
+    private void readSegment(long sequence, @NotNull BiConsumer<JsonObject, RecordLocation> consumer) {
+        Path path = segmentPath(sequence);
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            long size = Files.size(path);
+            long position = 0;
+            while (size - position >= HEADER_BYTES) {
+                int length = input.readInt();
+                int checksum = input.readInt();
+                if (length <= 0 || length > MAX_RECORD_BYTES || length > size - position - HEADER_BYTES) {
+                    logTornRecord(path, position);
+                    return;
+                }
+
+                byte[] payload = input.readNBytes(length);
+                if (payload.length != length || checksum(payload) != checksum) {
+                    logTornRecord(path, position);
+                    return;
+                }
+                consumer.accept(parse(payload), new RecordLocation(sequence, position, HEADER_BYTES + length));
+                position += HEADER_BYTES + length;
+            }
+            if (position < size) {
+                logTornRecord(path, position);
+            }
+        } catch (IOException e) {
+            log.error("작업 저널 세그먼트 읽기 실패: {} - {}", path.getFileName(), e.getMessage());
+        }
+    }
+
+    @NotNull
+    private static JsonObject parse(byte @NotNull [] payload) {
+        return JsonParser.parseString(new String(payload, StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+
+    private void logTornRecord(@NotNull Path path, long position) {
+        log.warn("작업 저널 세그먼트 끝의 손상된 기록을 무시합니다: {} (offset {})", path.getFileName(), position);
+    }
+
+    /**
+     * 이전 실행에서 중단된 압축을 마무리합니다.
+     * 압축 파일은 fsync된 뒤에만 이전 세그먼트를 지우므로, 남아 있는 압축 파일은 완전합니다.
+     */
+    private void finishInterruptedCompactions() throws IOException {
+        List<Path> compactFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            compactFiles = files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_EXTENSION + COMPACT_EXTENSION))
+                    .toList();
+        }
+        for (Path compactFile : compactFiles) {
+            String fileName = compactFile.getFileName().toString();
+            long targetSequence = Long.parseLong(fileName.substring(0, fileName.indexOf('.')));
+            for (Long sequence : listSegments()) {
+                if (sequence < targetSequence) {
+                    Files.deleteIfExists(segmentPath(sequence));
+                }
+            }
+            Files.move(compactFile, segmentPath(targetSequence),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("중단된 작업 저널 압축을 마무리했습니다: {}", fileName);
+        }
+    }
+
+    @NotNull
+    private List<Long> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_EXTENSION))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_EXTENSION.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    @NotNull
+    private FileChannel openSegment(long sequence) throws IOException {
+        return FileChannel.open(segmentPath(sequence), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    @NotNull
+    private Path segmentPath(long sequence) {
+        return directory.resolve(String.format("%020d%s", sequence, SEGMENT_EXTENSION));
+    }
+
+    @NotNull
+    private Path compactPath(long sequence) {
+        return directory.resolve(String.format("%020d%s%s", sequence, SEGMENT_EXTENSION, COMPACT_EXTENSION));
+    }
+
+    @NotNull
+    private static ByteBuffer encode(@NotNull JsonObject entry) {
+        byte[] payload = entry.toString().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt(checksum(payload));
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    private long writeFully(@NotNull FileChannel channel, @NotNull ByteBuffer buffer) throws IOException {
+        int length = buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        bytesWritten += length;
+        return length;
+    }
+
+    private static int checksum(byte @NotNull [] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 재생 중 합쳐지는 작업별 상태
+     */
+    private static final class JobRecord {
+        private final String ruid;
+        private final Map<String, JsonElement> stages = new LinkedHashMap<>();
+        private String tenantId;
+        private JsonObject request;
+        private long submittedAt;
+        private JobResultStore.Status status = JobResultStore.Status.QUEUED;
+        private RecordLocation resultLocation;
+        private long finishedAt;
+
+        private JobRecord(String ruid) {
+            this.ruid = ruid;
+        }
+
+        private boolean isExpired(long now, long retentionMs) {
+            return resultLocation != null && retentionMs > 0 && now - finishedAt > retentionMs;
+        }
+
+        @NotNull
+        private RecoveredJob toRecoveredJob(@Nullable CompressedResult result) {
+            return new RecoveredJob(ruid, tenantId, request, submittedAt, status,
+                    Collections.unmodifiableMap(new LinkedHashMap<>(stages)), result);
+        }
+
+        /**
+         * 이 작업의 현재 상태를 다시 만드는 최소한의 기록들을 반환합니다.
+         * 최종 결과가 있는 작업의 단계 체크포인트는 더 이상 필요 없으므로 버리고,
+         * 최종 결과 기록은 호출자가 원래 세그먼트에서 복사합니다.
+         */
+        @NotNull
+        private List<JsonObject> toEntries() {
+            List<JsonObject> entries = new ArrayList<>(stages.size() + 3);
+            if (request != null) {
+                JsonObject submitted = entry(TYPE_SUBMITTED, submittedAt);
+                submitted.addProperty(FIELD_TENANT, tenantId);
+                submitted.add(FIELD_REQUEST, request);
+                entries.add(submitted);
+            }
+            if (resultLocation == null && status != JobResultStore.Status.QUEUED) {
+                JsonObject statusEntry = entry(TYPE_STATUS, submittedAt);
+                statusEntry.addProperty(FIELD_STATUS, status.name());
+                entries.add(statusEntry);
+            }
+            if (resultLocation == null) {
+                stages.forEach((stage, data) -> {
+                    JsonObject stageEntry = entry(TYPE_STAGE, submittedAt);
+                    stageEntry.addProperty(FIELD_STAGE, stage);
+                    stageEntry.add(FIELD_DATA, data);
+                    entries.add(stageEntry);
+                });
+            }
+            return entries;
+        }
+
+        @NotNull
+        private JsonObject entry(@NotNull String type, long timestamp) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty(FIELD_TYPE, type);
+            entry.addProperty(FIELD_RUID, ruid);
+            entry.addProperty(FIELD_TIMESTAMP, timestamp);
+            return entry;
+        }
+    }
+
+    /**
+     * 세그먼트 안에서 헤더를 포함한 기록 하나의 위치
+     */
+    private record RecordLocation(long sequence, long position, int length) {
+    }
+
+    /**
+     * 기록 위치로 세그먼트에서 기록을 하나씩 읽는 도구
+     * 세그먼트마다 채널을 한 번만 열고, 닫을 때 모두 닫습니다.
+     */
+    private final class RecordReader implements AutoCloseable {
+        private final Map<Long, FileChannel> channels = new HashMap<>();
+
+        /**
+         * 헤더를 포함한 기록 바이트를 읽고 CRC를 확인합니다.
+         */
+        @NotNull
+        private ByteBuffer read(@NotNull RecordLocation location) throws IOException {
+            FileChannel channel = channels.get(location.sequence());
+            if (channel == null) {
+                channel = FileChannel.open(segmentPath(location.sequence()), StandardOpenOption.READ);
+                channels.put(location.sequence(), channel);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate(location.length());
+            long position = location.position();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException("작업 저널 기록이 잘렸습니다: " + location);
+                }
+                position += read;
+            }
+            buffer.flip();
+
+            byte[] payload = new byte[location.length() - HEADER_BYTES];
+            buffer.get(HEADER_BYTES, payload);
+            if (checksum(payload) != buffer.getInt(Integer.BYTES)) {
+                throw new IOException("작업 저널 기록의 CRC가 맞지 않습니다: " + location);
+            }
+            return buffer;
+        }
+
+        /**
+         * 최종 결과 기록을 읽어 압축된 결과로 만듭니다.
+         * 압축 바이트를 기록하기 전의 JSON 결과 기록도 읽을 수 있습니다.
+         */
+        @NotNull
+        private CompressedResult readResult(@NotNull RecordLocation location) throws IOException {
+            ByteBuffer buffer = read(location);
+            byte[] payload = new byte[location.length() - HEADER_BYTES];
+            buffer.get(HEADER_BYTES, payload);
+            JsonObject entry = parse(payload);
+            if (entry.has(FIELD_RESULT_GZIP)) {
+                byte[] gzip = Base64.getDecoder().decode(entry.get(FIELD_RESULT_GZIP).getAsString());
+                return CompressedResult.wrap(ByteBuffer.wrap(gzip), entry.get(FIELD_RAW_LENGTH).getAsInt());
+            }
+            return CompressedResult.of(entry.getAsJsonObject(FIELD_RESULT));
+        }
+
+        @Override
+        public void close() {
+            for (FileChannel channel : channels.values()) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    log.debug("작업 저널 세그먼트 닫기 실패: {}", e.getMessage());
+                }
+            }
+            channels.clear();
+        }
+    }
+}
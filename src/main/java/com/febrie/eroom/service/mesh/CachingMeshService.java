@@ -0,0 +1,236 @@
+package com.febrie.eroom.service.mesh;
+
+import com.febrie.eroom.service.cache.TieredCache;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 프롬프트 기반 모델 캐시 데코레이터
+ * 정규화한 프롬프트의 해시로 이전 생성 결과를 찾고, 없을 때만 실제 모델 서비스를 호출합니다.
+ * 같은 프롬프트의 동시 요청은 하나의 생성 작업을 공유합니다.
+ * 호출자마다 별도의 Future를 받으며, 공유하는 호출자가 모두 취소하면 실제 생성 작업도 취소합니다.
+ */
+public class CachingMeshService implements MeshService, AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(CachingMeshService.class);
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern EDGE_PUNCTUATION = Pattern.compile("^[\\p{Punct}\\s]+|[\\p{Punct}\\s]+$");
+
+    // 캐시하지 않는 결과 접두사
+    private static final String[] UNCACHEABLE_PREFIXES = {"error-", "timeout-", "pending-"};
+
+    private final MeshService delegate;
+    private final String namespace;
+    private final TieredCache cache;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * CachingMeshService 생성자
+     * 네임스페이스는 서로 다른 모델 서비스의 결과가 섞이지 않도록 키에 포함됩니다.
+     */
+    public CachingMeshService(MeshService delegate, String namespace, TieredCache cache) {
+        this.delegate = delegate;
+        this.namespace = namespace;
+        this.cache = cache;
+    }
+
+    /**
+     * 프롬프트를 정규화합니다.
+     * 유니코드 정규화, 소문자 변환, 공백 축약, 양 끝 구두점 제거를 적용합니다.
+     */
+    @NotNull
+    public static String normalizePrompt(@NotNull String prompt) {
+        String normalized = Normalizer.normalize(prompt, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ");
+        return EDGE_PUNCTUATION.matcher(normalized).replaceAll("");
+    }
+
+    @Override
+    public String generateModel(String prompt, String objectName, int keyIndex) {
+        String key = createKey(prompt);
+        Optional<String> cached = lookup(key, objectName);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        String result = delegate.generateModel(prompt, objectName, keyIndex);
+        store(key, prompt, result);
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<String> generateModelAsync(String prompt, String objectName, int keyIndex, Executor executor) {
+        return generateWithCache(prompt, objectName,
+                () -> delegate.generateModelAsync(prompt, objectName, keyIndex, executor));
+    }
+
+    @Override
+    public CompletableFuture<String> generateModelAsync(String prompt, String objectName, int keyIndex, Executor executor,
+                                                        ModelTaskState resumeState, Consumer<ModelTaskState> onProgress) {
+        return generateWithCache(prompt, objectName,
+                () -> delegate.generateModelAsync(prompt, objectName, keyIndex, executor, resumeState, onProgress));
+    }
+
+    /**
+     * 캐시를 먼저 확인하고, 없으면 진행 중인 같은 프롬프트의 생성을 공유하거나 새로 생성합니다.
+     */
+    @NotNull
+    private CompletableFuture<String> generateWithCache(String prompt, String objectName,
+                                                        @NotNull Supplier<CompletableFuture<String>> generation) {
+        String key = createKey(prompt);
+        Optional<String> cached = lookup(key, objectName);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get());
+        }
+
+        InFlight created = new InFlight();
+        InFlight existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            log.info("{}의 모델은 동일 프롬프트의 진행 중인 생성 결과를 공유합니다", objectName);
+            return existing.addWaiter();
+        }
+
+        CompletableFuture<String> waiter = created.addWaiter();
+        CompletableFuture<String> started;
+        try {
+            started = generation.get();
+        } catch (Exception e) {
+            started = CompletableFuture.failedFuture(e);
+        }
+        started.whenComplete((result, error) -> {
+            inFlight.remove(key, created);
+            if (error != null) {
+                created.result.completeExceptionally(error);
+                return;
+            }
+            store(key, prompt, result);
+            created.result.complete(result);
+        });
+        created.start(started);
+        return waiter;
+    }
+
+    /**
+     * 캐시 지표를 반환합니다.
+     */
+    @NotNull
+    public JsonObject getCacheStats() {
+        JsonObject stats = cache.toJson();
+        stats.addProperty("inFlight", inFlight.size());
+        return stats;
+    }
+
+    /**
+     * 내부 모델 서비스를 종료합니다.
+     * 종료 중 오류는 로그만 남기며, 인터럽트 상태는 유지합니다.
+     */
+    @Override
+    public void close() {
+        if (delegate instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("모델 서비스 종료 중 인터럽트 발생");
+            } catch (Exception e) {
+                log.warn("모델 서비스 종료 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    @NotNull
+    private String createKey(@NotNull String prompt) {
+        return TieredCache.hashKey(namespace, normalizePrompt(prompt));
+    }
+
+    /**
+     * 캐시에서 결과를 조회합니다.
+     */
+    @NotNull
+    private Optional<String> lookup(String key, String objectName) {
+        Optional<String> cached = cache.get(key)
+                .filter(JsonElement::isJsonObject)
+                .map(value -> value.getAsJsonObject().get("result"))
+                .filter(JsonElement::isJsonPrimitive)
+                .map(JsonElement::getAsString);
+        cached.ifPresent(result -> log.info("{}의 모델 캐시 적중: {}", objectName, result));
+        return cached;
+    }
+
+    /**
+     * 정상 결과만 캐시에 저장합니다.
+     */
+    private void store(String key, String prompt, String result) {
+        if (!isCacheable(result)) {
+            return;
+        }
+
+        JsonObject value = new JsonObject();
+        value.addProperty("result", result);
+        value.addProperty("prompt", normalizePrompt(prompt));
+        cache.put(key, value);
+    }
+
+    /**
+     * 진행 중인 생성 작업과 이를 기다리는 호출자 수
+     */
+    private static final class InFlight {
+        private final CompletableFuture<String> result = new CompletableFuture<>();
+        private CompletableFuture<String> generation;
+        private int waiters;
+
+        /**
+         * 호출자용 Future를 만듭니다. 이 Future를 취소해도 다른 호출자에게는 영향이 없습니다.
+         */
+        @NotNull
+        private synchronized CompletableFuture<String> addWaiter() {
+            waiters++;
+            CompletableFuture<String> waiter = result.copy();
+            waiter.whenComplete((value, error) -> {
+                if (waiter.isCancelled()) {
+                    removeWaiter();
+                }
+            });
+            return waiter;
+        }
+
+        private synchronized void start(@NotNull CompletableFuture<String> generation) {
+            this.generation = generation;
+            if (waiters == 0) {
+                generation.cancel(true);
+            }
+        }
+
+        private synchronized void removeWaiter() {
+            if (--waiters == 0 && generation != null) {
+                generation.cancel(true);
+            }
+        }
+    }
+
+    private boolean isCacheable(String result) {
+        if (result == null || result.isBlank()) {
+            return false;
+        }
+        for (String prefix : UNCACHEABLE_PREFIXES) {
+            if (result.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,26 @@
 package com.febrie.eroom.service.mesh;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
 public interface MeshService {
     String generateModel(String prompt, String objectName, int keyIndex);
-}
\ No newline at end of file
+
+    /**
+     * 모델을 비동기로 생성합니다.
+     * 비동기 API를 지원하지 않는 구현체는 주어진 실행기에서 동기 메서드를 실행합니다.
+     */
+    default CompletableFuture<String> generateModelAsync(String prompt, String objectName, int keyIndex, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> generateModel(prompt, objectName, keyIndex), executor);
+    }
+
+    /**
+     * 이전 진행 상태에서 이어서 모델을 비동기로 생성합니다.
+     * 외부 작업이 만들어질 때마다 onProgress로 상태를 알리며, 외부 작업이 없는 구현체는 처음부터 생성합니다.
+     */
+    default CompletableFuture<String> generateModelAsync(String prompt, String objectName, int keyIndex, Executor executor,
+                                                         ModelTaskState resumeState, Consumer<ModelTaskState> onProgress) {
+        return generateModelAsync(prompt, objectName, keyIndex, executor);
+    }
+}
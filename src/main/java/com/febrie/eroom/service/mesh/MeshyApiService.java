@@ -1,7 +1,7 @@
 package com.febrie.eroom.service.mesh;
 
 import com.febrie.eroom.config.ApiKeyProvider;
-import com.google.gson.JsonElement;
+import com.febrie.eroom.config.ConfigSection;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import okhttp3.*;
@@ -12,20 +12,24 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
-public class MeshyApiService implements MeshService {
+public class MeshyApiService implements MeshService, AutoCloseable {
     private static final Logger log = LoggerFactory.getLogger(MeshyApiService.class);
 
     // HTTP 관련 상수
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
     private static final String MESHY_API_BASE_URL = "https://api.meshy.ai/openapi/v2/text-to-3d";
     private static final int TIMEOUT_SECONDS = 30;
-
-    // 폴링 관련 상수 - 5분간 2초마다 폴링
-    private static final int MAX_POLLING_ATTEMPTS = 150; // 5분 * 60초 / 2초 = 150회
-    private static final int POLLING_INTERVAL_MS = 2000; // 2초
+    private static final int MAX_REQUESTS_PER_HOST = 32;
 
     // 폴리곤 수 설정 상수
     private static final int PREVIEW_POLYCOUNT = 32768;
@@ -33,28 +37,31 @@ public class MeshyApiService implements MeshService {
 
     // 응답 필드 상수
     private static final String FIELD_RESULT = "result";
-    private static final String FIELD_STATUS = "status";
-    private static final String FIELD_PROGRESS = "progress";
-    private static final String FIELD_TASK_ERROR = "task_error";
-    private static final String FIELD_MESSAGE = "message";
     private static final String FIELD_MODEL_URLS = "model_urls";
     private static final String FIELD_FBX = "fbx";
 
-    // 상태 상수
-    private static final String STATUS_SUCCEEDED = "SUCCEEDED";
-    private static final String STATUS_FAILED = "FAILED";
-    private static final String STATUS_CANCELED = "CANCELED";
-
     private final ApiKeyProvider apiKeyProvider;
     private final OkHttpClient httpClient;
+    private final MeshyPollingPolicy pollingPolicy;
+    private final MeshyTaskPoller taskPoller;
 
     /**
      * MeshyApiService 생성자
-     * Meshy API 서비스를 초기화합니다.
+     * 기본 폴링 정책으로 Meshy API 서비스를 초기화합니다.
      */
     public MeshyApiService(ApiKeyProvider apiKeyProvider) {
+        this(apiKeyProvider, new ConfigSection(null));
+    }
+
+    /**
+     * MeshyApiService 생성자
+     * 폴링 설정 섹션으로 Meshy API 서비스를 초기화합니다.
+     */
+    public MeshyApiService(ApiKeyProvider apiKeyProvider, ConfigSection pollingConfig) {
         this.apiKeyProvider = apiKeyProvider;
         this.httpClient = createHttpClient();
+        this.pollingPolicy = MeshyPollingPolicy.fromConfig(pollingConfig);
+        this.taskPoller = new MeshyTaskPoller(httpClient, MESHY_API_BASE_URL, pollingPolicy);
     }
 
     /**
@@ -63,41 +70,110 @@ public class MeshyApiService implements MeshService {
      */
     @Override
     public String generateModel(String prompt, String objectName, int keyIndex) {
+        return generateModelAsync(prompt, objectName, keyIndex, Runnable::run).join();
+    }
+
+    /**
+     * 3D 모델을 비동기로 생성합니다.
+     * 모든 HTTP 호출과 상태 폴링이 비동기로 진행되어 호출 스레드를 점유하지 않습니다.
+     */
+    @Override
+    public CompletableFuture<String> generateModelAsync(String prompt, String objectName, int keyIndex, Executor executor) {
+        return generateModelAsync(prompt, objectName, keyIndex, executor, ModelTaskState.EMPTY, state -> {
+        });
+    }
+
+    /**
+     * 이전 진행 상태에서 이어서 3D 모델을 비동기로 생성합니다.
+     * 정제 작업 ID가 있으면 정제 완료만 기다리고, 프리뷰 작업 ID만 있으면 프리뷰 완료부터 기다립니다.
+     * 새 프리뷰나 정제 작업이 만들어지면 onProgress로 작업 ID를 알립니다.
+     * 반환된 Future를 취소하면 추적 중인 작업의 폴링을 멈추고 다음 단계 작업을 만들지 않습니다.
+     */
+    @Override
+    public CompletableFuture<String> generateModelAsync(String prompt, String objectName, int keyIndex, Executor executor,
+                                                        ModelTaskState resumeState, Consumer<ModelTaskState> onProgress) {
         try {
             String apiKey = apiKeyProvider.getMeshyKey(keyIndex);
-            log.info("{}의 모델 생성 시작, 키 인덱스: {}", objectName, keyIndex);
-            return processModelGeneration(prompt, objectName, apiKey);
+            Generation generation = new Generation();
+            CompletableFuture<String> result = resumeOrStart(generation, prompt, objectName, keyIndex, apiKey, resumeState, onProgress)
+                    .exceptionally(e -> logAndReturnError(objectName, "모델 생성 중 오류 발생: " + e.getMessage(), "general"));
+            result.whenComplete((modelId, error) -> {
+                if (result.isCancelled()) {
+                    log.info("{}의 모델 생성 취소", objectName);
+                    generation.cancel();
+                }
+            });
+            return result;
         } catch (Exception e) {
             log.error("{}의 모델 생성 중 오류 발생: {}", objectName, e.getMessage());
-            return generateErrorId("general");
+            return CompletableFuture.completedFuture(generateErrorId("general"));
         }
     }
 
+    /**
+     * 현재 추적 중인 Meshy 작업 수를 반환합니다.
+     */
+    public int getTrackedTaskCount() {
+        return taskPoller.getTrackedTaskCount();
+    }
+
+    /**
+     * 단계별 예상 완료 시간을 반환합니다.
+     */
+    public Map<String, Long> getExpectedStageDurations() {
+        return pollingPolicy.getExpectedDurations();
+    }
+
     /**
      * HTTP 클라이언트를 생성합니다.
+     * 상태 조회가 한 호스트에 몰리므로 호스트당 동시 요청 수를 늘립니다.
      */
     @NotNull
     @Contract(" -> new")
     private OkHttpClient createHttpClient() {
-        return new OkHttpClient.Builder().connectTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS).readTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS).writeTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS).build();
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+        return new OkHttpClient.Builder().dispatcher(dispatcher).connectTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS).readTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS).writeTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS).build();
+    }
+
+    /**
+     * 진행 상태에 따라 기존 Meshy 작업에 다시 연결하거나 새로 생성을 시작합니다.
+     */
+    @NotNull
+    private CompletableFuture<String> resumeOrStart(@NotNull Generation generation, String prompt, String objectName, int keyIndex, String apiKey,
+                                                    @NotNull ModelTaskState resumeState, Consumer<ModelTaskState> onProgress) {
+        if (resumeState.refineId() != null) {
+            log.info("{}의 기존 정제 작업에 다시 연결: {}", objectName, resumeState.refineId());
+            return processRefine(generation, resumeState.refineId(), objectName, apiKey);
+        }
+        if (resumeState.previewId() != null) {
+            log.info("{}의 기존 프리뷰 작업에 다시 연결: {}", objectName, resumeState.previewId());
+            return processPreview(generation, resumeState, objectName, apiKey, onProgress);
+        }
+        log.info("{}의 모델 생성 시작, 키 인덱스: {}", objectName, keyIndex);
+        return processModelGeneration(generation, prompt, objectName, apiKey, onProgress);
     }
 
     /**
      * 모델 생성 프로세스를 처리합니다.
      */
     @NotNull
-    private String processModelGeneration(String prompt, String objectName, String apiKey) {
-        try {
-            String previewId = createPreview(prompt, apiKey);
+    private CompletableFuture<String> processModelGeneration(@NotNull Generation generation, String prompt, String objectName, String apiKey,
+                                                             Consumer<ModelTaskState> onProgress) {
+        return createPreview(prompt, apiKey).handle((previewId, error) -> {
+            if (error != null) {
+                return CompletableFuture.completedFuture(
+                        logAndReturnError(objectName, "프리뷰 생성 단계에서 오류 발생: " + error.getMessage(), "preview-exception"));
+            }
             if (previewId == null) {
-                return logAndReturnError(objectName, "프리뷰 생성 실패", "preview");
+                return CompletableFuture.completedFuture(logAndReturnError(objectName, "프리뷰 생성 실패", "preview"));
             }
 
             log.info("{}의 프리뷰가 ID: {}로 생성됨", objectName, previewId);
-            return processPreview(previewId, objectName, apiKey);
-        } catch (Exception e) {
-            return logAndReturnError(objectName, "프리뷰 생성 단계에서 오류 발생: " + e.getMessage(), "preview-exception");
-        }
+            ModelTaskState state = ModelTaskState.EMPTY.withPreviewId(previewId);
+            onProgress.accept(state);
+            return processPreview(generation, state, objectName, apiKey, onProgress);
+        }).thenCompose(Function.identity());
     }
 
     /**
@@ -111,50 +187,65 @@ public class MeshyApiService implements MeshService {
 
     /**
      * 프리뷰를 처리합니다.
+     * 공유 폴러에서 프리뷰 완료를 기다린 뒤 정제 단계로 이어집니다.
      */
     @NotNull
-    private String processPreview(String previewId, String objectName, String apiKey) {
-        try {
-            if (isTaskFailed(previewId, apiKey, "프리뷰", objectName)) {
+    private CompletableFuture<String> processPreview(@NotNull Generation generation, @NotNull ModelTaskState state, String objectName, String apiKey,
+                                                     Consumer<ModelTaskState> onProgress) {
+        String previewId = state.previewId();
+        return generation.track(() -> taskPoller.track(previewId, apiKey, "프리뷰", objectName)).handle((previewDetails, error) -> {
+            if (error != null) {
                 log.error("{}의 프리뷰 생성 실패 또는 시간 초과", objectName);
-                return generateTimeoutId("preview", previewId);
+                return CompletableFuture.completedFuture(generateTimeoutId("preview", previewId));
             }
 
             // 프리뷰 성공 로깅
             log.info("{}의 프리뷰 생성 완료 (ID: {})", objectName, previewId);
 
-            return refineModelAfterPreview(previewId, objectName, apiKey);
-        } catch (Exception e) {
-            log.error("{}의 프리뷰 완료 대기 중 오류 발생: {}", objectName, e.getMessage());
-            return generateErrorId("wait-exception", previewId);
-        }
+            return refineModelAfterPreview(generation, state, objectName, apiKey, onProgress);
+        }).thenCompose(Function.identity());
     }
 
     /**
      * 프리뷰 후 모델을 정제합니다.
      */
     @NotNull
-    private String refineModelAfterPreview(String previewId, String objectName, String apiKey) {
-        try {
-            String refineId = refineModel(previewId, apiKey);
+    private CompletableFuture<String> refineModelAfterPreview(@NotNull Generation generation, @NotNull ModelTaskState state,
+                                                              String objectName, String apiKey,
+                                                              Consumer<ModelTaskState> onProgress) {
+        String previewId = state.previewId();
+        if (generation.isCancelled()) {
+            log.info("{}의 모델 생성이 취소되어 정제를 시작하지 않습니다", objectName);
+            return CompletableFuture.completedFuture(generateErrorId("cancelled", previewId));
+        }
+        return refineModel(previewId, apiKey).handle((refineId, error) -> {
+            if (error != null) {
+                log.error("{}의 모델 정제 단계에서 오류 발생: {}", objectName, error.getMessage());
+                return CompletableFuture.completedFuture(generateErrorId("refine-exception", previewId));
+            }
             if (refineId == null) {
                 log.error("{}의 모델 정제 실패", objectName);
-                return generateErrorId("refine", previewId);
+                return CompletableFuture.completedFuture(generateErrorId("refine", previewId));
             }
 
             logRefineStart(objectName, refineId);
+            onProgress.accept(state.withRefineId(refineId));
+            return processRefine(generation, refineId, objectName, apiKey);
+        }).thenCompose(Function.identity());
+    }
 
-            if (isTaskFailed(refineId, apiKey, "정제", objectName)) {
+    /**
+     * 정제 작업 완료를 기다리고 최종 URL을 추출합니다.
+     */
+    @NotNull
+    private CompletableFuture<String> processRefine(@NotNull Generation generation, String refineId, String objectName, String apiKey) {
+        return generation.track(() -> taskPoller.track(refineId, apiKey, "정제", objectName)).handle((taskDetails, error) -> {
+            if (error != null) {
                 log.error("{}의 정제 작업 실패 또는 시간 초과", objectName);
                 return generateTimeoutId("refine", refineId);
             }
-
-            return extractFinalModelUrl(refineId, objectName, apiKey);
-
-        } catch (Exception e) {
-            log.error("{}의 모델 정제 단계에서 오류 발생: {}", objectName, e.getMessage());
-            return generateErrorId("refine-exception", previewId);
-        }
+            return extractFinalModelUrl(refineId, objectName, taskDetails);
+        });
     }
 
     /**
@@ -166,10 +257,10 @@ public class MeshyApiService implements MeshService {
 
     /**
      * 최종 모델 URL을 추출합니다.
+     * 폴링 결과에 이미 완료된 작업 정보가 있으므로 추가 조회하지 않습니다.
      */
     @NotNull
-    private String extractFinalModelUrl(String refineId, String objectName, String apiKey) {
-        JsonObject taskDetails = getCompletedTaskDetails(refineId, apiKey);
+    private String extractFinalModelUrl(String refineId, String objectName, JsonObject taskDetails) {
         if (taskDetails == null) {
             log.error("{}의 완료된 작업 정보 조회 실패", objectName);
             return generateErrorId("fetch-details", refineId);
@@ -189,16 +280,10 @@ public class MeshyApiService implements MeshService {
     /**
      * 프리뷰를 생성합니다.
      */
-    @Nullable
-    private String createPreview(String prompt, String apiKey) {
-        try {
-            JsonObject requestBody = createPreviewRequestBody(prompt);
-            JsonObject responseJson = callMeshyApi(requestBody, apiKey);
-            return extractResourceId(responseJson);
-        } catch (Exception e) {
-            log.error("프리뷰 생성 중 오류 발생: {}", e.getMessage());
-            return null;
-        }
+    @NotNull
+    private CompletableFuture<String> createPreview(String prompt, String apiKey) {
+        JsonObject requestBody = createPreviewRequestBody(prompt);
+        return callMeshyApiAsync(requestBody, apiKey).thenApply(this::extractResourceId);
     }
 
     /**
@@ -220,16 +305,10 @@ public class MeshyApiService implements MeshService {
     /**
      * 모델을 정제합니다.
      */
-    @Nullable
-    private String refineModel(String previewId, String apiKey) {
-        try {
-            JsonObject requestBody = createRefineRequestBody(previewId);
-            JsonObject responseJson = callMeshyApi(requestBody, apiKey);
-            return extractResourceId(responseJson);
-        } catch (Exception e) {
-            log.error("모델 정제 중 오류 발생: {}", e.getMessage());
-            return null;
-        }
+    @NotNull
+    private CompletableFuture<String> refineModel(String previewId, String apiKey) {
+        JsonObject requestBody = createRefineRequestBody(previewId);
+        return callMeshyApiAsync(requestBody, apiKey).thenApply(this::extractResourceId);
     }
 
     /**
@@ -251,18 +330,33 @@ public class MeshyApiService implements MeshService {
     }
 
     /**
-     * Meshy API를 호출합니다.
+     * Meshy API를 비동기로 호출합니다.
+     * 호출 실패나 실패 응답은 null 결과로 완료됩니다.
      */
-    @Nullable
-    private JsonObject callMeshyApi(JsonObject requestBody, String apiKey) {
-        try {
-            log.info("Meshy API 호출: {}", requestBody);
-            Request request = buildApiRequest(requestBody, apiKey);
-            return executeRequest(request);
-        } catch (IOException e) {
-            log.error("API 호출 중 오류 발생: {}", e.getMessage());
-            return null;
-        }
+    @NotNull
+    private CompletableFuture<JsonObject> callMeshyApiAsync(JsonObject requestBody, String apiKey) {
+        log.info("Meshy API 호출: {}", requestBody);
+        Request request = buildApiRequest(requestBody, apiKey);
+        CompletableFuture<JsonObject> future = new CompletableFuture<>();
+
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                log.error("API 호출 중 오류 발생: {}", e.getMessage());
+                future.complete(null);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    future.complete(handleResponse(response));
+                } catch (Exception e) {
+                    log.error("API 응답 처리 중 오류 발생: {}", e.getMessage());
+                    future.complete(null);
+                }
+            }
+        });
+        return future;
     }
 
     /**
@@ -275,41 +369,16 @@ public class MeshyApiService implements MeshService {
     }
 
     /**
-     * 작업 상태를 조회합니다.
+     * 응답을 처리합니다.
      */
     @Nullable
-    private JsonObject getTaskStatus(String taskId, String apiKey) {
-        try {
-            String statusUrl = MESHY_API_BASE_URL + "/" + taskId;
-            Request request = buildStatusRequest(statusUrl, apiKey);
-            return executeRequest(request);
-        } catch (IOException e) {
-            log.error("작업 상태 확인 중 오류 발생: {}", e.getMessage());
+    private JsonObject handleResponse(@NotNull Response response) throws IOException {
+        if (!response.isSuccessful()) {
+            handleUnsuccessfulResponse(response);
             return null;
         }
-    }
-
-    /**
-     * 상태 확인 요청을 빌드합니다.
-     */
-    @NotNull
-    private Request buildStatusRequest(String url, String apiKey) {
-        return new Request.Builder().url(url).addHeader("Authorization", "Bearer " + apiKey).get().build();
-    }
-
-    /**
-     * HTTP 요청을 실행합니다.
-     */
-    @Nullable
-    private JsonObject executeRequest(Request request) throws IOException {
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful()) {
-                handleUnsuccessfulResponse(response);
-                return null;
-            }
 
-            return parseResponse(response);
-        }
+        return parseResponse(response);
     }
 
     /**
@@ -342,110 +411,6 @@ public class MeshyApiService implements MeshService {
         return null;
     }
 
-    /**
-     * 작업이 실패했는지 확인합니다.
-     *
-     * @return 작업이 실패했으면 true, 성공했으면 false
-     */
-    private boolean isTaskFailed(String taskId, String apiKey, String taskType, String objectName) {
-        try {
-            for (int i = 0; i < MAX_POLLING_ATTEMPTS; i++) {
-                TaskStatus status = checkTaskStatus(taskId, apiKey);
-
-                if (status == null) {
-                    return true;
-                }
-
-                // 상태별 처리
-                switch (status.status()) {
-                    case STATUS_SUCCEEDED:
-                        return false; // 성공시 바로 반환
-                    case STATUS_FAILED:
-                    case STATUS_CANCELED:
-                        logTaskError(status, objectName, taskType);
-                        return true;
-                }
-
-                // 2초 대기
-                Thread.sleep(POLLING_INTERVAL_MS);
-            }
-
-            log.error("{} {} 생성 시간 초과 (5분)", objectName, taskType);
-            return true;
-
-        } catch (Exception e) {
-            log.error("{}의 {} 상태 확인 중 오류 발생: {}", objectName, taskType, e.getMessage());
-            return true;
-        }
-    }
-
-    /**
-     * 작업 상태를 확인합니다.
-     */
-    @Nullable
-    private TaskStatus checkTaskStatus(String taskId, String apiKey) {
-        JsonObject taskStatus = getTaskStatus(taskId, apiKey);
-        if (taskStatus == null) {
-            return null;
-        }
-
-        String status = taskStatus.get(FIELD_STATUS).getAsString();
-        int progress = taskStatus.get(FIELD_PROGRESS).getAsInt();
-        String errorMessage = extractTaskError(taskStatus);
-
-        return new TaskStatus(status, progress, errorMessage);
-    }
-
-    /**
-     * 작업 오류를 로깅합니다.
-     */
-    private void logTaskError(@NotNull TaskStatus status, String objectName, String taskType) {
-        if (status.errorMessage() != null) {
-            log.error("{}의 {} 작업 실패: {}", objectName, taskType, status.errorMessage());
-        } else {
-            log.error("{}의 {} 작업 실패 (상태: {})", objectName, taskType, status.status());
-        }
-    }
-
-    /**
-     * 작업 오류 메시지를 추출합니다.
-     */
-    @Nullable
-    private String extractTaskError(@NotNull JsonObject taskStatus) {
-        if (taskStatus.has(FIELD_TASK_ERROR)) {
-            JsonElement taskErrorTemp = taskStatus.get(FIELD_TASK_ERROR);
-            if (taskErrorTemp.isJsonNull()) return null;
-            JsonObject taskError = taskErrorTemp.getAsJsonObject();
-            if (taskError.has(FIELD_MESSAGE)) {
-                return taskError.get(FIELD_MESSAGE).getAsString();
-            }
-        }
-        return null;
-    }
-
-    /**
-     * 완료된 작업의 세부 정보를 가져옵니다.
-     */
-    public JsonObject getCompletedTaskDetails(String taskId, String apiKey) {
-        try {
-            JsonObject taskStatus = getTaskStatus(taskId, apiKey);
-            if (isTaskSucceeded(taskStatus)) {
-                return taskStatus;
-            }
-            return null;
-        } catch (Exception e) {
-            log.error("작업 상세 정보 조회 중 오류 발생: {}", e.getMessage());
-            return null;
-        }
-    }
-
-    /**
-     * 작업이 성공했는지 확인합니다.
-     */
-    private boolean isTaskSucceeded(JsonObject taskStatus) {
-        return taskStatus != null && STATUS_SUCCEEDED.equals(taskStatus.get(FIELD_STATUS).getAsString());
-    }
-
     /**
      * 작업 응답에서 FBX URL을 추출합니다.
      */
@@ -495,8 +460,47 @@ public class MeshyApiService implements MeshService {
     }
 
     /**
-     * 작업 상태를 나타내는 내부 레코드
+     * 상태 폴러를 종료합니다.
+     */
+    @Override
+    public void close() {
+        taskPoller.close();
+    }
+
+    /**
+     * 모델 하나의 생성 과정
+     * 취소되면 현재 추적 중인 작업의 폴링을 멈추고, 이후 단계의 추적은 바로 취소된 채로 반환합니다.
      */
-    private record TaskStatus(String status, int progress, String errorMessage) {
+    private static final class Generation {
+        private volatile boolean cancelled;
+        private volatile CompletableFuture<JsonObject> tracking;
+
+        private boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * 작업 추적을 시작하고 취소 대상으로 등록합니다.
+         */
+        @NotNull
+        private CompletableFuture<JsonObject> track(@NotNull Supplier<CompletableFuture<JsonObject>> starter) {
+            if (cancelled) {
+                return CompletableFuture.failedFuture(new CancellationException("모델 생성이 취소되었습니다"));
+            }
+            CompletableFuture<JsonObject> started = starter.get();
+            tracking = started;
+            if (cancelled) {
+                started.cancel(false);
+            }
+            return started;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            CompletableFuture<JsonObject> current = tracking;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.febrie.eroom.service.mesh;
+
+import com.febrie.eroom.config.ConfigSection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Meshy 작업 폴링 간격 정책
+ * 보고된 진행률과 단계별 완료 시간 이력을 바탕으로 다음 폴링 시점을 계산합니다.
+ * 초반에는 간격을 넓히고 완료가 가까워지면 간격을 좁힙니다.
+ */
+public class MeshyPollingPolicy {
+
+    // 설정 키
+    private static final String KEY_MAX_POLLING_ATTEMPTS = "maxPollingAttempts";
+    private static final String KEY_TIMEOUT_SECONDS = "timeoutSeconds";
+    private static final String KEY_INITIAL_INTERVAL_MS = "initialIntervalMs";
+    private static final String KEY_MIN_INTERVAL_MS = "minIntervalMs";
+    private static final String KEY_MAX_INTERVAL_MS = "maxIntervalMs";
+    private static final String KEY_BACKOFF_MULTIPLIER = "backoffMultiplier";
+    private static final String KEY_REMAINING_FRACTION = "remainingFraction";
+    private static final String KEY_HISTORY_ALPHA = "historyAlpha";
+
+    // 기본값 - 기존 5분 제한 유지
+    private static final int DEFAULT_MAX_POLLING_ATTEMPTS = 150;
+    private static final long DEFAULT_TIMEOUT_SECONDS = 300;
+    private static final long DEFAULT_INITIAL_INTERVAL_MS = 2000;
+    private static final long DEFAULT_MIN_INTERVAL_MS = 1000;
+    private static final long DEFAULT_MAX_INTERVAL_MS = 20000;
+    private static final double DEFAULT_BACKOFF_MULTIPLIER = 1.5;
+    private static final double DEFAULT_REMAINING_FRACTION = 0.5;
+    private static final double DEFAULT_HISTORY_ALPHA = 0.3;
+
+    // 진행률 기반 추정을 신뢰하기 위한 최소 진행률
+    private static final int MIN_PROGRESS_FOR_ESTIMATE = 5;
+    private static final int COMPLETE_PROGRESS = 100;
+
+    private final int maxPollingAttempts;
+    private final long timeoutMs;
+    private final long initialIntervalMs;
+    private final long minIntervalMs;
+    private final long maxIntervalMs;
+    private final double backoffMultiplier;
+    private final double remainingFraction;
+    private final double historyAlpha;
+    private final Map<String, Double> stageDurationEwma = new ConcurrentHashMap<>();
+
+    /**
+     * MeshyPollingPolicy 생성자
+     */
+    public MeshyPollingPolicy(int maxPollingAttempts, long timeoutMs, long initialIntervalMs, long minIntervalMs,
+                              long maxIntervalMs, double backoffMultiplier, double remainingFraction, double historyAlpha) {
+        this.maxPollingAttempts = Math.max(1, maxPollingAttempts);
+        this.timeoutMs = Math.max(0, timeoutMs);
+        this.minIntervalMs = Math.max(1, minIntervalMs);
+        this.maxIntervalMs = Math.max(this.minIntervalMs, maxIntervalMs);
+        this.initialIntervalMs = clamp(initialIntervalMs, this.minIntervalMs, this.maxIntervalMs);
+        this.backoffMultiplier = Math.max(1.0, backoffMultiplier);
+        this.remainingFraction = Math.min(1.0, Math.max(0.05, remainingFraction));
+        this.historyAlpha = Math.min(1.0, Math.max(0.01, historyAlpha));
+    }
+
+    /**
+     * 설정 섹션에서 정책을 생성합니다.
+     */
+    @NotNull
+    public static MeshyPollingPolicy fromConfig(@NotNull ConfigSection section) {
+        return new MeshyPollingPolicy(
+                section.getInt(KEY_MAX_POLLING_ATTEMPTS, DEFAULT_MAX_POLLING_ATTEMPTS),
+                section.getLong(KEY_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS) * 1000,
+                section.getLong(KEY_INITIAL_INTERVAL_MS, DEFAULT_INITIAL_INTERVAL_MS),
+                section.getLong(KEY_MIN_INTERVAL_MS, DEFAULT_MIN_INTERVAL_MS),
+                section.getLong(KEY_MAX_INTERVAL_MS, DEFAULT_MAX_INTERVAL_MS),
+                section.getDouble(KEY_BACKOFF_MULTIPLIER, DEFAULT_BACKOFF_MULTIPLIER),
+                section.getDouble(KEY_REMAINING_FRACTION, DEFAULT_REMAINING_FRACTION),
+                section.getDouble(KEY_HISTORY_ALPHA, DEFAULT_HISTORY_ALPHA)
+        );
+    }
+
+    public int getMaxPollingAttempts() {
+        return maxPollingAttempts;
+    }
+
+    /**
+     * 시간 제한을 초과했는지 확인합니다.
+     * 제한이 0이면 시도 횟수만 적용합니다.
+     */
+    public boolean isTimedOut(int attempts, long elapsedMs) {
+        return attempts >= maxPollingAttempts || (timeoutMs > 0 && elapsedMs >= timeoutMs);
+    }
+
+    /**
+     * 첫 폴링까지의 대기 시간을 계산합니다.
+     * 이력이 있으면 예상 완료 시간의 일부를 먼저 기다립니다.
+     */
+    public long firstDelayMs(String stage) {
+        Double expected = stageDurationEwma.get(stage);
+        if (expected == null) {
+            return initialIntervalMs;
+        }
+        return clamp((long) (expected * remainingFraction), minIntervalMs, maxIntervalMs);
+    }
+
+    /**
+     * 다음 폴링까지의 대기 시간을 계산합니다.
+     * 남은 시간 추정치의 일정 비율만큼 기다리며, 추정이 불가능하면 직전 간격을 늘립니다.
+     */
+    public long nextDelayMs(String stage, int progress, long elapsedMs, long previousDelayMs) {
+        long remainingMs = estimateRemainingMs(stage, progress, elapsedMs);
+        if (remainingMs < 0) {
+            return backoffDelayMs(previousDelayMs);
+        }
+        return clamp((long) (remainingMs * remainingFraction), minIntervalMs, maxIntervalMs);
+    }
+
+    /**
+     * 직전 간격을 늘린 대기 시간을 반환합니다.
+     * 조회 오류나 속도 제한 응답 후에도 사용됩니다.
+     */
+    public long backoffDelayMs(long previousDelayMs) {
+        return clamp((long) (previousDelayMs * backoffMultiplier), minIntervalMs, maxIntervalMs);
+    }
+
+    /**
+     * 단계 완료 시간을 이력에 반영합니다.
+     */
+    public void recordCompletion(String stage, long durationMs) {
+        stageDurationEwma.merge(stage, (double) durationMs,
+                (previous, sample) -> previous + historyAlpha * (sample - previous));
+    }
+
+    /**
+     * 단계별 예상 완료 시간을 반환합니다.
+     */
+    @NotNull
+    public Map<String, Long> getExpectedDurations() {
+        Map<String, Long> snapshot = new ConcurrentHashMap<>();
+        stageDurationEwma.forEach((stage, value) -> snapshot.put(stage, value.longValue()));
+        return snapshot;
+    }
+
+    /**
+     * 남은 시간을 추정합니다.
+     * 진행률로 추정할 수 있으면 그 값을, 아니면 이력 기반 값을 사용하며 둘 다 없으면 -1을 반환합니다.
+     */
+    private long estimateRemainingMs(String stage, int progress, long elapsedMs) {
+        if (progress >= COMPLETE_PROGRESS) {
+            return 0;
+        }
+        if (progress >= MIN_PROGRESS_FOR_ESTIMATE && elapsedMs > 0) {
+            return elapsedMs * (COMPLETE_PROGRESS - progress) / progress;
+        }
+
+        Double expected = stageDurationEwma.get(stage);
+        if (expected != null) {
+            return Math.max(0, expected.longValue() - elapsedMs);
+        }
+        return -1;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
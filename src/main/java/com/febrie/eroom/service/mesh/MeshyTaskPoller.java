@@ -0,0 +1,257 @@
+package com.febrie.eroom.service.mesh;
+
+import com.febrie.eroom.exception.MeshyTaskException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import okhttp3.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Meshy 작업 상태를 한 곳에서 폴링하는 스케줄러
+ * 작업마다 스레드를 점유하지 않고, 공유 스케줄러와 비동기 HTTP 호출로 모든 작업을 추적합니다.
+ * 폴링 간격은 MeshyPollingPolicy가 진행률과 완료 이력에 따라 결정합니다.
+ */
+public class MeshyTaskPoller implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(MeshyTaskPoller.class);
+
+    // 연속 조회 실패 허용 횟수
+    private static final int MAX_CONSECUTIVE_ERRORS = 3;
+
+    // 응답 필드 상수
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_PROGRESS = "progress";
+    private static final String FIELD_TASK_ERROR = "task_error";
+    private static final String FIELD_MESSAGE = "message";
+
+    // 상태 상수
+    private static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    private static final String STATUS_FAILED = "FAILED";
+    private static final String STATUS_CANCELED = "CANCELED";
+
+    private final OkHttpClient httpClient;
+    private final String statusBaseUrl;
+    private final MeshyPollingPolicy pollingPolicy;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, TrackedTask> trackedTasks = new ConcurrentHashMap<>();
+
+    /**
+     * MeshyTaskPoller 생성자
+     */
+    public MeshyTaskPoller(OkHttpClient httpClient, String statusBaseUrl, MeshyPollingPolicy pollingPolicy) {
+        this.httpClient = httpClient;
+        this.statusBaseUrl = statusBaseUrl;
+        this.pollingPolicy = pollingPolicy;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "meshy-task-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 작업 추적을 시작합니다.
+     * 작업이 성공하면 최종 작업 정보로, 실패하거나 시간 초과되면 MeshyTaskException으로 완료됩니다.
+     */
+    @NotNull
+    public CompletableFuture<JsonObject> track(String taskId, String apiKey, String taskType, String objectName) {
+        TrackedTask task = new TrackedTask(taskId, apiKey, taskType, objectName);
+        trackedTasks.put(taskId, task);
+        task.future.whenComplete((result, error) -> trackedTasks.remove(taskId));
+
+        log.debug("{}의 {} 작업 추적 시작 - taskId: {}, tracked: {}", objectName, taskType, taskId, trackedTasks.size());
+        schedulePoll(task, pollingPolicy.firstDelayMs(taskType));
+        return task.future;
+    }
+
+    /**
+     * 현재 추적 중인 작업 수를 반환합니다.
+     */
+    public int getTrackedTaskCount() {
+        return trackedTasks.size();
+    }
+
+    /**
+     * 다음 폴링을 예약합니다.
+     */
+    private void schedulePoll(@NotNull TrackedTask task, long delayMs) {
+        task.lastDelayMs = delayMs;
+        try {
+            scheduler.schedule(() -> poll(task), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            task.future.completeExceptionally(new MeshyTaskException(task.taskId, "폴러가 종료되었습니다", e));
+        }
+    }
+
+    /**
+     * 작업 상태를 비동기로 조회합니다.
+     */
+    private void poll(@NotNull TrackedTask task) {
+        if (task.future.isDone()) {
+            return;
+        }
+
+        task.attempts++;
+        Request request = new Request.Builder()
+                .url(statusBaseUrl + "/" + task.taskId)
+                .addHeader("Authorization", "Bearer " + task.apiKey)
+                .get()
+                .build();
+
+        httpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                handlePollError(task, e.getMessage());
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (response) {
+                    handlePollResponse(task, response);
+                } catch (Exception e) {
+                    handlePollError(task, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 상태 조회 응답을 처리합니다.
+     */
+    private void handlePollResponse(@NotNull TrackedTask task, @NotNull Response response) throws IOException {
+        if (!response.isSuccessful() || response.body() == null) {
+            handlePollError(task, "상태 코드 " + response.code());
+            return;
+        }
+
+        JsonObject taskStatus = JsonParser.parseString(response.body().string()).getAsJsonObject();
+        task.consecutiveErrors = 0;
+
+        String status = taskStatus.get(FIELD_STATUS).getAsString();
+        switch (status) {
+            case STATUS_SUCCEEDED -> completeTask(task, taskStatus);
+            case STATUS_FAILED, STATUS_CANCELED -> failTask(task, taskStatus, status);
+            default -> scheduleNextPollOrTimeout(task, taskStatus);
+        }
+    }
+
+    /**
+     * 다음 폴링을 예약하거나 시도 횟수를 초과한 경우 시간 초과로 처리합니다.
+     */
+    private void scheduleNextPollOrTimeout(@NotNull TrackedTask task, @NotNull JsonObject taskStatus) {
+        long elapsedMs = task.elapsedMs();
+        if (pollingPolicy.isTimedOut(task.attempts, elapsedMs)) {
+            log.error("{} {} 생성 시간 초과 ({}회 폴링, {}초)", task.objectName, task.taskType, task.attempts, elapsedMs / 1000);
+            task.future.completeExceptionally(new MeshyTaskException(task.taskId, task.taskType + " 시간 초과", true));
+            return;
+        }
+
+        int progress = taskStatus.has(FIELD_PROGRESS) ? taskStatus.get(FIELD_PROGRESS).getAsInt() : 0;
+        long delayMs = pollingPolicy.nextDelayMs(task.taskType, progress, elapsedMs, task.lastDelayMs);
+        log.debug("{}의 {} 진행 중 - progress: {}%, attempt: {}, 다음 확인: {}ms",
+                task.objectName, task.taskType, progress, task.attempts, delayMs);
+        schedulePoll(task, delayMs);
+    }
+
+    /**
+     * 작업을 성공으로 처리하고 완료 시간을 이력에 반영합니다.
+     */
+    private void completeTask(@NotNull TrackedTask task, @NotNull JsonObject taskStatus) {
+        long elapsedMs = task.elapsedMs();
+        pollingPolicy.recordCompletion(task.taskType, elapsedMs);
+        log.debug("{}의 {} 완료 - {}ms, {}회 폴링", task.objectName, task.taskType, elapsedMs, task.attempts);
+        task.future.complete(taskStatus);
+    }
+
+    /**
+     * 조회 오류를 처리합니다.
+     * 연속 오류가 허용 횟수를 넘으면 작업을 실패로 처리합니다.
+     */
+    private void handlePollError(@NotNull TrackedTask task, String message) {
+        task.consecutiveErrors++;
+        log.warn("{}의 {} 상태 확인 중 오류 발생 ({}회 연속): {}",
+                task.objectName, task.taskType, task.consecutiveErrors, message);
+
+        if (task.consecutiveErrors >= MAX_CONSECUTIVE_ERRORS || pollingPolicy.isTimedOut(task.attempts, task.elapsedMs())) {
+            task.future.completeExceptionally(
+                    new MeshyTaskException(task.taskId, task.taskType + " 상태 확인 실패: " + message, false));
+            return;
+        }
+        schedulePoll(task, pollingPolicy.backoffDelayMs(task.lastDelayMs));
+    }
+
+    /**
+     * 작업을 실패로 처리합니다.
+     */
+    private void failTask(@NotNull TrackedTask task, @NotNull JsonObject taskStatus, String status) {
+        String errorMessage = extractTaskError(taskStatus);
+        if (errorMessage != null) {
+            log.error("{}의 {} 작업 실패: {}", task.objectName, task.taskType, errorMessage);
+        } else {
+            log.error("{}의 {} 작업 실패 (상태: {})", task.objectName, task.taskType, status);
+        }
+        task.future.completeExceptionally(new MeshyTaskException(task.taskId,
+                task.taskType + " 작업 실패: " + (errorMessage != null ? errorMessage : status), false));
+    }
+
+    /**
+     * 작업 오류 메시지를 추출합니다.
+     */
+    @Nullable
+    private String extractTaskError(@NotNull JsonObject taskStatus) {
+        if (taskStatus.has(FIELD_TASK_ERROR)) {
+            JsonElement taskErrorTemp = taskStatus.get(FIELD_TASK_ERROR);
+            if (taskErrorTemp.isJsonNull()) return null;
+            JsonObject taskError = taskErrorTemp.getAsJsonObject();
+            if (taskError.has(FIELD_MESSAGE)) {
+                return taskError.get(FIELD_MESSAGE).getAsString();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 폴러를 종료하고 추적 중인 작업을 실패로 처리합니다.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        trackedTasks.values().forEach(task -> task.future.completeExceptionally(
+                new MeshyTaskException(task.taskId, "폴러가 종료되었습니다", false)));
+        trackedTasks.clear();
+    }
+
+    /**
+     * 추적 중인 작업 정보
+     * 시도 횟수는 스케줄러와 HTTP 콜백에서 순차적으로만 갱신됩니다.
+     */
+    private static final class TrackedTask {
+        private final String taskId;
+        private final String apiKey;
+        private final String taskType;
+        private final String objectName;
+        private final CompletableFuture<JsonObject> future = new CompletableFuture<>();
+        private final long startTimeMs = System.currentTimeMillis();
+        private volatile int attempts;
+        private volatile int consecutiveErrors;
+        private volatile long lastDelayMs;
+
+        private TrackedTask(String taskId, String apiKey, String taskType, String objectName) {
+            this.taskId = taskId;
+            this.apiKey = apiKey;
+            this.taskType = taskType;
+            this.objectName = objectName;
+        }
+
+        private long elapsedMs() {
+            return System.currentTimeMillis() - startTimeMs;
+        }
+    }
+}
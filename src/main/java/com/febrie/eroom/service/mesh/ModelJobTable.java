@@ -0,0 +1,191 @@
+package com.febrie.eroom.service.mesh;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 작업과 분리해 백그라운드로 실행하는 모델 생성 작업 표
+ * 활성화되면 방 작업은 시나리오와 스크립트가 준비되는 대로 끝나고, 모델은 이 표의 작업 ID로 따로 조회합니다.
+ * 표는 메모리에만 있으므로 재시작하면 진행 중이던 모델 작업은 조회할 수 없습니다.
+ * 끝난 작업은 보존 시간이 지나거나 최대 개수를 넘으면 오래된 것부터 제거됩니다.
+ */
+public class ModelJobTable {
+
+    // 설정 키
+    private static final String KEY_ENABLED = "enabled";
+    private static final String KEY_RETENTION_MINUTES = "retentionMinutes";
+    private static final String KEY_MAX_JOBS = "maxJobs";
+
+    // 기본값
+    private static final long DEFAULT_RETENTION_MINUTES = 120;
+    private static final int DEFAULT_MAX_JOBS = 10000;
+
+    private static final String JOB_ID_PREFIX = "modeljob-";
+
+    /**
+     * 모델 작업 상태
+     */
+    public enum Status {
+        PENDING,
+        PREVIEWING,
+        REFINING,
+        COMPLETED,
+        FAILED
+    }
+
+    /**
+     * 모델 작업 하나의 현재 상태
+     */
+    public record ModelJob(String id, String ruid, String objectName, Status status,
+                           @Nullable String trackingId, @Nullable String error, long createdAt, long updatedAt) {
+
+        public boolean isFinished() {
+            return status == Status.COMPLETED || status == Status.FAILED;
+        }
+
+        @NotNull
+        @Contract("_, _, _ -> new")
+        private ModelJob with(Status status, @Nullable String trackingId, @Nullable String error) {
+            return new ModelJob(id, ruid, objectName, status, trackingId, error, createdAt, System.currentTimeMillis());
+        }
+
+        @NotNull
+        public JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("id", id);
+            json.addProperty("ruid", ruid);
+            json.addProperty("object", objectName);
+            json.addProperty("status", status.name());
+            if (trackingId != null) {
+                json.addProperty("trackingId", trackingId);
+            }
+            if (error != null) {
+                json.addProperty("error", error);
+            }
+            json.addProperty("createdAt", createdAt);
+            json.addProperty("updatedAt", updatedAt);
+            return json;
+        }
+    }
+
+    private final boolean enabled;
+    private final long retentionMs;
+    private final int maxJobs;
+    private final Map<String, ModelJob> jobs = new LinkedHashMap<>();
+
+    /**
+     * ModelJobTable 생성자
+     */
+    public ModelJobTable(boolean enabled, long retentionMs, int maxJobs) {
+        this.enabled = enabled;
+        this.retentionMs = retentionMs;
+        this.maxJobs = Math.max(1, maxJobs);
+    }
+
+    /**
+     * 설정으로 모델 작업 표를 생성합니다.
+     */
+    @NotNull
+    public static ModelJobTable fromConfig(@NotNull ConfigSection section) {
+        return new ModelJobTable(
+                section.getBoolean(KEY_ENABLED, false),
+                TimeUnit.MINUTES.toMillis(section.getLong(KEY_RETENTION_MINUTES, DEFAULT_RETENTION_MINUTES)),
+                section.getInt(KEY_MAX_JOBS, DEFAULT_MAX_JOBS)
+        );
+    }
+
+    /**
+     * 모델 생성을 방 작업과 분리하는지 확인합니다.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새 모델 작업을 등록합니다.
+     */
+    @NotNull
+    public synchronized ModelJob create(@NotNull String ruid, @NotNull String objectName) {
+        prune();
+        long now = System.currentTimeMillis();
+        String id = JOB_ID_PREFIX + UUID.randomUUID().toString().replace("-", "").substring(0, 16);
+        ModelJob job = new ModelJob(id, ruid, objectName, Status.PENDING, null, null, now, now);
+        jobs.put(id, job);
+        return job;
+    }
+
+    /**
+     * 외부 모델 작업의 진행 상태를 반영합니다.
+     */
+    public synchronized void updateProgress(@NotNull String id, @NotNull ModelTaskState state) {
+        Status status = state.refineId() != null ? Status.REFINING : state.previewId() != null ? Status.PREVIEWING : Status.PENDING;
+        jobs.computeIfPresent(id, (key, job) -> job.isFinished() ? job : job.with(status, null, null));
+    }
+
+    /**
+     * 모델 작업을 완료 처리합니다.
+     */
+    public synchronized void complete(@NotNull String id, @NotNull String trackingId) {
+        jobs.computeIfPresent(id, (key, job) -> job.with(Status.COMPLETED, trackingId, null));
+    }
+
+    /**
+     * 모델 작업을 실패 처리합니다.
+     */
+    public synchronized void fail(@NotNull String id, @NotNull String error) {
+        jobs.computeIfPresent(id, (key, job) -> job.with(Status.FAILED, null, error));
+    }
+
+    @NotNull
+    public synchronized Optional<ModelJob> get(@NotNull String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * 방 하나에 속한 모델 작업들을 등록 순서대로 반환합니다.
+     */
+    @NotNull
+    public synchronized List<ModelJob> findByRoom(@NotNull String ruid) {
+        return jobs.values().stream().filter(job -> job.ruid().equals(ruid)).toList();
+    }
+
+    /**
+     * 상태별 작업 수를 반환합니다.
+     */
+    @NotNull
+    public synchronized JsonObject getStats() {
+        Map<Status, Integer> counts = new EnumMap<>(Status.class);
+        jobs.values().forEach(job -> counts.merge(job.status(), 1, Integer::sum));
+
+        JsonObject stats = new JsonObject();
+        stats.addProperty("enabled", enabled);
+        stats.addProperty("jobs", jobs.size());
+        for (Status status : Status.values()) {
+            stats.addProperty(status.name().toLowerCase(Locale.ROOT), counts.getOrDefault(status, 0));
+        }
+        return stats;
+    }
+
+    /**
+     * 보존 시간이 지난 완료 작업과 최대 개수를 넘는 오래된 완료 작업을 제거합니다.
+     * 진행 중인 작업은 제거하지 않습니다.
+     */
+    private void prune() {
+        long cutoff = System.currentTimeMillis() - retentionMs;
+        int excess = jobs.size() + 1 - maxJobs;
+        Iterator<ModelJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ModelJob job = iterator.next();
+            if (job.isFinished() && (excess > 0 || job.updatedAt() < cutoff)) {
+                iterator.remove();
+                excess--;
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.febrie.eroom.service.mesh;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.febrie.eroom.service.cache.MinHashLshIndex;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유사한 시각 묘사의 기존 모델을 재사용하기 위한 색인
+ * 모델 서비스별로 MinHash/LSH 색인을 유지하고, 주기적으로 디스크에 스냅샷을 남깁니다.
+ * 비활성화 상태에서도 shadow 모드이면 메모리에만 색인해 재사용 가능했던 횟수를 지표로 남기고, 실제 재사용은 하지 않습니다.
+ */
+public class ModelReuseIndex implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(ModelReuseIndex.class);
+
+    // 설정 키
+    private static final String KEY_ENABLED = "enabled";
+    private static final String KEY_SHADOW = "shadow";
+    private static final String KEY_THRESHOLD = "threshold";
+    private static final String KEY_NUM_HASHES = "numHashes";
+    private static final String KEY_BANDS = "bands";
+    private static final String KEY_MAX_ENTRIES = "maxEntries";
+    private static final String KEY_SNAPSHOT_PATH = "snapshotPath";
+    private static final String KEY_SNAPSHOT_EVERY = "snapshotEveryInserts";
+
+    // 기본값
+    private static final double DEFAULT_THRESHOLD = 0.8;
+    private static final int DEFAULT_NUM_HASHES = 64;
+    private static final int DEFAULT_BANDS = 16;
+    private static final int DEFAULT_MAX_ENTRIES = 10000;
+    private static final int DEFAULT_SNAPSHOT_EVERY = 20;
+
+    // 재사용하지 않는 결과 접두사
+    private static final String[] UNREUSABLE_PREFIXES = {"error-", "timeout-", "pending-"};
+
+    private final boolean enabled;
+    private final boolean shadow;
+    private final double threshold;
+    private final int numHashes;
+    private final int bands;
+    private final int maxEntries;
+    private final Path snapshotPath;
+    private final int snapshotEvery;
+    private final Map<String, MinHashLshIndex> indexes = new ConcurrentHashMap<>();
+    private final AtomicInteger insertsSinceSnapshot = new AtomicInteger();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong matches = new AtomicLong();
+    private final AtomicLong reuses = new AtomicLong();
+
+    /**
+     * ModelReuseIndex 생성자
+     * 스냅샷 경로가 있으면 기존 스냅샷을 불러옵니다.
+     * shadow는 활성화되지 않았을 때만 의미가 있습니다.
+     */
+    public ModelReuseIndex(boolean enabled, boolean shadow, double threshold, int numHashes, int bands, int maxEntries,
+                           @Nullable Path snapshotPath, int snapshotEvery) {
+        this.enabled = enabled;
+        this.shadow = !enabled && shadow;
+        this.threshold = threshold;
+        this.numHashes = numHashes;
+        this.bands = bands;
+        this.maxEntries = maxEntries;
+        this.snapshotPath = snapshotPath;
+        this.snapshotEvery = Math.max(1, snapshotEvery);
+        if (enabled) {
+            loadSnapshot();
+        }
+    }
+
+    /**
+     * 설정 섹션에서 색인을 생성합니다.
+     */
+    @NotNull
+    public static ModelReuseIndex fromConfig(@NotNull ConfigSection section) {
+        String path = section.getString(KEY_SNAPSHOT_PATH, null);
+        return new ModelReuseIndex(
+                section.getBoolean(KEY_ENABLED, false),
+                section.getBoolean(KEY_SHADOW, false),
+                section.getDouble(KEY_THRESHOLD, DEFAULT_THRESHOLD),
+                section.getInt(KEY_NUM_HASHES, DEFAULT_NUM_HASHES),
+                section.getInt(KEY_BANDS, DEFAULT_BANDS),
+                section.getInt(KEY_MAX_ENTRIES, DEFAULT_MAX_ENTRIES),
+                path != null && !path.isBlank() ? Paths.get(path) : null,
+                section.getInt(KEY_SNAPSHOT_EVERY, DEFAULT_SNAPSHOT_EVERY)
+        );
+    }
+
+    /**
+     * 비활성화된 색인을 생성합니다.
+     */
+    @NotNull
+    public static ModelReuseIndex disabled() {
+        return new ModelReuseIndex(false, false, DEFAULT_THRESHOLD, DEFAULT_NUM_HASHES, DEFAULT_BANDS, DEFAULT_MAX_ENTRIES, null, DEFAULT_SNAPSHOT_EVERY);
+    }
+
+    /**
+     * 임계값 이상으로 유사한 기존 모델을 찾습니다.
+     * shadow 모드에서는 찾은 결과를 집계만 하고 빈 값을 반환합니다.
+     */
+    @NotNull
+    public Optional<MinHashLshIndex.Match> findSimilar(@NotNull String namespace, @NotNull String prompt) {
+        if (!enabled && !shadow) {
+            return Optional.empty();
+        }
+        lookups.incrementAndGet();
+        Optional<MinHashLshIndex.Match> match = getIndex(namespace)
+                .findMostSimilar(CachingMeshService.normalizePrompt(prompt), threshold);
+        if (match.isEmpty()) {
+            return Optional.empty();
+        }
+        matches.incrementAndGet();
+        if (shadow) {
+            log.debug("모델 재사용 후보(shadow) - {}: {} (유사도 {})", namespace, match.get().payload(), match.get().similarity());
+            return Optional.empty();
+        }
+        reuses.incrementAndGet();
+        return match;
+    }
+
+    /**
+     * 생성된 모델을 색인에 추가합니다.
+     * 오류나 대기 상태의 결과는 추가하지 않습니다.
+     */
+    public void record(@NotNull String namespace, @NotNull String prompt, @Nullable String modelId) {
+        if ((!enabled && !shadow) || !isReusable(modelId)) {
+            return;
+        }
+        getIndex(namespace).insert(CachingMeshService.normalizePrompt(prompt), modelId);
+        if (shadow) {
+            return;
+        }
+
+        if (insertsSinceSnapshot.incrementAndGet() >= snapshotEvery) {
+            insertsSinceSnapshot.set(0);
+            saveSnapshot();
+        }
+    }
+
+    /**
+     * 색인 지표를 반환합니다.
+     */
+    @NotNull
+    public JsonObject getStats() {
+        JsonObject stats = new JsonObject();
+        stats.addProperty("enabled", enabled);
+        stats.addProperty("shadow", shadow);
+        stats.addProperty("threshold", threshold);
+        stats.addProperty("lookups", lookups.get());
+        stats.addProperty("matches", matches.get());
+        stats.addProperty("reuses", reuses.get());
+        JsonObject entries = new JsonObject();
+        indexes.forEach((namespace, index) -> entries.addProperty(namespace, index.size()));
+        stats.add("entries", entries);
+        return stats;
+    }
+
+    /**
+     * 종료 시 스냅샷을 저장합니다.
+     */
+    @Override
+    public void close() {
+        if (enabled) {
+            saveSnapshot();
+        }
+    }
+
+    @NotNull
+    private MinHashLshIndex getIndex(String namespace) {
+        return indexes.computeIfAbsent(namespace, key -> new MinHashLshIndex(numHashes, bands, maxEntries));
+    }
+
+    private boolean isReusable(String modelId) {
+        if (modelId == null || modelId.isBlank()) {
+            return false;
+        }
+        for (String prefix : UNREUSABLE_PREFIXES) {
+            if (modelId.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 스냅샷을 불러옵니다.
+     */
+    private void loadSnapshot() {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+        try {
+            JsonObject snapshot = JsonParser.parseString(Files.readString(snapshotPath, StandardCharsets.UTF_8)).getAsJsonObject();
+            for (String namespace : snapshot.keySet()) {
+                int loaded = getIndex(namespace).loadSnapshot(snapshot.getAsJsonObject(namespace));
+                log.info("모델 재사용 색인 로드 - {}: {}개", namespace, loaded);
+            }
+        } catch (Exception e) {
+            log.warn("모델 재사용 색인 스냅샷 로드 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷을 저장합니다.
+     * 임시 파일에 쓴 뒤 원자적으로 교체합니다.
+     */
+    private synchronized void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        JsonObject snapshot = new JsonObject();
+        indexes.forEach((namespace, index) -> snapshot.add(namespace, index.toSnapshot()));
+
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            if (snapshotPath.getParent() != null) {
+                Files.createDirectories(snapshotPath.getParent());
+            }
+            Files.writeString(tempPath, snapshot.toString(), StandardCharsets.UTF_8);
+            Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("모델 재사용 색인 스냅샷 저장: {}", snapshotPath);
+        } catch (IOException e) {
+            log.warn("모델 재사용 색인 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+}
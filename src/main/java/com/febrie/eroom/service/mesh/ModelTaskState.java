@@ -0,0 +1,59 @@
+package com.febrie.eroom.service.mesh;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 외부 모델 생성 작업의 진행 상태
+ * Meshy의 프리뷰와 정제 작업 ID를 담으며, 중단된 생성을 같은 작업에 다시 연결하는 데 사용합니다.
+ */
+public record ModelTaskState(@Nullable String previewId, @Nullable String refineId) {
+
+    private static final String FIELD_PREVIEW_ID = "previewId";
+    private static final String FIELD_REFINE_ID = "refineId";
+
+    public static final ModelTaskState EMPTY = new ModelTaskState(null, null);
+
+    @NotNull
+    @Contract("_ -> new")
+    public ModelTaskState withPreviewId(@NotNull String previewId) {
+        return new ModelTaskState(previewId, null);
+    }
+
+    @NotNull
+    @Contract("_ -> new")
+    public ModelTaskState withRefineId(@NotNull String refineId) {
+        return new ModelTaskState(previewId, refineId);
+    }
+
+    @NotNull
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        if (previewId != null) {
+            json.addProperty(FIELD_PREVIEW_ID, previewId);
+        }
+        if (refineId != null) {
+            json.addProperty(FIELD_REFINE_ID, refineId);
+        }
+        return json;
+    }
+
+    /**
+     * JSON에서 상태를 읽습니다. 값이 없으면 EMPTY를 반환합니다.
+     */
+    @NotNull
+    public static ModelTaskState fromJson(@Nullable JsonObject json) {
+        if (json == null) {
+            return EMPTY;
+        }
+        return new ModelTaskState(stringOrNull(json.get(FIELD_PREVIEW_ID)), stringOrNull(json.get(FIELD_REFINE_ID)));
+    }
+
+    @Nullable
+    private static String stringOrNull(@Nullable JsonElement element) {
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+}
@@ -0,0 +1,75 @@
+package com.febrie.eroom.service.pipeline;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * 노드 작업 한 번의 시도
+ * 시간 초과, 재시도 전 실패, 그래프 실패로 버려진 시도는 결과가 쓰이지 않으므로 하던 작업을 취소합니다.
+ * 블로킹 작업은 캐시 저장이나 체크포인트 같은 부수 효과 전에 isAbandoned로 자신의 시도가 버려졌는지 확인합니다.
+ */
+public final class TaskAttempt {
+
+    private static final ThreadLocal<TaskAttempt> CURRENT = new ThreadLocal<>();
+
+    private volatile boolean abandoned;
+    private Runnable canceller;
+
+    TaskAttempt() {
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 블로킹 작업의 시도가 버려졌는지 확인합니다.
+     * 작업 그래프 밖에서 호출하면 항상 false입니다.
+     */
+    public static boolean isAbandoned() {
+        TaskAttempt current = CURRENT.get();
+        return current != null && current.abandoned;
+    }
+
+    /**
+     * 이 시도를 현재 스레드의 시도로 두고 블로킹 작업을 실행합니다.
+     */
+    <T> T run(@NotNull Function<TaskResults, T> action, @NotNull TaskResults results) {
+        CURRENT.set(this);
+        try {
+            return action.apply(results);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * 시도를 버릴 때 실행할 취소 동작을 등록합니다.
+     * 이미 버려진 시도라면 바로 실행합니다.
+     */
+    void onAbandon(@NotNull Runnable cancel) {
+        synchronized (this) {
+            if (!abandoned) {
+                canceller = cancel;
+                return;
+            }
+        }
+        cancel.run();
+    }
+
+    /**
+     * 시도를 버리고 하던 작업을 취소합니다.
+     * 이미 끝난 작업에는 영향이 없습니다.
+     */
+    void abandon() {
+        Runnable cancel;
+        synchronized (this) {
+            if (abandoned) {
+                return;
+            }
+            abandoned = true;
+            cancel = canceller;
+            canceller = null;
+        }
+        if (cancel != null) {
+            cancel.run();
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.febrie.eroom.service.pipeline;
+
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 의존 관계를 가진 작업 노드들을 실행하는 그래프
+ * 각 노드는 선행 노드가 모두 완료되는 즉시 시작되므로 전체 소요 시간이 임계 경로에 가까워집니다.
+ * 대체값이 없는 노드가 실패하면 그래프 전체가 즉시 실패하고, 실행 중인 다른 노드의 시도를 취소합니다.
+ */
+public class TaskGraph {
+    private static final Logger log = LoggerFactory.getLogger(TaskGraph.class);
+
+    private final String name;
+    private final List<TaskNode<?>> orderedNodes;
+
+    private TaskGraph(String name, List<TaskNode<?>> orderedNodes) {
+        this.name = name;
+        this.orderedNodes = orderedNodes;
+    }
+
+    @NotNull
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    public int size() {
+        return orderedNodes.size();
+    }
+
+    /**
+     * 그래프를 실행합니다.
+     * 블로킹 노드는 주어진 실행기에서 실행되며, 실행기의 동시성 제한을 그대로 따릅니다.
+     * 반환된 Future가 예외로 완료되거나 취소되면 실행 중인 시도를 모두 취소합니다.
+     */
+    @NotNull
+    public CompletableFuture<TaskResults> execute(@NotNull Executor executor) {
+        long startTime = System.currentTimeMillis();
+        TaskResults results = new TaskResults();
+        CompletableFuture<TaskResults> graphFuture = new CompletableFuture<>();
+        Execution execution = new Execution(results, executor, graphFuture);
+        Map<String, CompletableFuture<?>> nodeFutures = new HashMap<>();
+
+        for (TaskNode<?> node : orderedNodes) {
+            CompletableFuture<?>[] dependencies = node.getDependencies().stream()
+                    .map(nodeFutures::get)
+                    .toArray(CompletableFuture<?>[]::new);
+
+            CompletableFuture<?> nodeFuture = CompletableFuture.allOf(dependencies)
+                    .thenCompose(ignored -> runNode(node, execution));
+
+            nodeFuture.whenComplete((value, error) -> {
+                if (error != null) {
+                    graphFuture.completeExceptionally(toGraphException(node, error));
+                }
+            });
+            nodeFutures.put(node.getId(), nodeFuture);
+        }
+
+        CompletableFuture.allOf(nodeFutures.values().toArray(CompletableFuture<?>[]::new)).thenRun(() -> {
+            log.info("[{}] 작업 그래프 완료 - nodes: {}, elapsed: {}ms",
+                    name, orderedNodes.size(), System.currentTimeMillis() - startTime);
+            graphFuture.complete(results);
+        });
+        graphFuture.whenComplete((value, error) -> {
+            if (error != null) {
+                execution.abandonAll();
+            }
+        });
+        return graphFuture;
+    }
+
+    /**
+     * 노드를 실행하고 결과를 기록합니다.
+     * 모든 시도가 실패하면 대체값을 사용하거나 예외로 완료됩니다.
+     */
+    @NotNull
+    private <T> CompletableFuture<T> runNode(@NotNull TaskNode<T> node, Execution execution) {
+        long startTime = System.currentTimeMillis();
+        TaskResults results = execution.results;
+
+        return attempt(node, execution, 0).handle((value, error) -> {
+            long elapsed = System.currentTimeMillis() - startTime;
+            if (error == null) {
+                results.put(node.getId(), value, elapsed);
+                log.debug("[{}] 노드 완료 - {}, elapsed: {}ms", name, node.getId(), elapsed);
+                return value;
+            }
+
+            Throwable cause = unwrap(error);
+            if (node.getFallback() == null) {
+                log.error("[{}] 노드 실패 - {}: {}", name, node.getId(), describe(cause));
+                throw new CompletionException(cause);
+            }
+
+            T fallbackValue = node.getFallback().apply(cause);
+            results.put(node.getId(), fallbackValue, elapsed);
+            log.warn("[{}] 노드 실패, 대체값 사용 - {}: {}", name, node.getId(), describe(cause));
+            return fallbackValue;
+        });
+    }
+
+    /**
+     * 노드를 한 번 시도하고, 실패하면 재시도 횟수 내에서 다시 시도합니다.
+     * 시간 초과나 실패로 끝난 시도는 재시도 전에 취소하므로 같은 노드의 작업이 동시에 둘 이상 실행되지 않습니다.
+     * 그래프가 이미 실패했으면 새로 시도하지 않습니다.
+     */
+    @NotNull
+    private <T> CompletableFuture<T> attempt(@NotNull TaskNode<T> node, Execution execution, int attempt) {
+        if (execution.isFailed()) {
+            return CompletableFuture.failedFuture(new CancellationException("작업 그래프 실패로 취소됨"));
+        }
+
+        TaskAttempt running = execution.begin();
+        CompletableFuture<T> future = startAttempt(node, execution.results, execution.executor, running);
+        if (node.getTimeout() != null) {
+            future = future.orTimeout(node.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        return future.handle((value, error) -> {
+            execution.end(running);
+            if (error == null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            running.abandon();
+            if (attempt >= node.getMaxRetries() || execution.isFailed()) {
+                return CompletableFuture.<T>failedFuture(unwrap(error));
+            }
+
+            long backoffMs = node.getRetryBackoff().toMillis() * (attempt + 1);
+            log.warn("[{}] 노드 재시도 - {} ({}/{}), {}ms 후: {}",
+                    name, node.getId(), attempt + 1, node.getMaxRetries(), backoffMs, describe(unwrap(error)));
+            Executor delayed = CompletableFuture.delayedExecutor(backoffMs, TimeUnit.MILLISECONDS, execution.executor);
+            return CompletableFuture.runAsync(() -> {
+            }, delayed).thenCompose(ignored -> attempt(node, execution, attempt + 1));
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * 노드 작업을 시작합니다.
+     * 블로킹 작업은 FutureTask로 실행해 시도가 버려지면 실행 중인 스레드를 인터럽트합니다.
+     * 비동기 작업이 반환한 Future는 타임아웃이 원본에 영향을 주지 않도록 복사하고, 시도가 버려지면 원본을 취소합니다.
+     */
+    @NotNull
+    private <T> CompletableFuture<T> startAttempt(@NotNull TaskNode<T> node, TaskResults results, Executor executor,
+                                                  @NotNull TaskAttempt attempt) {
+        if (node.isBlocking()) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            FutureTask<T> task = new FutureTask<>(() -> attempt.run(node.getBlockingAction(), results)) {
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        result.completeExceptionally(new CancellationException("시도 취소됨"));
+                        return;
+                    }
+                    try {
+                        result.complete(get());
+                    } catch (ExecutionException e) {
+                        result.completeExceptionally(e.getCause());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        result.completeExceptionally(e);
+                    }
+                }
+            };
+            attempt.onAbandon(() -> task.cancel(true));
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+        try {
+            CompletableFuture<T> source = node.getAsyncAction().apply(results);
+            attempt.onAbandon(() -> source.cancel(true));
+            return source.copy();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @NotNull
+    private TaskGraphException toGraphException(@NotNull TaskNode<?> node, Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof TaskGraphException graphException) {
+            return graphException;
+        }
+        return new TaskGraphException(node.getId(), "노드 '" + node.getId() + "' 실패: " + describe(cause), cause);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException) && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+
+    private static String describe(@NotNull Throwable error) {
+        if (error instanceof TimeoutException) {
+            return "시간 초과";
+        }
+        return error.getMessage() != null ? error.getMessage() : error.getClass().getSimpleName();
+    }
+
+    /**
+     * 그래프 실행 한 번의 상태
+     * 실행 중인 시도를 추적해 그래프가 실패하면 모두 취소합니다.
+     */
+    private static final class Execution {
+        private final TaskResults results;
+        private final Executor executor;
+        private final CompletableFuture<TaskResults> graphFuture;
+        private final Set<TaskAttempt> running = ConcurrentHashMap.newKeySet();
+
+        private Execution(TaskResults results, Executor executor, CompletableFuture<TaskResults> graphFuture) {
+            this.results = results;
+            this.executor = executor;
+            this.graphFuture = graphFuture;
+        }
+
+        private boolean isFailed() {
+            return graphFuture.isCompletedExceptionally();
+        }
+
+        /**
+         * 새 시도를 등록합니다.
+         * 등록 직후 그래프가 실패했으면 바로 버려 취소가 누락되지 않게 합니다.
+         */
+        @NotNull
+        private TaskAttempt begin() {
+            TaskAttempt attempt = new TaskAttempt();
+            running.add(attempt);
+            if (isFailed()) {
+                attempt.abandon();
+            }
+            return attempt;
+        }
+
+        private void end(@NotNull TaskAttempt attempt) {
+            running.remove(attempt);
+        }
+
+        private void abandonAll() {
+            running.forEach(TaskAttempt::abandon);
+        }
+    }
+
+    /**
+     * TaskGraph 빌더
+     * 존재하지 않는 선행 노드나 순환 의존성이 있으면 build 시 예외가 발생합니다.
+     */
+    public static final class Builder {
+        private final String name;
+        private final Map<String, TaskNode<?>> nodes = new LinkedHashMap<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        @NotNull
+        public Builder add(@NotNull TaskNode<?> node) {
+            if (nodes.putIfAbsent(node.getId(), node) != null) {
+                throw new IllegalArgumentException("중복된 노드 ID: " + node.getId());
+            }
+            return this;
+        }
+
+        public boolean contains(String nodeId) {
+            return nodes.containsKey(nodeId);
+        }
+
+        @NotNull
+        public TaskGraph build() {
+            return new TaskGraph(name, topologicalOrder());
+        }
+
+        /**
+         * 위상 정렬된 노드 목록을 반환합니다.
+         */
+        @NotNull
+        private List<TaskNode<?>> topologicalOrder() {
+            Map<String, Integer> inDegree = new LinkedHashMap<>();
+            Map<String, List<String>> dependents = new HashMap<>();
+
+            for (TaskNode<?> node : nodes.values()) {
+                inDegree.putIfAbsent(node.getId(), 0);
+                for (String dependency : node.getDependencies()) {
+                    if (!nodes.containsKey(dependency)) {
+                        throw new IllegalStateException("노드 '" + node.getId() + "'의 선행 노드가 없습니다: " + dependency);
+                    }
+                    inDegree.merge(node.getId(), 1, Integer::sum);
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(node.getId());
+                }
+            }
+
+            Deque<String> ready = new ArrayDeque<>();
+            inDegree.forEach((id, degree) -> {
+                if (degree == 0) {
+                    ready.add(id);
+                }
+            });
+
+            List<TaskNode<?>> ordered = new ArrayList<>();
+            while (!ready.isEmpty()) {
+                String id = ready.poll();
+                ordered.add(nodes.get(id));
+                for (String dependent : dependents.getOrDefault(id, List.of())) {
+                    if (inDegree.merge(dependent, -1, Integer::sum) == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+
+            if (ordered.size() != nodes.size()) {
+                throw new IllegalStateException("작업 그래프에 순환 의존성이 있습니다: " + name);
+            }
+            return ordered;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.febrie.eroom.service.pipeline;
+
+/**
+ * 작업 그래프의 필수 노드가 실패했을 때 발생하는 예외
+ */
+public class TaskGraphException extends RuntimeException {
+
+    private final String nodeId;
+
+    public TaskGraphException(String nodeId, String message, Throwable cause) {
+        super(message, cause);
+        this.nodeId = nodeId;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,157 @@
+package com.febrie.eroom.service.pipeline;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 작업 그래프의 노드
+ * 선행 노드의 결과를 입력으로 받아 값을 생성하며, 노드별 타임아웃과 재시도 횟수를 가집니다.
+ * 대체값이 지정된 노드는 최종 실패 시 예외 대신 대체값으로 완료됩니다.
+ */
+public final class TaskNode<T> {
+
+    private final String id;
+    private final Set<String> dependencies;
+    private final Function<TaskResults, T> blockingAction;
+    private final Function<TaskResults, CompletableFuture<T>> asyncAction;
+    private final Duration timeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Function<Throwable, T> fallback;
+
+    private TaskNode(@NotNull Builder<T> builder) {
+        this.id = builder.id;
+        this.dependencies = Set.copyOf(builder.dependencies);
+        this.blockingAction = builder.blockingAction;
+        this.asyncAction = builder.asyncAction;
+        this.timeout = builder.timeout;
+        this.maxRetries = builder.maxRetries;
+        this.retryBackoff = builder.retryBackoff;
+        this.fallback = builder.fallback;
+    }
+
+    /**
+     * 실행기 스레드에서 블로킹 방식으로 값을 계산하는 노드를 만듭니다.
+     */
+    @NotNull
+    public static <T> Builder<T> blocking(String id, @NotNull Function<TaskResults, T> action) {
+        return new Builder<>(id, action, null);
+    }
+
+    /**
+     * 비동기 작업의 완료를 기다리는 노드를 만듭니다.
+     * 작업을 시작하는 함수는 즉시 반환해야 합니다.
+     */
+    @NotNull
+    public static <T> Builder<T> async(String id, @NotNull Function<TaskResults, CompletableFuture<T>> action) {
+        return new Builder<>(id, null, action);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Set<String> getDependencies() {
+        return dependencies;
+    }
+
+    boolean isBlocking() {
+        return blockingAction != null;
+    }
+
+    Function<TaskResults, T> getBlockingAction() {
+        return blockingAction;
+    }
+
+    Function<TaskResults, CompletableFuture<T>> getAsyncAction() {
+        return asyncAction;
+    }
+
+    Duration getTimeout() {
+        return timeout;
+    }
+
+    int getMaxRetries() {
+        return maxRetries;
+    }
+
+    Duration getRetryBackoff() {
+        return retryBackoff;
+    }
+
+    Function<Throwable, T> getFallback() {
+        return fallback;
+    }
+
+    /**
+     * TaskNode 빌더
+     */
+    public static final class Builder<T> {
+        private final String id;
+        private final Function<TaskResults, T> blockingAction;
+        private final Function<TaskResults, CompletableFuture<T>> asyncAction;
+        private final Set<String> dependencies = new LinkedHashSet<>();
+        private Duration timeout;
+        private int maxRetries = 0;
+        private Duration retryBackoff = Duration.ofSeconds(1);
+        private Function<Throwable, T> fallback;
+
+        private Builder(String id, Function<TaskResults, T> blockingAction,
+                        Function<TaskResults, CompletableFuture<T>> asyncAction) {
+            this.id = id;
+            this.blockingAction = blockingAction;
+            this.asyncAction = asyncAction;
+        }
+
+        @NotNull
+        public Builder<T> dependsOn(@NotNull String... nodeIds) {
+            dependencies.addAll(List.of(nodeIds));
+            return this;
+        }
+
+        @NotNull
+        public Builder<T> dependsOn(@NotNull Iterable<String> nodeIds) {
+            nodeIds.forEach(dependencies::add);
+            return this;
+        }
+
+        /**
+         * 시도 한 번의 제한 시간을 지정합니다.
+         */
+        @NotNull
+        public Builder<T> timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * 실패 시 재시도 횟수와 재시도 간격을 지정합니다.
+         */
+        @NotNull
+        public Builder<T> retries(int maxRetries, Duration backoff) {
+            this.maxRetries = Math.max(0, maxRetries);
+            this.retryBackoff = backoff;
+            return this;
+        }
+
+        /**
+         * 모든 시도가 실패했을 때 사용할 대체값을 지정합니다.
+         */
+        @NotNull
+        public Builder<T> fallback(Function<Throwable, T> fallback) {
+            this.fallback = fallback;
+            return this;
+        }
+
+        @NotNull
+        public TaskNode<T> build() {
+            return new TaskNode<>(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.febrie.eroom.service.pipeline;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 완료된 노드들의 결과
+ * 노드는 자신이 선언한 선행 노드의 결과만 읽어야 합니다.
+ */
+public class TaskResults {
+
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+
+    void put(String nodeId, Object value, long durationMs) {
+        if (value != null) {
+            values.put(nodeId, value);
+        }
+        durations.put(nodeId, durationMs);
+    }
+
+    /**
+     * 노드 결과를 반환합니다.
+     */
+    public <T> T get(String nodeId, @NotNull Class<T> type) {
+        return type.cast(values.get(nodeId));
+    }
+
+    public boolean has(String nodeId) {
+        return values.containsKey(nodeId);
+    }
+
+    /**
+     * 노드별 소요 시간(ms)을 반환합니다.
+     */
+    @NotNull
+    public Map<String, Long> getDurations() {
+        return Collections.unmodifiableMap(durations);
+    }
+}
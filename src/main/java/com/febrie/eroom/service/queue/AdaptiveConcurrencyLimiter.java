@@ -0,0 +1,225 @@
+package com.febrie.eroom.service.queue;
+
+import com.febrie.eroom.config.ConfigSection;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 적응형 동시 처리 수 제한기 (AIMD)
+ * 처리 시간이 안정적이고 제한이 실제로 다 쓰이고 있으면 완료 때마다 1/limit씩 늘려 한 바퀴에 1만큼 올립니다.
+ * 단기 처리 시간이 장기 평균보다 크게 늘면 조금, 속도 제한이나 오류가 나면 크게 줄입니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 설정 키
+    private static final String KEY_ENABLED = "enabled";
+    private static final String KEY_MIN_CONCURRENT = "minConcurrent";
+    private static final String KEY_MAX_CONCURRENT = "maxConcurrent";
+    private static final String KEY_INITIAL_CONCURRENT = "initialConcurrent";
+    private static final String KEY_LATENCY_TOLERANCE = "latencyTolerance";
+    private static final String KEY_LATENCY_BACKOFF_RATIO = "latencyBackoffRatio";
+    private static final String KEY_ERROR_BACKOFF_RATIO = "errorBackoffRatio";
+    private static final String KEY_SHORT_ALPHA = "shortAlpha";
+    private static final String KEY_LONG_ALPHA = "longAlpha";
+
+    // 기본값
+    private static final boolean DEFAULT_ENABLED = true;
+    private static final int DEFAULT_MIN_CONCURRENT = 1;
+    private static final double DEFAULT_LATENCY_TOLERANCE = 1.5;
+    private static final double DEFAULT_LATENCY_BACKOFF_RATIO = 0.9;
+    private static final double DEFAULT_ERROR_BACKOFF_RATIO = 0.5;
+    private static final double DEFAULT_SHORT_ALPHA = 0.3;
+    private static final double DEFAULT_LONG_ALPHA = 0.05;
+
+    /**
+     * 작업 결과
+     * IGNORED는 잘못된 요청처럼 상위 서비스 상태와 무관한 결과로, 제한값을 바꾸지 않습니다.
+     */
+    public enum Outcome {
+        SUCCESS,
+        ERROR,
+        RATE_LIMITED,
+        IGNORED
+    }
+
+    /**
+     * 획득한 처리 슬롯
+     * 획득 시점에 제한이 모두 쓰이고 있었는지를 기록해, 여유가 있을 때는 제한을 늘리지 않습니다.
+     */
+    public record Permit(boolean saturated) {
+    }
+
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final double latencyBackoffRatio;
+    private final double errorBackoffRatio;
+    private final double shortAlpha;
+    private final double longAlpha;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotAvailable = lock.newCondition();
+    private double limit;
+    private int inFlight;
+    private double shortLatencyMs = -1;
+    private double longLatencyMs = -1;
+    private long increases;
+    private long latencyBackoffs;
+    private long errorBackoffs;
+
+    /**
+     * AdaptiveConcurrencyLimiter 생성자
+     * adaptive가 false이면 초기값으로 고정된 제한기로 동작합니다.
+     */
+    public AdaptiveConcurrencyLimiter(boolean adaptive, int minLimit, int maxLimit, int initialLimit,
+                                      double latencyTolerance, double latencyBackoffRatio, double errorBackoffRatio,
+                                      double shortAlpha, double longAlpha) {
+        this.adaptive = adaptive;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+        this.latencyTolerance = Math.max(1.0, latencyTolerance);
+        this.latencyBackoffRatio = clampRatio(latencyBackoffRatio);
+        this.errorBackoffRatio = clampRatio(errorBackoffRatio);
+        this.shortAlpha = clampRatio(shortAlpha);
+        this.longAlpha = clampRatio(longAlpha);
+    }
+
+    /**
+     * 공통 설정과 레인 설정에서 제한기를 생성합니다.
+     * 레인 설정에 없는 값은 공통 설정을 따르며, 최대값이 없으면 defaultMax를 사용합니다.
+     */
+    @NotNull
+    public static AdaptiveConcurrencyLimiter fromConfig(@NotNull ConfigSection shared, @NotNull ConfigSection lane, int defaultMax) {
+        int max = lane.getInt(KEY_MAX_CONCURRENT, shared.getInt(KEY_MAX_CONCURRENT, defaultMax));
+        int min = lane.getInt(KEY_MIN_CONCURRENT, shared.getInt(KEY_MIN_CONCURRENT, DEFAULT_MIN_CONCURRENT));
+        return new AdaptiveConcurrencyLimiter(
+                lane.getBoolean(KEY_ENABLED, shared.getBoolean(KEY_ENABLED, DEFAULT_ENABLED)),
+                min,
+                max,
+                lane.getInt(KEY_INITIAL_CONCURRENT, shared.getInt(KEY_INITIAL_CONCURRENT, min)),
+                lane.getDouble(KEY_LATENCY_TOLERANCE, shared.getDouble(KEY_LATENCY_TOLERANCE, DEFAULT_LATENCY_TOLERANCE)),
+                lane.getDouble(KEY_LATENCY_BACKOFF_RATIO, shared.getDouble(KEY_LATENCY_BACKOFF_RATIO, DEFAULT_LATENCY_BACKOFF_RATIO)),
+                lane.getDouble(KEY_ERROR_BACKOFF_RATIO, shared.getDouble(KEY_ERROR_BACKOFF_RATIO, DEFAULT_ERROR_BACKOFF_RATIO)),
+                lane.getDouble(KEY_SHORT_ALPHA, shared.getDouble(KEY_SHORT_ALPHA, DEFAULT_SHORT_ALPHA)),
+                lane.getDouble(KEY_LONG_ALPHA, shared.getDouble(KEY_LONG_ALPHA, DEFAULT_LONG_ALPHA))
+        );
+    }
+
+    /**
+     * 처리 슬롯을 획득합니다.
+     * 현재 제한만큼 작업이 처리 중이면 슬롯이 빌 때까지 기다립니다.
+     */
+    @NotNull
+    public Permit acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= currentLimit()) {
+                slotAvailable.await();
+            }
+            inFlight++;
+            return new Permit(inFlight >= currentLimit());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 작업을 시작하지 못한 슬롯을 반환합니다.
+     */
+    public void cancel(@NotNull Permit permit) {
+        release(permit, 0, Outcome.IGNORED);
+    }
+
+    /**
+     * 처리 슬롯을 반환하고 작업 결과와 처리 시간으로 제한값을 조정합니다.
+     */
+    public void release(@NotNull Permit permit, long durationMs, @NotNull Outcome outcome) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (adaptive) {
+                adjust(durationMs, permit.saturated(), outcome);
+            }
+            slotAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 작업 결과로 제한값을 조정합니다.
+     */
+    private void adjust(long durationMs, boolean saturated, @NotNull Outcome outcome) {
+        switch (outcome) {
+            case IGNORED -> {
+            }
+            case RATE_LIMITED, ERROR -> {
+                limit = Math.max(minLimit, limit * errorBackoffRatio);
+                errorBackoffs++;
+            }
+            case SUCCESS -> {
+                recordLatency(durationMs);
+                if (shortLatencyMs > longLatencyMs * latencyTolerance) {
+                    limit = Math.max(minLimit, limit * latencyBackoffRatio);
+                    latencyBackoffs++;
+                } else if (saturated && limit < maxLimit) {
+                    limit = Math.min(maxLimit, limit + 1.0 / limit);
+                    increases++;
+                }
+            }
+        }
+    }
+
+    private void recordLatency(long durationMs) {
+        if (shortLatencyMs < 0) {
+            shortLatencyMs = durationMs;
+            longLatencyMs = durationMs;
+            return;
+        }
+        shortLatencyMs = shortAlpha * durationMs + (1 - shortAlpha) * shortLatencyMs;
+        longLatencyMs = longAlpha * durationMs + (1 - longAlpha) * longLatencyMs;
+    }
+
+    private int currentLimit() {
+        return (int) Math.floor(limit);
+    }
+
+    /**
+     * 현재 동시 처리 제한을 반환합니다.
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * 제한기 상태를 반환합니다.
+     */
+    @NotNull
+    public QueueManager.LimiterStatus getStatus() {
+        lock.lock();
+        try {
+            return new QueueManager.LimiterStatus(adaptive, currentLimit(), minLimit, maxLimit, inFlight,
+                    Math.max(0, (long) shortLatencyMs), Math.max(0, (long) longLatencyMs),
+                    increases, latencyBackoffs, errorBackoffs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static double clampRatio(double value) {
+        return Math.min(1.0, Math.max(0.01, value));
+    }
+}
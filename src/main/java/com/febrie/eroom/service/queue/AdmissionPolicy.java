@@ -0,0 +1,137 @@
+package com.febrie.eroom.service.queue;
+
+import com.febrie.eroom.config.ConfigSection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 요청 큐 진입 정책
+ * 큐 용량과 예상 대기 시간 상한으로 새 요청의 수락 여부를 판단합니다.
+ * 예상 대기 시간은 작업당 처리 시간의 지수 이동 평균과 현재 큐 깊이로 계산합니다.
+ */
+public class AdmissionPolicy {
+
+    // 설정 키
+    private static final String KEY_CAPACITY = "capacity";
+    private static final String KEY_MAX_ESTIMATED_WAIT_SECONDS = "maxEstimatedWaitSeconds";
+    private static final String KEY_INITIAL_SERVICE_TIME_SECONDS = "initialServiceTimeSeconds";
+    private static final String KEY_SERVICE_TIME_ALPHA = "serviceTimeAlpha";
+    private static final String KEY_MIN_RETRY_AFTER_SECONDS = "minRetryAfterSeconds";
+    private static final String KEY_MAX_RETRY_AFTER_SECONDS = "maxRetryAfterSeconds";
+
+    // 기본값
+    private static final int DEFAULT_CAPACITY = 50;
+    private static final long DEFAULT_MAX_ESTIMATED_WAIT_SECONDS = 1800;
+    private static final long DEFAULT_INITIAL_SERVICE_TIME_SECONDS = 180;
+    private static final double DEFAULT_SERVICE_TIME_ALPHA = 0.2;
+    private static final long DEFAULT_MIN_RETRY_AFTER_SECONDS = 5;
+    private static final long DEFAULT_MAX_RETRY_AFTER_SECONDS = 3600;
+
+    private final int capacity;
+    private final long maxEstimatedWaitMs;
+    private final double serviceTimeAlpha;
+    private final long minRetryAfterSeconds;
+    private final long maxRetryAfterSeconds;
+
+    private volatile double serviceTimeEwmaMs;
+
+    /**
+     * AdmissionPolicy 생성자
+     * 대기 시간 상한이 0이면 용량만 적용합니다.
+     */
+    public AdmissionPolicy(int capacity, long maxEstimatedWaitMs, long initialServiceTimeMs, double serviceTimeAlpha,
+                           long minRetryAfterSeconds, long maxRetryAfterSeconds) {
+        this.capacity = Math.max(1, capacity);
+        this.maxEstimatedWaitMs = Math.max(0, maxEstimatedWaitMs);
+        this.serviceTimeEwmaMs = Math.max(1, initialServiceTimeMs);
+        this.serviceTimeAlpha = Math.min(1.0, Math.max(0.01, serviceTimeAlpha));
+        this.minRetryAfterSeconds = Math.max(1, minRetryAfterSeconds);
+        this.maxRetryAfterSeconds = Math.max(this.minRetryAfterSeconds, maxRetryAfterSeconds);
+    }
+
+    /**
+     * 설정 섹션에서 정책을 생성합니다.
+     */
+    @NotNull
+    public static AdmissionPolicy fromConfig(@NotNull ConfigSection section) {
+        return fromConfig(section, section);
+    }
+
+    /**
+     * 기본 설정 섹션과 덮어쓸 설정 섹션에서 정책을 생성합니다.
+     * 레인별 설정에 없는 값은 기본 설정을 따릅니다.
+     */
+    @NotNull
+    public static AdmissionPolicy fromConfig(@NotNull ConfigSection defaults, @NotNull ConfigSection overrides) {
+        return new AdmissionPolicy(
+                overrides.getInt(KEY_CAPACITY, defaults.getInt(KEY_CAPACITY, DEFAULT_CAPACITY)),
+                overrides.getLong(KEY_MAX_ESTIMATED_WAIT_SECONDS,
+                        defaults.getLong(KEY_MAX_ESTIMATED_WAIT_SECONDS, DEFAULT_MAX_ESTIMATED_WAIT_SECONDS)) * 1000,
+                overrides.getLong(KEY_INITIAL_SERVICE_TIME_SECONDS,
+                        defaults.getLong(KEY_INITIAL_SERVICE_TIME_SECONDS, DEFAULT_INITIAL_SERVICE_TIME_SECONDS)) * 1000,
+                overrides.getDouble(KEY_SERVICE_TIME_ALPHA, defaults.getDouble(KEY_SERVICE_TIME_ALPHA, DEFAULT_SERVICE_TIME_ALPHA)),
+                overrides.getLong(KEY_MIN_RETRY_AFTER_SECONDS,
+                        defaults.getLong(KEY_MIN_RETRY_AFTER_SECONDS, DEFAULT_MIN_RETRY_AFTER_SECONDS)),
+                overrides.getLong(KEY_MAX_RETRY_AFTER_SECONDS,
+                        defaults.getLong(KEY_MAX_RETRY_AFTER_SECONDS, DEFAULT_MAX_RETRY_AFTER_SECONDS))
+        );
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 새 요청이 처리되기 시작할 때까지의 예상 대기 시간을 계산합니다.
+     * 빈 슬롯이 있으면 0이며, 없으면 앞선 요청들이 동시 처리 수만큼씩 빠져나간다고 가정합니다.
+     */
+    public long estimateWaitMs(int queued, int active, int maxConcurrent) {
+        int slots = Math.max(1, maxConcurrent);
+        int ahead = queued + active - slots + 1;
+        if (ahead <= 0) {
+            return 0;
+        }
+        return (long) (Math.ceil((double) ahead / slots) * serviceTimeEwmaMs);
+    }
+
+    /**
+     * 큐가 가득 찼을 때의 재시도 대기 시간을 계산합니다.
+     * 한 자리가 빌 때까지의 예상 시간을 사용합니다.
+     */
+    public long retryAfterWhenFullSeconds(int maxConcurrent) {
+        return toRetryAfterSeconds(serviceTimeEwmaMs / Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 예상 대기 시간이 상한을 넘을 때의 재시도 대기 시간을 계산합니다.
+     * 초과분이 해소될 때까지의 시간을 사용합니다.
+     */
+    public long retryAfterWhenSlowSeconds(long estimatedWaitMs) {
+        return toRetryAfterSeconds(estimatedWaitMs - maxEstimatedWaitMs);
+    }
+
+    /**
+     * 예상 대기 시간이 상한을 넘는지 확인합니다.
+     */
+    public boolean exceedsWaitLimit(long estimatedWaitMs) {
+        return maxEstimatedWaitMs > 0 && estimatedWaitMs > maxEstimatedWaitMs;
+    }
+
+    /**
+     * 작업 하나의 처리 시간을 기록합니다.
+     */
+    public synchronized void recordServiceTime(long durationMs) {
+        if (durationMs <= 0) {
+            return;
+        }
+        serviceTimeEwmaMs = serviceTimeAlpha * durationMs + (1 - serviceTimeAlpha) * serviceTimeEwmaMs;
+    }
+
+    public long getServiceTimeEstimateMs() {
+        return (long) serviceTimeEwmaMs;
+    }
+
+    private long toRetryAfterSeconds(double waitMs) {
+        long seconds = (long) Math.ceil(waitMs / 1000.0);
+        return Math.max(minRetryAfterSeconds, Math.min(maxRetryAfterSeconds, seconds));
+    }
+}
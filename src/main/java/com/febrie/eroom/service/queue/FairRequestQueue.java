@@ -0,0 +1,283 @@
+package com.febrie.eroom.service.queue;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.google.gson.JsonElement;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 테넌트별 가중치 공정 큐
+ * 테넌트마다 하위 큐를 두고 결손 라운드 로빈(DRR)으로 꺼냅니다.
+ * 한 바퀴마다 테넌트의 결손값이 가중치만큼 늘고, 요청 비용(1)만큼 소모하며 꺼낼 수 있습니다.
+ * 따라서 요청을 많이 쌓은 테넌트도 가중치 비율 이상의 처리 슬롯을 차지하지 못합니다.
+ */
+public class FairRequestQueue<T> {
+
+    // 설정 키
+    private static final String KEY_DEFAULT_WEIGHT = "defaultWeight";
+    private static final String KEY_MAX_QUEUED_PER_TENANT = "maxQueuedPerTenant";
+    private static final String KEY_MAX_TRACKED_TENANTS = "maxTrackedTenants";
+    private static final String KEY_MAX_REPORTED_TENANTS = "maxReportedTenants";
+    private static final String KEY_WEIGHTS = "weights";
+
+    // 기본값
+    private static final double DEFAULT_WEIGHT = 1.0;
+    private static final int DEFAULT_MAX_QUEUED_PER_TENANT = 10;
+    private static final int DEFAULT_MAX_TRACKED_TENANTS = 1000;
+    private static final int DEFAULT_MAX_REPORTED_TENANTS = 20;
+
+    private static final double REQUEST_COST = 1.0;
+    private static final int WAIT_SAMPLE_SIZE = 128;
+
+    private final int capacity;
+    private final int maxQueuedPerTenant;
+    private final double defaultWeight;
+    private final Map<String, Double> weights;
+    private final int maxTrackedTenants;
+    private final int maxReportedTenants;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Map<String, Tenant<T>> tenants = new LinkedHashMap<>();
+    private final Deque<Tenant<T>> activeRing = new ArrayDeque<>();
+    private int size;
+
+    /**
+     * FairRequestQueue 생성자
+     * 테넌트당 대기 수 제한이 0이면 전체 용량만 적용합니다.
+     * 상태 조회에는 대기 요청이 많은 테넌트부터 maxReportedTenants개까지만 포함합니다.
+     */
+    public FairRequestQueue(int capacity, int maxQueuedPerTenant, double defaultWeight,
+                            @NotNull Map<String, Double> weights, int maxTrackedTenants, int maxReportedTenants) {
+        this.capacity = Math.max(1, capacity);
+        this.maxQueuedPerTenant = Math.max(0, maxQueuedPerTenant);
+        this.defaultWeight = defaultWeight > 0 ? defaultWeight : 1.0;
+        this.weights = Map.copyOf(weights);
+        this.maxTrackedTenants = Math.max(1, maxTrackedTenants);
+        this.maxReportedTenants = Math.max(0, maxReportedTenants);
+    }
+
+    /**
+     * 설정 섹션에서 큐를 생성합니다.
+     * weights는 테넌트 키별 가중치이며, 없는 테넌트는 defaultWeight를 사용합니다.
+     */
+    @NotNull
+    public static <T> FairRequestQueue<T> fromConfig(@NotNull ConfigSection section, int capacity) {
+        Map<String, Double> weights = new HashMap<>();
+        JsonElement weightsElement = section.get(KEY_WEIGHTS);
+        if (weightsElement != null && weightsElement.isJsonObject()) {
+            weightsElement.getAsJsonObject().entrySet().forEach(entry ->
+                    weights.put(entry.getKey(), entry.getValue().getAsDouble()));
+        }
+        return new FairRequestQueue<>(
+                capacity,
+                section.getInt(KEY_MAX_QUEUED_PER_TENANT, DEFAULT_MAX_QUEUED_PER_TENANT),
+                section.getDouble(KEY_DEFAULT_WEIGHT, DEFAULT_WEIGHT),
+                weights,
+                section.getInt(KEY_MAX_TRACKED_TENANTS, DEFAULT_MAX_TRACKED_TENANTS),
+                section.getInt(KEY_MAX_REPORTED_TENANTS, DEFAULT_MAX_REPORTED_TENANTS)
+        );
+    }
+
+    /**
+     * 요청 추가 결과
+     */
+    public enum OfferResult {
+        ACCEPTED,
+        QUEUE_FULL,
+        TENANT_LIMIT
+    }
+
+    /**
+     * 테넌트의 하위 큐에 요청을 추가합니다.
+     */
+    @NotNull
+    public OfferResult offer(@NotNull String tenantId, @NotNull T item) {
+        lock.lock();
+        try {
+            if (size >= capacity) {
+                return OfferResult.QUEUE_FULL;
+            }
+            Tenant<T> tenant = tenants.computeIfAbsent(tenantId, id -> new Tenant<>(id, weightOf(id)));
+            if (maxQueuedPerTenant > 0 && tenant.queue.size() >= maxQueuedPerTenant) {
+                return OfferResult.TENANT_LIMIT;
+            }
+
+            if (tenant.queue.isEmpty()) {
+                activeRing.addLast(tenant);
+            }
+            tenant.queue.addLast(new Entry<>(item, System.currentTimeMillis()));
+            tenant.enqueued++;
+            size++;
+            evictIdleTenants();
+            notEmpty.signal();
+            return OfferResult.ACCEPTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 다음 차례의 요청을 꺼냅니다.
+     * 큐가 비어 있으면 요청이 들어올 때까지 기다립니다.
+     */
+    @NotNull
+    public T take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결손 라운드 로빈으로 요청 하나를 꺼냅니다.
+     * 앞 테넌트의 결손값이 비용보다 작으면 가중치만큼 채우고 링 뒤로 보냅니다.
+     */
+    @NotNull
+    private T dequeue() {
+        while (true) {
+            Tenant<T> tenant = activeRing.peekFirst();
+            if (tenant.deficit < REQUEST_COST) {
+                tenant.deficit += tenant.weight;
+                activeRing.addLast(activeRing.pollFirst());
+                continue;
+            }
+
+            Entry<T> entry = tenant.queue.pollFirst();
+            tenant.deficit -= REQUEST_COST;
+            tenant.recordDispatch(System.currentTimeMillis() - entry.enqueuedAt());
+            size--;
+
+            if (tenant.queue.isEmpty()) {
+                // 비어 있는 테넌트는 결손값을 쌓아두지 않습니다.
+                tenant.deficit = 0;
+                activeRing.pollFirst();
+            }
+            return entry.item();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * 대기 중인 요청이 있는 테넌트 수를 반환합니다.
+     */
+    public int backloggedTenants() {
+        lock.lock();
+        try {
+            return activeRing.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 테넌트별 대기 상태를 반환합니다.
+     * 대기 요청 수, 가장 오래 기다린 시간 순으로 최대 maxReportedTenants개만 반환합니다.
+     */
+    @NotNull
+    public List<QueueManager.TenantStatus> tenantStatuses() {
+        lock.lock();
+        try {
+            long now = System.currentTimeMillis();
+            List<QueueManager.TenantStatus> statuses = new ArrayList<>(tenants.size());
+            for (Tenant<T> tenant : tenants.values()) {
+                statuses.add(tenant.toStatus(now));
+            }
+            statuses.sort(Comparator.comparingInt(QueueManager.TenantStatus::queued)
+                    .thenComparingLong(QueueManager.TenantStatus::oldestWaitMs)
+                    .reversed());
+            return statuses.size() > maxReportedTenants
+                    ? new ArrayList<>(statuses.subList(0, maxReportedTenants))
+                    : statuses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double weightOf(String tenantId) {
+        Double weight = weights.get(tenantId);
+        return weight != null && weight > 0 ? weight : defaultWeight;
+    }
+
+    /**
+     * 추적 중인 테넌트가 너무 많으면 대기 요청이 없는 오래된 테넌트부터 지웁니다.
+     */
+    private void evictIdleTenants() {
+        Iterator<Tenant<T>> iterator = tenants.values().iterator();
+        while (tenants.size() > maxTrackedTenants && iterator.hasNext()) {
+            if (iterator.next().queue.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long enqueuedAt) {
+    }
+
+    /**
+     * 테넌트 하위 큐와 대기 시간 통계
+     */
+    private static final class Tenant<T> {
+        private final String id;
+        private final double weight;
+        private final Deque<Entry<T>> queue = new ArrayDeque<>();
+        private final long[] waitSamples = new long[WAIT_SAMPLE_SIZE];
+        private double deficit;
+        private long enqueued;
+        private long dispatched;
+        private long totalWaitMs;
+
+        private Tenant(String id, double weight) {
+            this.id = id;
+            this.weight = weight;
+        }
+
+        private void recordDispatch(long waitMs) {
+            waitSamples[(int) (dispatched % WAIT_SAMPLE_SIZE)] = waitMs;
+            dispatched++;
+            totalWaitMs += waitMs;
+        }
+
+        @NotNull
+        private QueueManager.TenantStatus toStatus(long now) {
+            Entry<T> oldest = queue.peekFirst();
+            long oldestWaitMs = oldest != null ? now - oldest.enqueuedAt() : 0;
+            long averageWaitMs = dispatched > 0 ? totalWaitMs / dispatched : 0;
+            return new QueueManager.TenantStatus(id, weight, queue.size(), enqueued, dispatched,
+                    averageWaitMs, p95WaitMs(), oldestWaitMs);
+        }
+
+        /**
+         * 최근 꺼낸 요청들의 95번째 백분위 대기 시간을 계산합니다.
+         */
+        private long p95WaitMs() {
+            int count = (int) Math.min(dispatched, WAIT_SAMPLE_SIZE);
+            if (count == 0) {
+                return 0;
+            }
+            long[] samples = Arrays.copyOf(waitSamples, count);
+            Arrays.sort(samples);
+            return samples[(int) Math.ceil(count * 0.95) - 1];
+        }
+    }
+}
@@ -2,13 +2,34 @@ package com.febrie.eroom.service.queue;
 
 import com.febrie.eroom.model.RoomCreationRequest;
 
+import java.util.List;
+
 public interface QueueManager {
-    String submitRequest(RoomCreationRequest request);
+    default String submitRequest(RoomCreationRequest request) {
+        return submitRequest(request, request.getUuid());
+    }
+
+    String submitRequest(RoomCreationRequest request, String tenantId);
 
     QueueStatus getQueueStatus();
 
     void shutdown();
 
-    record QueueStatus(int queued, int active, int completed, int maxConcurrent) {
+    record QueueStatus(int queued, int active, int completed, int maxConcurrent,
+                       int capacity, long rejected, List<LaneStatus> lanes) {
+    }
+
+    record LaneStatus(String lane, int queued, int active, int maxConcurrent, int capacity,
+                      long estimatedWaitMs, long serviceTimeEstimateMs, LimiterStatus concurrency,
+                      List<TenantStatus> tenants) {
+    }
+
+    record LimiterStatus(boolean adaptive, int limit, int minLimit, int maxLimit, int inFlight,
+                         long shortLatencyMs, long longLatencyMs, long increases,
+                         long latencyBackoffs, long errorBackoffs) {
+    }
+
+    record TenantStatus(String tenant, double weight, int queued, long enqueued, long dispatched,
+                        long averageWaitMs, long p95WaitMs, long oldestWaitMs) {
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package com.febrie.eroom.service.queue;
+
+import com.febrie.eroom.model.RoomCreationRequest;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 방 생성 요청의 처리 레인
+ * 레인마다 대기 큐와 동시 처리 수 제한이 따로 있어, 빠른 로컬 모델링 방이 느린 Meshy 방 뒤에서 기다리지 않습니다.
+ */
+public enum RequestLane {
+    PRIORITY("priority", 1),
+    FREE("free", 2),
+    PAID("paid", 1);
+
+    private final String configKey;
+    private final int defaultMaxConcurrent;
+
+    RequestLane(String configKey, int defaultMaxConcurrent) {
+        this.configKey = configKey;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public int getDefaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+
+    /**
+     * 요청의 우선순위와 모델링 방식으로 레인을 선택합니다.
+     * 우선순위가 high이면 모델링 방식과 관계없이 우선 레인을 사용합니다.
+     */
+    @NotNull
+    public static RequestLane select(@NotNull RoomCreationRequest request) {
+        if (request.isHighPriority()) {
+            return PRIORITY;
+        }
+        return request.isFreeModeling() ? FREE : PAID;
+    }
+}
@@ -1,8 +1,14 @@
 package com.febrie.eroom.service.queue;
 
+import com.febrie.eroom.config.ConfigSection;
+import com.febrie.eroom.exception.QueueRejectedException;
 import com.febrie.eroom.model.RoomCreationRequest;
 import com.febrie.eroom.model.RoomCreationResponse;
 import com.febrie.eroom.service.JobResultStore;
+import com.febrie.eroom.service.concurrent.ExecutionMode;
+import com.febrie.eroom.service.concurrent.ExecutorFactory;
+import com.febrie.eroom.service.journal.JobJournal;
+import com.febrie.eroom.service.journal.RecoveredJob;
 import com.febrie.eroom.service.room.RoomService;
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
@@ -10,88 +16,197 @@ import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class RoomRequestQueueManager implements QueueManager {
     private static final Logger log = LoggerFactory.getLogger(RoomRequestQueueManager.class);
 
-    private record QueuedRoomRequest(String ruid, RoomCreationRequest request, long queuedTimestamp) {
+    private record QueuedRoomRequest(String ruid, String tenantId, RoomCreationRequest request, long queuedTimestamp) {
     }
 
     private final ExecutorService executorService;
-    private final BlockingQueue<QueuedRoomRequest> requestQueue;
+    private final Map<RequestLane, Lane> lanes = new EnumMap<>(RequestLane.class);
     private final RoomService roomService;
     private final JobResultStore resultStore;
-    private final int maxConcurrentRequests;
+    private final JobJournal jobJournal;
     private final Gson gson;
 
-    private final AtomicInteger activeRequests = new AtomicInteger(0);
     private final AtomicInteger completedRequests = new AtomicInteger(0);
+    private final AtomicLong rejectedRequests = new AtomicLong(0);
+    private volatile boolean shuttingDown;
 
     /**
      * RoomRequestQueueManager 생성자
-     * 큐 관리자를 초기화하고 워커 스레드를 시작합니다.
-     */
-    public RoomRequestQueueManager(RoomService roomService, JobResultStore resultStore, int maxConcurrentRequests) {
+     * 레인별 큐와 디스패처 스레드를 초기화합니다.
+     * 동시 처리 수는 레인마다 적응형 제한기로 조절하고, 큐 크기는 레인의 진입 정책 용량으로 제한합니다.
+     * 대기 요청은 레인 안에서 테넌트별 공정 큐로 가중치 비율대로 꺼냅니다.
+     * 유료 레인의 최대 동시 처리 수는 별도 설정이 없으면 maxConcurrentRequests를 사용합니다.
+     * 실행기는 모든 레인의 최대 동시 처리 수 합만큼의 스레드를 갖습니다.
+     * 디스패처를 시작하기 전에 작업 저널을 재생해 이전 실행의 결과와 미완료 작업을 복구합니다.
+     */
+    public RoomRequestQueueManager(RoomService roomService, JobResultStore resultStore, JobJournal jobJournal,
+                                   int maxConcurrentRequests, ExecutionMode executionMode, @NotNull ConfigSection queueConfig) {
         this.roomService = roomService;
         this.resultStore = resultStore;
-        this.maxConcurrentRequests = maxConcurrentRequests;
-        this.executorService = Executors.newFixedThreadPool(maxConcurrentRequests);
-        this.requestQueue = new LinkedBlockingQueue<>();
+        this.jobJournal = jobJournal;
         this.gson = new Gson();
 
-        initializeWorkers(maxConcurrentRequests);
-        log.info("RoomRequestQueueManager 초기화 - maxConcurrent: {}", maxConcurrentRequests);
+        ConfigSection lanesConfig = queueConfig.getSection("lanes");
+        ConfigSection concurrencyConfig = queueConfig.getSection("concurrency");
+        int totalConcurrency = 0;
+        for (RequestLane type : RequestLane.values()) {
+            ConfigSection laneConfig = lanesConfig.getSection(type.getConfigKey());
+            int defaultConcurrent = type == RequestLane.PAID ? maxConcurrentRequests : type.getDefaultMaxConcurrent();
+            AdmissionPolicy admissionPolicy = AdmissionPolicy.fromConfig(queueConfig, laneConfig);
+            Lane lane = new Lane(type, AdaptiveConcurrencyLimiter.fromConfig(concurrencyConfig, laneConfig, defaultConcurrent),
+                    admissionPolicy, FairRequestQueue.fromConfig(queueConfig.getSection("fairness"), admissionPolicy.getCapacity()));
+            lanes.put(type, lane);
+            totalConcurrency += lane.limiter.getMaxLimit();
+        }
+        this.executorService = ExecutorFactory.create(executionMode, totalConcurrency, "RoomRequestQueue");
+        recoverJobs();
+
+        lanes.values().forEach(lane -> {
+            lane.dispatcher.start();
+            LimiterStatus limiter = lane.limiter.getStatus();
+            log.info("요청 레인 초기화 - lane: {}, concurrency: {} ({}~{}, adaptive: {}), capacity: {}",
+                    lane.type.getConfigKey(), limiter.limit(), limiter.minLimit(), limiter.maxLimit(),
+                    limiter.adaptive(), lane.queue.getCapacity());
+        });
+        log.info("RoomRequestQueueManager 초기화 - lanes: {}, totalConcurrency: {}, mode: {}",
+                lanes.size(), totalConcurrency, executionMode);
+    }
+
+    /**
+     * 저널을 재생해 작업들을 하나씩 되살립니다.
+     * 최종 결과가 있는 작업은 결과 저장소에 넣고, 대기 중이거나 처리 중이던 작업은 접수 순서대로 다시 큐에 넣습니다.
+     * 처리 중이던 작업은 처음부터 다시 처리합니다.
+     */
+    private void recoverJobs() {
+        AtomicInteger restoredResults = new AtomicInteger();
+        AtomicInteger requeued = new AtomicInteger();
+        jobJournal.replay(job -> {
+            if (job.isFinished()) {
+                resultStore.restoreFinalResult(job.ruid(), job.result(), job.status());
+                restoredResults.incrementAndGet();
+            } else if (job.request() != null) {
+                requeueRecoveredJob(job);
+                requeued.incrementAndGet();
+            }
+        });
+        if (restoredResults.get() > 0 || requeued.get() > 0) {
+            log.info("작업 저널에서 복구 - results: {}, requeued: {}", restoredResults.get(), requeued.get());
+        }
     }
 
     /**
-     * 워커 스레드들을 초기화합니다.
+     * 복구한 미완료 작업을 원래 RUID와 테넌트로 다시 큐에 넣습니다.
+     * 레인 큐에 자리가 없으면 실패로 저장합니다.
      */
-    private void initializeWorkers(int workerCount) {
-        for (int i = 0; i < workerCount; i++) {
-            executorService.submit(this::runProcessorLoop);
+    private void requeueRecoveredJob(@NotNull RecoveredJob job) {
+        RoomCreationRequest request = gson.fromJson(job.request(), RoomCreationRequest.class);
+        Lane lane = lanes.get(RequestLane.select(request));
+        resultStore.registerJob(job.ruid());
+
+        roomService.restoreCheckpoints(job.ruid(), job.stages());
+
+        QueuedRoomRequest queuedRequest = new QueuedRoomRequest(job.ruid(), job.tenantId(), request, job.submittedAt());
+        if (lane.queue.offer(job.tenantId(), queuedRequest) != FairRequestQueue.OfferResult.ACCEPTED) {
+            log.warn("복구한 작업을 큐에 넣지 못했습니다 - ruid: {}, lane: {}", job.ruid(), lane.type.getConfigKey());
+            storeResult(job.ruid(), convertResponseToJson(createErrorResponse(job.ruid(), request.getUuid(),
+                    "서버 재시작 후 요청 큐에 자리가 없어 작업을 복구하지 못했습니다.")), JobResultStore.Status.FAILED);
+            return;
         }
+        log.info("작업 복구 - ruid: {}, lane: {}, previousStatus: {}", job.ruid(), lane.type.getConfigKey(), job.status());
     }
 
     /**
      * 방 생성 요청을 큐에 추가합니다.
+     * 요청의 우선순위와 모델링 방식으로 레인을 고르며, 레인 큐가 가득 찼거나,
+     * 테넌트의 대기 요청이 너무 많거나, 예상 대기 시간이 상한을 넘으면 QueueRejectedException이 발생합니다.
      */
     @Override
-    public String submitRequest(@NotNull RoomCreationRequest request) {
+    public String submitRequest(@NotNull RoomCreationRequest request, String tenantId) {
         String ruid = generateRuid();
         long queuedTime = System.currentTimeMillis();
-        logRequestDetails(ruid, request);
-        try {
-            return enqueueRequest(ruid, request, queuedTime);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("요청을 큐에 추가하는 중 인터럽트 발생: ruid={}", ruid, e);
-            throw new RuntimeException("요청 처리가 중단되었습니다.", e);
+        String tenant = tenantId != null && !tenantId.isBlank() ? tenantId : "anonymous";
+        Lane lane = lanes.get(RequestLane.select(request));
+        logRequestDetails(ruid, request, lane);
+
+        checkAdmission(ruid, lane);
+        return enqueueRequest(ruid, tenant, request, queuedTime, lane);
+    }
+
+    /**
+     * 예상 대기 시간이 상한을 넘는지 확인합니다.
+     */
+    private void checkAdmission(String ruid, @NotNull Lane lane) {
+        long estimatedWaitMs = lane.estimateWaitMs();
+        if (lane.admissionPolicy.exceedsWaitLimit(estimatedWaitMs)) {
+            long retryAfter = lane.admissionPolicy.retryAfterWhenSlowSeconds(estimatedWaitMs);
+            throw reject(ruid, lane, QueueRejectedException.Reason.WAIT_TOO_LONG, retryAfter,
+                    "예상 대기 시간이 너무 깁니다: " + estimatedWaitMs / 1000 + "초");
         }
     }
 
     /**
-     * 요청을 큐에 추가하고 RUID를 반환합니다.
+     * 요청을 레인 큐에 추가하고 RUID를 반환합니다.
+     * 작업 저널에 먼저 기록한 뒤 큐에 넣으므로, 워커가 꺼낸 요청은 항상 저널에 제출 기록이 있습니다.
+     * 큐나 테넌트 하위 큐에 자리가 없으면 등록한 작업을 지워 저널에 삭제를 기록하고 요청을 거부합니다.
      */
-    private String enqueueRequest(String ruid, RoomCreationRequest request, long queuedTime) throws InterruptedException {
+    private String enqueueRequest(String ruid, String tenantId, RoomCreationRequest request, long queuedTime, @NotNull Lane lane) {
         resultStore.registerJob(ruid);
-        QueuedRoomRequest queuedRequest = new QueuedRoomRequest(ruid, request, queuedTime);
-        requestQueue.put(queuedRequest);
+        jobJournal.recordSubmitted(ruid, tenantId, gson.toJsonTree(request).getAsJsonObject());
+        QueuedRoomRequest queuedRequest = new QueuedRoomRequest(ruid, tenantId, request, queuedTime);
+        FairRequestQueue.OfferResult result = lane.queue.offer(tenantId, queuedRequest);
+        if (result != FairRequestQueue.OfferResult.ACCEPTED) {
+            resultStore.deleteJob(ruid);
+            throw rejectOffer(ruid, tenantId, result, lane);
+        }
 
-        logQueueStatus(ruid, request.getUuid());
+        logQueueStatus(ruid, request.getUuid(), lane);
         return ruid;
     }
 
+    /**
+     * 큐 추가 실패를 거부 예외로 변환합니다.
+     * 테넌트 제한에 걸린 경우 대기 중인 테넌트 수만큼 차례가 늦게 돌아온다고 봅니다.
+     */
+    @NotNull
+    private QueueRejectedException rejectOffer(String ruid, String tenantId, FairRequestQueue.OfferResult result, @NotNull Lane lane) {
+        long retryAfter = lane.admissionPolicy.retryAfterWhenFullSeconds(lane.limiter.getLimit());
+        if (result == FairRequestQueue.OfferResult.TENANT_LIMIT) {
+            long turns = Math.max(1, lane.queue.backloggedTenants());
+            return reject(ruid, lane, QueueRejectedException.Reason.TENANT_LIMIT, retryAfter * turns,
+                    "테넌트의 대기 요청이 너무 많습니다: " + tenantId);
+        }
+        return reject(ruid, lane, QueueRejectedException.Reason.QUEUE_FULL, retryAfter,
+                "요청 큐가 가득 찼습니다: " + lane.queue.getCapacity());
+    }
+
+    /**
+     * 거부 예외를 생성하고 거부 수를 기록합니다.
+     */
+    @NotNull
+    private QueueRejectedException reject(String ruid, @NotNull Lane lane, QueueRejectedException.Reason reason,
+                                          long retryAfterSeconds, String message) {
+        long rejected = rejectedRequests.incrementAndGet();
+        log.warn("요청 거부 - ruid: {}, lane: {}, reason: {}, retryAfter: {}s, queueSize: {}, rejected: {}",
+                ruid, lane.type.getConfigKey(), reason, retryAfterSeconds, lane.queue.size(), rejected);
+        return new QueueRejectedException(message, reason, retryAfterSeconds);
+    }
+
     /**
      * 요청 상세 정보를 로깅합니다.
      */
-    private void logRequestDetails(String ruid, @NotNull RoomCreationRequest request) {
-        log.debug("요청 제출 - ruid: {}, uuid: {}, theme: {}, keywords: [{}], difficulty: {}, queueSize: {}",
+    private void logRequestDetails(String ruid, @NotNull RoomCreationRequest request, @NotNull Lane lane) {
+        log.debug("요청 제출 - ruid: {}, uuid: {}, theme: {}, keywords: [{}], difficulty: {}, lane: {}, queueSize: {}",
                 ruid, request.getUuid(), request.getTheme(),
                 formatKeywords(request.getKeywords()), request.getDifficulty(),
-                requestQueue.size());
+                lane.type.getConfigKey(), lane.queue.size());
     }
 
     /**
@@ -105,9 +220,9 @@ public class RoomRequestQueueManager implements QueueManager {
     /**
      * 큐 상태를 로깅합니다.
      */
-    private void logQueueStatus(String ruid, String userUuid) {
-        log.info("요청 큐 추가됨 - ruid: {}, uuid: {}, queueSize: {}, active: {}, completed: {}",
-                ruid, userUuid, requestQueue.size(), activeRequests.get(), completedRequests.get());
+    private void logQueueStatus(String ruid, String userUuid, @NotNull Lane lane) {
+        log.info("요청 큐 추가됨 - ruid: {}, uuid: {}, lane: {}, queueSize: {}, active: {}, completed: {}",
+                ruid, userUuid, lane.type.getConfigKey(), lane.queue.size(), lane.active.get(), completedRequests.get());
     }
 
     /**
@@ -115,12 +230,21 @@ public class RoomRequestQueueManager implements QueueManager {
      */
     @Override
     public QueueStatus getQueueStatus() {
-        return new QueueStatus(
-                requestQueue.size(),
-                activeRequests.get(),
-                completedRequests.get(),
-                this.maxConcurrentRequests
-        );
+        int queued = 0;
+        int active = 0;
+        int maxConcurrent = 0;
+        int capacity = 0;
+        List<LaneStatus> laneStatuses = new ArrayList<>(lanes.size());
+        for (Lane lane : lanes.values()) {
+            LaneStatus status = lane.toStatus();
+            queued += status.queued();
+            active += status.active();
+            maxConcurrent += status.maxConcurrent();
+            capacity += status.capacity();
+            laneStatuses.add(status);
+        }
+        return new QueueStatus(queued, active, completedRequests.get(), maxConcurrent, capacity,
+                rejectedRequests.get(), laneStatuses);
     }
 
     /**
@@ -129,6 +253,7 @@ public class RoomRequestQueueManager implements QueueManager {
     @Override
     public void shutdown() {
         log.debug("RoomRequestQueueManager 종료 시작");
+        shuttingDown = true;
         shutdownExecutorService();
         log.debug("RoomRequestQueueManager 종료 완료");
     }
@@ -137,6 +262,7 @@ public class RoomRequestQueueManager implements QueueManager {
      * ExecutorService를 종료합니다.
      */
     private void shutdownExecutorService() {
+        lanes.values().forEach(lane -> lane.dispatcher.interrupt());
         executorService.shutdown();
         try {
             if (!executorService.awaitTermination(1, TimeUnit.SECONDS)) {
@@ -173,32 +299,46 @@ public class RoomRequestQueueManager implements QueueManager {
     }
 
     /**
-     * 큐 프로세서 워커의 메인 루프입니다.
+     * 레인 디스패처의 메인 루프입니다.
+     * 레인 제한기에서 처리 슬롯을 확보한 뒤 레인 큐에서 요청을 꺼내 실행기에 전달합니다.
      */
-    private void runProcessorLoop() {
-        log.debug("큐 프로세서 워커 시작: {}", Thread.currentThread().getName());
+    private void runDispatcherLoop(@NotNull Lane lane) {
+        log.debug("큐 디스패처 시작: {}", Thread.currentThread().getName());
 
         while (!Thread.currentThread().isInterrupted()) {
             try {
-                processNextRequest();
+                dispatchNextRequest(lane);
             } catch (InterruptedException e) {
                 handleWorkerInterruption();
                 break;
             } catch (Exception e) {
-                log.error("큐 프로세서 루프에서 복구 불가능한 오류 발생", e);
+                log.error("큐 디스패처 루프에서 복구 불가능한 오류 발생", e);
             }
         }
     }
 
     /**
-     * 큐에서 다음 요청을 처리합니다.
+     * 레인 큐에서 다음 요청을 꺼내 처리를 시작합니다.
      */
-    private void processNextRequest() throws InterruptedException {
-        log.debug("큐에서 요청 대기 중... 현재 큐 크기: {}", requestQueue.size());
-        QueuedRoomRequest queuedRequest = requestQueue.take();
+    private void dispatchNextRequest(@NotNull Lane lane) throws InterruptedException {
+        AdaptiveConcurrencyLimiter.Permit permit = lane.limiter.acquire();
+
+        QueuedRoomRequest queuedRequest;
+        try {
+            log.debug("큐에서 요청 대기 중... lane: {}, 현재 큐 크기: {}", lane.type.getConfigKey(), lane.queue.size());
+            queuedRequest = lane.queue.take();
+        } catch (InterruptedException e) {
+            lane.limiter.cancel(permit);
+            throw e;
+        }
 
         logRequestExtraction(queuedRequest);
-        processRequestInBackground(queuedRequest);
+        try {
+            executorService.execute(() -> processRequestInBackground(queuedRequest, lane, permit));
+        } catch (RejectedExecutionException e) {
+            lane.limiter.cancel(permit);
+            throw e;
+        }
     }
 
     /**
@@ -206,8 +346,8 @@ public class RoomRequestQueueManager implements QueueManager {
      */
     private void logRequestExtraction(@NotNull QueuedRoomRequest queuedRequest) {
         long waitTime = System.currentTimeMillis() - queuedRequest.queuedTimestamp();
-        log.debug("큐에서 요청 추출 - ruid: {}, waitTime: {}ms",
-                queuedRequest.ruid(), waitTime);
+        log.debug("큐에서 요청 추출 - ruid: {}, tenant: {}, waitTime: {}ms",
+                queuedRequest.ruid(), queuedRequest.tenantId(), waitTime);
     }
 
     /**
@@ -215,36 +355,62 @@ public class RoomRequestQueueManager implements QueueManager {
      */
     private void handleWorkerInterruption() {
         Thread.currentThread().interrupt();
-        log.warn("큐 프로세서 워커 중단됨: {}", Thread.currentThread().getName());
+        log.warn("큐 디스패처 중단됨: {}", Thread.currentThread().getName());
     }
 
     /**
      * 백그라운드에서 요청을 처리합니다.
+     * 처리가 끝나면 결과와 처리 시간을 레인 제한기에 알리고 슬롯을 반환합니다.
      */
-    private void processRequestInBackground(@NotNull QueuedRoomRequest queuedRequest) {
+    private void processRequestInBackground(@NotNull QueuedRoomRequest queuedRequest, @NotNull Lane lane,
+                                            @NotNull AdaptiveConcurrencyLimiter.Permit permit) {
         String ruid = queuedRequest.ruid();
         RoomCreationRequest request = queuedRequest.request();
 
-        logProcessingStart(ruid, request);
+        logProcessingStart(ruid, request, lane);
         updateJobStatusToProcessing(ruid);
+        long startTime = System.currentTimeMillis();
+        AdaptiveConcurrencyLimiter.Outcome outcome = AdaptiveConcurrencyLimiter.Outcome.ERROR;
 
         try {
             RoomCreationResponse response = executeRoomCreation(ruid, request);
+            outcome = classifyOutcome(response);
             handleProcessingSuccess(ruid, response);
         } catch (Exception e) {
             handleProcessingError(ruid, request.getUuid(), e);
         } finally {
-            finalizeProcessing(ruid);
+            long duration = System.currentTimeMillis() - startTime;
+            lane.admissionPolicy.recordServiceTime(duration);
+            lane.limiter.release(permit, duration, outcome);
+            finalizeProcessing(ruid, lane);
+        }
+    }
+
+    /**
+     * 방 생성 결과를 제한기에 알릴 작업 결과로 분류합니다.
+     * 잘못된 요청은 상위 서비스 상태와 무관하므로 제한값을 바꾸지 않습니다.
+     */
+    @NotNull
+    private AdaptiveConcurrencyLimiter.Outcome classifyOutcome(@NotNull RoomCreationResponse response) {
+        if (response.isSuccess()) {
+            return AdaptiveConcurrencyLimiter.Outcome.SUCCESS;
+        }
+        if (response.getFailureKind() == RoomCreationResponse.FailureKind.INVALID_REQUEST) {
+            return AdaptiveConcurrencyLimiter.Outcome.IGNORED;
+        }
+        if (response.getFailureKind() == RoomCreationResponse.FailureKind.RATE_LIMITED) {
+            return AdaptiveConcurrencyLimiter.Outcome.RATE_LIMITED;
         }
+        return AdaptiveConcurrencyLimiter.Outcome.ERROR;
     }
 
     /**
      * 처리 시작을 로깅합니다.
      */
-    private void logProcessingStart(String ruid, @NotNull RoomCreationRequest request) {
-        int currentActive = activeRequests.incrementAndGet();
-        log.info("처리 시작 - ruid: {}, uuid: {}, active: {}",
-                ruid, request.getUuid(), currentActive);
+    private void logProcessingStart(String ruid, @NotNull RoomCreationRequest request, @NotNull Lane lane) {
+        int currentActive = lane.active.incrementAndGet();
+        log.info("처리 시작 - ruid: {}, uuid: {}, lane: {}, active: {}",
+                ruid, request.getUuid(), lane.type.getConfigKey(), currentActive);
     }
 
     /**
@@ -284,11 +450,18 @@ public class RoomRequestQueueManager implements QueueManager {
     }
 
     /**
-     * 처리 성공을 처리합니다.
+     * 처리 결과를 저장합니다.
+     * 방 생성 서비스가 실패 응답을 반환한 경우 FAILED로 저장합니다.
      */
-    private void handleProcessingSuccess(String ruid, RoomCreationResponse response) {
+    private void handleProcessingSuccess(String ruid, @NotNull RoomCreationResponse response) {
         JsonObject resultJson = convertResponseToJson(response);
-        resultStore.storeFinalResult(ruid, resultJson, JobResultStore.Status.COMPLETED);
+        if (!response.isSuccess()) {
+            storeResult(ruid, resultJson, JobResultStore.Status.FAILED);
+            log.warn("처리 실패로 저장 - ruid: {}, error: {}", ruid, response.getErrorMessage());
+            return;
+        }
+
+        storeResult(ruid, resultJson, JobResultStore.Status.COMPLETED);
         int completedCount = completedRequests.incrementAndGet();
         log.info("처리 성공 - ruid: {}, completed: {}", ruid, completedCount);
     }
@@ -433,7 +606,21 @@ public class RoomRequestQueueManager implements QueueManager {
         RoomCreationResponse errorResponse = createErrorResponse(ruid, userUuid, e.getMessage());
         JsonObject errorJson = convertResponseToJson(errorResponse);
 
-        resultStore.storeFinalResult(ruid, errorJson, JobResultStore.Status.FAILED);
+        storeResult(ruid, errorJson, JobResultStore.Status.FAILED);
+    }
+
+    /**
+     * 최종 결과를 저장합니다.
+     * 종료 중에 중단되어 실패한 작업은 저장하지 않아, 저널에 처리 중으로 남아 재시작 후 다시 처리되게 합니다.
+     * 체크포인트는 결과를 저장한 뒤에만 정리합니다.
+     */
+    private void storeResult(String ruid, JsonObject result, JobResultStore.Status status) {
+        if (shuttingDown && status == JobResultStore.Status.FAILED) {
+            log.info("종료 중 중단된 작업은 재시작 후 다시 처리합니다 - ruid: {}", ruid);
+            return;
+        }
+        resultStore.storeFinalResult(ruid, result, status);
+        roomService.clearCheckpoints(ruid);
     }
 
     /**
@@ -446,9 +633,10 @@ public class RoomRequestQueueManager implements QueueManager {
     /**
      * 처리를 마무리합니다.
      */
-    private void finalizeProcessing(String ruid) {
-        int remainingActive = activeRequests.decrementAndGet();
-        log.debug("처리 종료 - ruid: {}, active: {}", ruid, remainingActive);
+    private void finalizeProcessing(String ruid, @NotNull Lane lane) {
+        int remainingActive = lane.active.decrementAndGet();
+        log.debug("처리 종료 - ruid: {}, lane: {}, active: {}, limit: {}",
+                ruid, lane.type.getConfigKey(), remainingActive, lane.limiter.getLimit());
     }
 
     /**
@@ -464,4 +652,41 @@ public class RoomRequestQueueManager implements QueueManager {
 
         return errorResponse;
     }
-}
\ No newline at end of file
+
+    /**
+     * 레인별 대기 큐와 동시 처리 제한
+     */
+    private final class Lane {
+        private final RequestLane type;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final AdmissionPolicy admissionPolicy;
+        private final FairRequestQueue<QueuedRoomRequest> queue;
+        private final AtomicInteger active = new AtomicInteger(0);
+        private final Thread dispatcher;
+
+        private Lane(RequestLane type, AdaptiveConcurrencyLimiter limiter, AdmissionPolicy admissionPolicy,
+                     FairRequestQueue<QueuedRoomRequest> queue) {
+            this.type = type;
+            this.limiter = limiter;
+            this.admissionPolicy = admissionPolicy;
+            this.queue = queue;
+            this.dispatcher = new Thread(() -> runDispatcherLoop(this), "room-queue-dispatcher-" + type.getConfigKey());
+            this.dispatcher.setDaemon(true);
+        }
+
+        /**
+         * 이 레인에 새 요청이 들어왔을 때의 예상 대기 시간을 계산합니다.
+         * 제한기의 현재 동시 처리 수를 기준으로 합니다.
+         */
+        private long estimateWaitMs() {
+            return admissionPolicy.estimateWaitMs(queue.size(), active.get(), limiter.getLimit());
+        }
+
+        @NotNull
+        private LaneStatus toStatus() {
+            LimiterStatus concurrency = limiter.getStatus();
+            return new LaneStatus(type.getConfigKey(), queue.size(), active.get(), concurrency.limit(), queue.getCapacity(),
+                    estimateWaitMs(), admissionPolicy.getServiceTimeEstimateMs(), concurrency, queue.tenantStatuses());
+        }
+    }
+}
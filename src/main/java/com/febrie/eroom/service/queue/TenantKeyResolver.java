@@ -0,0 +1,63 @@
+package com.febrie.eroom.service.queue;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.febrie.eroom.model.RoomCreationRequest;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 공정 큐의 테넌트 키를 결정합니다.
+ * 요청의 uuid 또는 API 키를 기준으로 하며, 둘 다 해시로만 노출됩니다.
+ * 큐 상태와 로그에는 이 키가 그대로 나오므로, 가중치 설정도 해시된 키로 지정합니다.
+ */
+public class TenantKeyResolver {
+
+    private static final String KEY_TENANT_KEY = "tenantKey";
+    private static final String MODE_API_KEY = "apiKey";
+    private static final String API_KEY_PREFIX = "key:";
+    private static final String UUID_PREFIX = "uuid:";
+    private static final String UNKNOWN_TENANT = "anonymous";
+    private static final int HASH_LENGTH = 12;
+
+    private final boolean useApiKey;
+
+    public TenantKeyResolver(boolean useApiKey) {
+        this.useApiKey = useApiKey;
+    }
+
+    /**
+     * 설정 섹션에서 생성합니다.
+     * tenantKey가 apiKey이면 API 키, 그 외에는 uuid를 사용합니다.
+     */
+    @NotNull
+    public static TenantKeyResolver fromConfig(@NotNull ConfigSection section) {
+        return new TenantKeyResolver(MODE_API_KEY.equalsIgnoreCase(section.getString(KEY_TENANT_KEY, "uuid")));
+    }
+
+    /**
+     * 요청의 테넌트 키를 반환합니다.
+     */
+    @NotNull
+    public String resolve(@NotNull RoomCreationRequest request, @Nullable String apiKey) {
+        if (useApiKey && apiKey != null && !apiKey.isBlank()) {
+            return API_KEY_PREFIX + hash(apiKey.trim());
+        }
+        String uuid = request.getUuid();
+        return uuid != null && !uuid.isBlank() ? UUID_PREFIX + hash(uuid.trim()) : UNKNOWN_TENANT;
+    }
+
+    @NotNull
+    private static String hash(@NotNull String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest).substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
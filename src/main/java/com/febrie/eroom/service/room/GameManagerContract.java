@@ -0,0 +1,122 @@
+package com.febrie.eroom.service.room;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시나리오에서 결정적으로 도출한 GameManager API 계약
+ * GameManager와 오브젝트 스크립트가 같은 계약을 기준으로 생성되므로,
+ * GameManager 소스 없이도 모든 배치를 동시에 생성할 수 있습니다.
+ */
+public final class GameManagerContract {
+
+    private static final String TYPE_GAME_MANAGER = "game_manager";
+    private static final String TYPE_INTERACTIVE = "interactive_object";
+    private static final String FIELD_INTERACTIVE_DESCRIPTION = "interactive_description";
+
+    // 상태 키 규칙
+    private static final String STATE_SOLVED_SUFFIX = "Solved";
+    private static final String STATE_EXIT_UNLOCKED = "ExitUnlocked";
+    private static final String STATE_GAME_COMPLETED = "GameCompleted";
+
+    // 고정 메서드 시그니처
+    private static final List<String> METHOD_SIGNATURES = List.of(
+            "public static GameManager Instance { get; }",
+            "public void RegisterObject(string objectName, GameObject obj)",
+            "public GameObject GetObject(string objectName)",
+            "public bool GetBool(string stateKey)",
+            "public void SetBool(string stateKey, bool value)",
+            "public bool HasItem(string itemName)",
+            "public void AddItem(string itemName)",
+            "public void RemoveItem(string itemName)"
+    );
+
+    private final List<String> registeredObjects;
+    private final List<String> stateKeys;
+    private final List<String> inventoryItems;
+
+    private GameManagerContract(List<String> registeredObjects, List<String> stateKeys, List<String> inventoryItems) {
+        this.registeredObjects = List.copyOf(registeredObjects);
+        this.stateKeys = List.copyOf(stateKeys);
+        this.inventoryItems = List.copyOf(inventoryItems);
+    }
+
+    /**
+     * 시나리오의 오브젝트 지시사항에서 계약을 도출합니다.
+     * 같은 시나리오에서는 항상 같은 계약이 만들어집니다.
+     * <ul>
+     *     <li>등록 오브젝트: GameManager를 제외한 모든 오브젝트 이름</li>
+     *     <li>상태 키: 퍼즐 오브젝트마다 [이름]Solved, 그리고 ExitUnlocked, GameCompleted</li>
+     *     <li>인벤토리 아이템: 새로 생성된 interactive_object 이름</li>
+     * </ul>
+     */
+    @NotNull
+    public static GameManagerContract fromScenario(@NotNull JsonObject scenario) {
+        Set<String> registeredObjects = new LinkedHashSet<>();
+        Set<String> stateKeys = new LinkedHashSet<>();
+        Set<String> inventoryItems = new LinkedHashSet<>();
+
+        JsonArray objectInstructions = scenario.getAsJsonArray("object_instructions");
+        if (objectInstructions != null) {
+            for (JsonElement element : objectInstructions) {
+                JsonObject instruction = element.getAsJsonObject();
+                String name = instruction.has("name") ? instruction.get("name").getAsString().trim() : "";
+                String type = instruction.has("type") ? instruction.get("type").getAsString() : "";
+                if (name.isEmpty() || TYPE_GAME_MANAGER.equals(type)) {
+                    continue;
+                }
+
+                registeredObjects.add(name);
+                if (instruction.has(FIELD_INTERACTIVE_DESCRIPTION)) {
+                    stateKeys.add(name + STATE_SOLVED_SUFFIX);
+                }
+                if (TYPE_INTERACTIVE.equals(type)) {
+                    inventoryItems.add(name);
+                }
+            }
+        }
+
+        stateKeys.add(STATE_EXIT_UNLOCKED);
+        stateKeys.add(STATE_GAME_COMPLETED);
+        return new GameManagerContract(new ArrayList<>(registeredObjects), new ArrayList<>(stateKeys), new ArrayList<>(inventoryItems));
+    }
+
+    public List<String> getRegisteredObjects() {
+        return registeredObjects;
+    }
+
+    public List<String> getStateKeys() {
+        return stateKeys;
+    }
+
+    public List<String> getInventoryItems() {
+        return inventoryItems;
+    }
+
+    /**
+     * 스크립트 생성 요청에 포함할 JSON으로 변환합니다.
+     */
+    @NotNull
+    public JsonObject toJson() {
+        JsonObject json = new JsonObject();
+        json.add("methods", toJsonArray(METHOD_SIGNATURES));
+        json.add("registered_objects", toJsonArray(registeredObjects));
+        json.add("state_keys", toJsonArray(stateKeys));
+        json.add("inventory_items", toJsonArray(inventoryItems));
+        return json;
+    }
+
+    @NotNull
+    private static JsonArray toJsonArray(@NotNull List<String> values) {
+        JsonArray array = new JsonArray();
+        values.forEach(array::add);
+        return array;
+    }
+}
@@ -2,7 +2,31 @@ package com.febrie.eroom.service.room;
 
 import com.febrie.eroom.model.RoomCreationRequest;
 import com.febrie.eroom.model.RoomCreationResponse;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.Map;
 
 public interface RoomService {
     RoomCreationResponse createRoom(RoomCreationRequest request, String ruid);
+
+    /**
+     * 서비스 운영 지표를 반환합니다.
+     */
+    default JsonObject getMetrics() {
+        return new JsonObject();
+    }
+
+    /**
+     * 이전 실행에서 완료된 단계들을 되살려 같은 작업을 이어서 처리하게 합니다.
+     */
+    default void restoreCheckpoints(String ruid, Map<String, JsonElement> stages) {
+    }
+
+    /**
+     * 최종 결과가 저장된 작업의 체크포인트를 정리합니다.
+     * 결과를 저장하지 못한 작업은 다시 처리할 때 이어서 진행하도록 남겨 둡니다.
+     */
+    default void clearCheckpoints(String ruid) {
+    }
 }
\ No newline at end of file
@@ -1,47 +1,99 @@
 package com.febrie.eroom.service.room;
 
+import com.febrie.eroom.config.ConfigSection;
 import com.febrie.eroom.config.ConfigurationManager;
+import com.febrie.eroom.exception.AiServiceException;
 import com.febrie.eroom.model.ModelGenerationResult;
 import com.febrie.eroom.model.RoomCreationRequest;
 import com.febrie.eroom.model.RoomCreationResponse;
 import com.febrie.eroom.service.ai.AiService;
+import com.febrie.eroom.service.cache.MinHashLshIndex;
+import com.febrie.eroom.service.cache.TieredCache;
+import com.febrie.eroom.service.concurrent.ExecutionMode;
+import com.febrie.eroom.service.concurrent.ExecutorFactory;
+import com.febrie.eroom.service.event.RoomEvent;
+import com.febrie.eroom.service.event.RoomEventBus;
+import com.febrie.eroom.service.journal.JobCheckpointStore;
+import com.febrie.eroom.service.journal.JobJournal;
+import com.febrie.eroom.service.mesh.CachingMeshService;
 import com.febrie.eroom.service.mesh.MeshService;
+import com.febrie.eroom.service.mesh.ModelJobTable;
+import com.febrie.eroom.service.mesh.ModelReuseIndex;
+import com.febrie.eroom.service.mesh.ModelTaskState;
+import com.febrie.eroom.service.pipeline.TaskAttempt;
+import com.febrie.eroom.service.pipeline.TaskGraph;
+import com.febrie.eroom.service.pipeline.TaskNode;
+import com.febrie.eroom.service.pipeline.TaskResults;
 import com.febrie.eroom.service.validation.DefaultScenarioValidator;
 import com.febrie.eroom.service.validation.RequestValidator;
 import com.febrie.eroom.service.validation.RoomRequestValidator;
 import com.febrie.eroom.service.validation.ScenarioValidator;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 public class RoomServiceImpl implements RoomService, AutoCloseable {
     private static final Logger log = LoggerFactory.getLogger(RoomServiceImpl.class);
 
     // 타임아웃 및 병렬 처리 상수
-    private static final int MODEL_TIMEOUT_MINUTES = 10;
+    private static final int DEFAULT_MODEL_TIMEOUT_MINUTES = 10;
+    private static final int DEFAULT_SCRIPT_TIMEOUT_MINUTES = 5;
+    private static final int DEFAULT_SCRIPT_BATCH_RETRIES = 1;
+    private static final int SCRIPT_RETRY_BACKOFF_SECONDS = 2;
     private static final int EXECUTOR_SHUTDOWN_TIMEOUT_SECONDS = 60;
     private static final int PARALLEL_THRESHOLD = 10;
-    private static final int BATCH_SIZE = 5;
-    private static final int FIRST_BATCH_SIZE = 5;
-    private static final int THREAD_POOL_SIZE = 10;
+    private static final int DEFAULT_TASK_CONCURRENCY = 10;
+
+    // 모델 재사용 색인 네임스페이스
+    private static final String MODEL_NAMESPACE_MESHY = "meshy";
+    private static final String MODEL_NAMESPACE_LOCAL = "local";
 
     // 오브젝트 타입 상수
     private static final String TYPE_GAME_MANAGER = "game_manager";
     private static final String TYPE_EXISTING_INTERACTIVE = "existing_interactive_object";
 
+    // 작업 그래프 노드 ID
+    private static final String NODE_SCRIPTS_UNIFIED = "scripts:unified";
+    private static final String NODE_GAME_MANAGER = "scripts:game-manager";
+    private static final String NODE_SCRIPTS_BATCH_PREFIX = "scripts:batch-";
+    private static final String NODE_SCRIPTS_CACHED = "scripts:cached";
+    private static final String NODE_MODEL_PREFIX = "model:";
+    private static final String NODE_SCRIPTS_READY = "scripts:ready";
+
+    // 체크포인트 단계 이름
+    private static final String STAGE_SCENARIO = "scenario";
+    private static final String STAGE_SCRIPTS_PREFIX = "scripts:";
+    private static final String STAGE_SCRIPTS_BATCH_PREFIX = "scripts:batch:";
+    private static final String STAGE_MODEL_RESULT = "result";
+    private static final String STAGE_SCRIPTS_RESUMED = "scripts:resumed";
+    private static final int BATCH_STAGE_HASH_LENGTH = 12;
+
     private final AiService aiService;
     private final MeshService meshService;
     private final MeshService localModelService;
+    private final ModelReuseIndex modelReuseIndex;
+    private final JobCheckpointStore checkpointStore;
+    private final RoomEventBus eventBus;
+    private final ModelJobTable modelJobTable;
     private final ConfigurationManager configManager;
     private final ExecutorService executorService;
+    private final Duration modelTimeout;
+    private final Duration scriptTimeout;
+    private final int scriptBatchRetries;
+    private final ScriptBatchPlanner scriptBatchPlanner;
+    private final ScenarioCache scenarioCache;
+    private final ScriptCache scriptCache;
     private final RequestValidator requestValidator;
     private final ScenarioValidator scenarioValidator;
 
@@ -50,18 +102,54 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
      * 방 생성 서비스를 초기화합니다.
      */
     public RoomServiceImpl(AiService aiService, MeshService meshService, MeshService localModelService, ConfigurationManager configManager) {
+        this(aiService, meshService, localModelService, ModelReuseIndex.disabled(),
+                new JobCheckpointStore(JobJournal.disabled()), new RoomEventBus(),
+                ModelJobTable.fromConfig(configManager.getSection("modelJobs")), configManager);
+    }
+
+    /**
+     * RoomServiceImpl 생성자
+     * 유사 모델 재사용 색인, 단계 체크포인트 저장소, 진행 이벤트 발행기, 모델 작업 표와 함께 방 생성 서비스를 초기화합니다.
+     */
+    public RoomServiceImpl(AiService aiService, MeshService meshService, MeshService localModelService,
+                           ModelReuseIndex modelReuseIndex, JobCheckpointStore checkpointStore,
+                           RoomEventBus eventBus, ModelJobTable modelJobTable, ConfigurationManager configManager) {
         this.aiService = aiService;
         this.meshService = meshService;
         this.localModelService = localModelService;
+        this.modelReuseIndex = modelReuseIndex;
+        this.checkpointStore = checkpointStore;
+        this.eventBus = eventBus;
+        this.modelJobTable = modelJobTable;
         this.configManager = configManager;
-        this.executorService = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+        ConfigSection execution = configManager.getSection("execution");
+        this.executorService = createExecutorService(execution);
+        this.modelTimeout = Duration.ofMinutes(execution.getInt("modelTimeoutMinutes", DEFAULT_MODEL_TIMEOUT_MINUTES));
+        this.scriptTimeout = Duration.ofMinutes(execution.getInt("scriptTimeoutMinutes", DEFAULT_SCRIPT_TIMEOUT_MINUTES));
+        this.scriptBatchRetries = execution.getInt("scriptBatchRetries", DEFAULT_SCRIPT_BATCH_RETRIES);
+        this.scriptBatchPlanner = ScriptBatchPlanner.fromConfig(configManager.getSection("scriptBatching"),
+                configManager.getSection("model").getInt("maxTokens", 0));
+        this.scenarioCache = ScenarioCache.fromConfig(configManager.getSection("scenarioCache"));
+        this.scriptCache = ScriptCache.fromConfig(configManager.getSection("scriptCache"));
         this.requestValidator = new RoomRequestValidator();
         this.scenarioValidator = new DefaultScenarioValidator();
     }
 
+    /**
+     * 실행 설정에 따라 작업 실행기를 생성합니다.
+     */
+    @NotNull
+    private ExecutorService createExecutorService(@NotNull ConfigSection execution) {
+        ExecutionMode mode = ExecutionMode.fromString(execution.getString("mode", "platform"));
+        int concurrency = execution.getInt("roomTaskConcurrency", DEFAULT_TASK_CONCURRENCY);
+        return ExecutorFactory.create(mode, concurrency, "RoomService");
+    }
+
     /**
      * 방을 생성합니다.
-     * 시나리오 생성, 모델 생성, 스크립트 생성을 순차적으로 수행합니다.
+     * 시나리오를 생성한 뒤 스크립트와 모델 생성을 작업 그래프로 병렬 수행합니다.
+     * 이전 실행의 체크포인트가 있으면 완료된 단계는 건너뛰고 이어서 진행합니다.
+     * 체크포인트는 최종 결과가 저장된 뒤 clearCheckpoints로 정리됩니다.
      */
     @Override
     public RoomCreationResponse createRoom(@NotNull RoomCreationRequest request, String ruid) {
@@ -70,20 +158,74 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
         try {
             requestValidator.validate(request);
         } catch (IllegalArgumentException e) {
-            return createErrorResponse(request, ruid, e.getMessage());
+            return createErrorResponse(request, ruid, e.getMessage(), RoomCreationResponse.FailureKind.INVALID_REQUEST);
         }
 
         try {
-            return processRoomCreation(request, ruid);
+            return processRoomCreation(request, checkpointStore.forJob(ruid));
         } catch (RuntimeException e) {
+            AiServiceException aiError = findAiServiceException(e);
+            if (aiError != null) {
+                log.error("AI 서비스 오류로 방 생성 실패: ruid={}, reason={}, status={}",
+                        ruid, aiError.getReason(), aiError.getStatusCode(), e);
+                return createErrorResponse(request, ruid, e.getMessage(), classifyAiFailure(aiError));
+            }
             log.error("통합 방 생성 중 비즈니스 오류 발생: ruid={}", ruid, e);
-            return createErrorResponse(request, ruid, e.getMessage());
+            return createErrorResponse(request, ruid, e.getMessage(), RoomCreationResponse.FailureKind.INTERNAL_ERROR);
         } catch (Exception e) {
             log.error("통합 방 생성 중 시스템 오류 발생: ruid={}", ruid, e);
-            return createErrorResponse(request, ruid, "시스템 오류가 발생했습니다");
+            return createErrorResponse(request, ruid, "시스템 오류가 발생했습니다", RoomCreationResponse.FailureKind.INTERNAL_ERROR);
+        } finally {
+            eventBus.close(ruid);
         }
     }
 
+    /**
+     * 최종 결과가 저장된 작업의 체크포인트를 정리합니다.
+     */
+    @Override
+    public void clearCheckpoints(@NotNull String ruid) {
+        checkpointStore.clear(ruid);
+    }
+
+    /**
+     * 저널에서 복구한 단계들을 체크포인트로 되살립니다.
+     */
+    @Override
+    public void restoreCheckpoints(@NotNull String ruid, @NotNull Map<String, JsonElement> stages) {
+        checkpointStore.restore(ruid, stages);
+        if (!stages.isEmpty()) {
+            log.info("체크포인트 복구 - ruid: {}, stages: {}", ruid, stages.keySet());
+        }
+    }
+
+    /**
+     * AI 서비스 오류를 실패 원인으로 분류합니다.
+     * 속도 제한(429)과 과부하는 RATE_LIMITED, 설정과 요청 오류는 INTERNAL_ERROR, 그 외는 UPSTREAM_ERROR입니다.
+     */
+    @NotNull
+    private RoomCreationResponse.FailureKind classifyAiFailure(@NotNull AiServiceException aiError) {
+        return switch (aiError.getReason()) {
+            case RATE_LIMITED, OVERLOADED -> RoomCreationResponse.FailureKind.RATE_LIMITED;
+            case CONFIGURATION, CLIENT_ERROR -> RoomCreationResponse.FailureKind.INTERNAL_ERROR;
+            default -> RoomCreationResponse.FailureKind.UPSTREAM_ERROR;
+        };
+    }
+
+    /**
+     * 예외 체인에서 AI 서비스 예외를 찾습니다.
+     */
+    private AiServiceException findAiServiceException(Throwable e) {
+        Throwable current = e;
+        while (current != null) {
+            if (current instanceof AiServiceException aiServiceException) {
+                return aiServiceException;
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
     /**
      * 방 생성 시작을 로깅합니다.
      */
@@ -95,28 +237,178 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
 
     /**
      * 방 생성 프로세스를 처리합니다.
+     * 시나리오 생성 후 스크립트와 모델 노드로 구성된 작업 그래프를 실행합니다.
+     * 모델 작업 표가 활성화되어 있으면 모델은 백그라운드 모델 작업으로 넘기고 스크립트만 기다립니다.
      */
     @NotNull
-    private RoomCreationResponse processRoomCreation(RoomCreationRequest request, String ruid) {
-        JsonObject scenario = createIntegratedScenario(request, ruid);
-        List<CompletableFuture<ModelGenerationResult>> modelFutures = startModelGeneration(scenario, request.isFreeModeling());
-        Map<String, String> allScripts = createUnifiedScripts(scenario);
-        JsonObject modelTracking = waitForModels(modelFutures);
+    private RoomCreationResponse processRoomCreation(RoomCreationRequest request, JobCheckpointStore.JobCheckpoints checkpoints) {
+        String ruid = checkpoints.getRuid();
+        eventBus.open(ruid);
+        eventBus.publish(ruid, RoomEvent.TYPE_STARTED, new JsonObject());
+
+        JsonObject scenario = loadOrCreateScenario(request, checkpoints);
+        eventBus.publish(ruid, RoomEvent.TYPE_SCENARIO, createScenarioEvent(scenario));
+
+        List<ModelSpec> models = planModels(scenario, request.isFreeModeling());
+        JsonObject detachedTracking = modelJobTable.isEnabled() ?
+                startModelJobs(ruid, models, request.isFreeModeling()) : null;
+
+        RoomTaskGraph roomGraph = buildRoomTaskGraph(scenario, detachedTracking != null ? List.of() : models,
+                request.isFreeModeling(), checkpoints);
+        TaskResults results = executeRoomTaskGraph(roomGraph, ruid);
+
+        Map<String, String> allScripts = collectScripts(roomGraph, results);
+        JsonObject modelTracking = detachedTracking != null ? detachedTracking : collectModelTracking(roomGraph, results);
 
         RoomCreationResponse response = buildSuccessResponse(request, ruid, scenario, allScripts, modelTracking);
         log.info("방 생성 완료 - ruid: {}, scripts: {}", ruid, response.getObjectScripts().size());
         return response;
     }
 
+    /**
+     * 시나리오 체크포인트가 있으면 재사용하고, 없으면 새로 생성해 체크포인트로 저장합니다.
+     */
+    @NotNull
+    private JsonObject loadOrCreateScenario(RoomCreationRequest request, @NotNull JobCheckpointStore.JobCheckpoints checkpoints) {
+        Optional<JsonElement> saved = checkpoints.load(STAGE_SCENARIO).filter(JsonElement::isJsonObject);
+        if (saved.isPresent()) {
+            log.info("시나리오 체크포인트에서 이어서 진행 - ruid: {}", checkpoints.getRuid());
+            return saved.get().getAsJsonObject();
+        }
+
+        JsonObject scenario = createIntegratedScenario(request, checkpoints.getRuid());
+        checkpoints.save(STAGE_SCENARIO, scenario);
+        return scenario;
+    }
+
+    /**
+     * 이전 실행에서 저장된 스크립트 체크포인트들을 합칩니다.
+     */
+    @NotNull
+    private Map<String, String> loadResumedScripts(@NotNull JobCheckpointStore.JobCheckpoints checkpoints) {
+        Map<String, String> resumed = new LinkedHashMap<>();
+        checkpoints.loadAll(STAGE_SCRIPTS_PREFIX).values().forEach(data -> resumed.putAll(scriptsFromJson(data)));
+        if (!resumed.isEmpty()) {
+            log.info("스크립트 체크포인트에서 이어서 진행 - ruid: {}, scripts: {}", checkpoints.getRuid(), resumed.size());
+            publishScripts(checkpoints.getRuid(), STAGE_SCRIPTS_RESUMED, resumed);
+        }
+        return resumed;
+    }
+
+    /**
+     * 생성된 스크립트가 있으면 체크포인트로 저장하고 스크립트 이벤트를 발행합니다.
+     * 스트리밍 중 이미 같은 내용으로 발행한 스크립트는 다시 발행하지 않습니다.
+     * 시간 초과 등으로 버려진 노드 시도의 스크립트는 쓰이지 않으므로 저장하지 않습니다.
+     */
+    private void saveScriptsCheckpoint(@NotNull JobCheckpointStore.JobCheckpoints checkpoints, String nodeId, String stage,
+                                       @NotNull Map<String, String> scripts, @NotNull Map<String, String> streamed) {
+        if (scripts.isEmpty() || TaskAttempt.isAbandoned()) {
+            return;
+        }
+        JsonObject json = new JsonObject();
+        scripts.forEach(json::addProperty);
+        checkpoints.save(stage, json);
+
+        Map<String, String> unpublished = new LinkedHashMap<>();
+        scripts.forEach((name, script) -> {
+            if (!script.equals(streamed.get(name))) {
+                unpublished.put(name, script);
+            }
+        });
+        if (!unpublished.isEmpty()) {
+            publishScripts(checkpoints.getRuid(), nodeId, unpublished);
+        }
+    }
+
+    /**
+     * 스트리밍으로 도착한 스크립트를 바로 스크립트 이벤트로 발행하는 리스너를 만듭니다.
+     * 발행한 스크립트는 streamed에 모아 노드가 끝날 때 다시 발행하지 않도록 하며, 버려진 노드 시도의 스크립트는 발행하지 않습니다.
+     */
+    @NotNull
+    private BiConsumer<String, String> scriptArrivalPublisher(String ruid, String nodeId, @NotNull Map<String, String> streamed) {
+        long startTime = System.currentTimeMillis();
+        return (name, script) -> {
+            logScriptArrival(name, startTime);
+            if (script == null || TaskAttempt.isAbandoned()) {
+                return;
+            }
+            publishScripts(ruid, nodeId, Map.of(name, script));
+            streamed.put(name, script);
+        };
+    }
+
+    /**
+     * 완료된 스크립트 노드의 스크립트들을 이벤트로 발행합니다.
+     */
+    private void publishScripts(String ruid, String nodeId, @NotNull Map<String, String> scripts) {
+        JsonObject json = new JsonObject();
+        scripts.forEach(json::addProperty);
+
+        JsonObject data = new JsonObject();
+        data.addProperty("node", nodeId);
+        data.add("scripts", json);
+        eventBus.publish(ruid, RoomEvent.TYPE_SCRIPTS, data);
+    }
+
+    /**
+     * 검증을 마친 시나리오 이벤트 데이터를 만듭니다.
+     */
+    @NotNull
+    private JsonObject createScenarioEvent(@NotNull JsonObject scenario) {
+        JsonObject data = new JsonObject();
+        data.addProperty("objects", scenario.getAsJsonArray("object_instructions").size());
+        data.add("scenario", scenario);
+        return data;
+    }
+
+    /**
+     * 모델 진행 이벤트 데이터를 만듭니다.
+     */
+    @NotNull
+    private JsonObject createModelEvent(String name, int index) {
+        JsonObject data = new JsonObject();
+        data.addProperty("object", name);
+        data.addProperty("index", index);
+        return data;
+    }
+
+    /**
+     * 체크포인트에 저장된 스크립트 JSON을 이름별 스크립트로 변환합니다.
+     */
+    @NotNull
+    private Map<String, String> scriptsFromJson(@NotNull JsonElement data) {
+        Map<String, String> scripts = new LinkedHashMap<>();
+        if (data.isJsonObject()) {
+            data.getAsJsonObject().entrySet().forEach(entry -> scripts.put(entry.getKey(), entry.getValue().getAsString()));
+        }
+        return scripts;
+    }
+
     /**
      * 통합 시나리오를 생성합니다.
+     * 시나리오 캐시가 활성화되어 있으면 같은 요청에 대해 보관된 시나리오를 먼저 사용하고,
+     * 새로 생성한 시나리오는 검증을 통과한 경우에만 보관합니다.
      */
     @NotNull
     private JsonObject createIntegratedScenario(RoomCreationRequest request, String ruid) {
         try {
             validateExitDoorExists(request);
-            JsonObject scenario = generateScenario(request, ruid);
+            String prompt = configManager.getPrompt("scenario");
+            JsonObject scenarioRequest = buildScenarioRequest(request, ruid);
+
+            String cacheKey = scenarioCache.isEnabled() ? ScenarioCache.createKey(scenarioRequest, prompt) : null;
+            Optional<JsonObject> cached = cacheKey != null ? scenarioCache.next(cacheKey) : Optional.empty();
+            if (cached.isPresent()) {
+                log.info("시나리오 캐시 적중 - ruid: {}, theme: {}", ruid, request.getTheme().trim());
+                logScenarioCreation(ruid, cached.get());
+                return cached.get();
+            }
+
+            JsonObject scenario = generateScenario(prompt, scenarioRequest, request, ruid);
             validateScenario(scenario);
+            if (cacheKey != null) {
+                scenarioCache.add(cacheKey, scenario);
+            }
             logScenarioCreation(ruid, scenario);
             return scenario;
         } catch (Exception e) {
@@ -140,10 +432,7 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
      * LLM을 통해 시나리오를 생성합니다.
      */
     @NotNull
-    private JsonObject generateScenario(RoomCreationRequest request, String ruid) {
-        String prompt = configManager.getPrompt("scenario");
-        JsonObject scenarioRequest = buildScenarioRequest(request, ruid);
-
+    private JsonObject generateScenario(String prompt, JsonObject scenarioRequest, RoomCreationRequest request, String ruid) {
         log.debug("시나리오 생성 요청 - ruid: {}, theme: {}, difficulty: {}",
                 ruid, request.getTheme().trim(), request.getValidatedDifficulty());
 
@@ -236,65 +525,197 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
     }
 
     /**
-     * 3D 모델 생성을 시작합니다.
+     * 방 생성 작업 그래프를 구성합니다.
+     * 스크립트 노드와 모델 노드는 서로 독립적이므로 모두 즉시 시작됩니다.
      */
     @NotNull
-    private List<CompletableFuture<ModelGenerationResult>> startModelGeneration(@NotNull JsonObject scenario, boolean isFreeModeling) {
-        JsonArray objectInstructions = scenario.getAsJsonArray("object_instructions");
+    private RoomTaskGraph buildRoomTaskGraph(@NotNull JsonObject scenario, @NotNull List<ModelSpec> models,
+                                             boolean isFreeModeling, @NotNull JobCheckpointStore.JobCheckpoints checkpoints) {
+        TaskGraph.Builder builder = TaskGraph.builder("room-" + checkpoints.getRuid());
+        Map<String, String> resumedScripts = loadResumedScripts(checkpoints);
+        List<String> scriptNodes = addScriptNodes(builder, scenario, resumedScripts, checkpoints);
+        addScriptsReadyNode(builder, checkpoints.getRuid(), resumedScripts, scriptNodes);
+        List<String> modelNodes = addModelNodes(builder, models, isFreeModeling, checkpoints);
+
+        log.info("방 생성 작업 그래프 구성 - scriptNodes: {}, modelNodes: {}", scriptNodes.size(), modelNodes.size());
+        return new RoomTaskGraph(builder.build(), resumedScripts, scriptNodes, modelNodes);
+    }
+
+    /**
+     * 모든 스크립트 노드가 끝나면 스크립트 준비 완료 이벤트를 발행하는 노드를 추가합니다.
+     * 모델 노드는 기다리지 않으므로, 클라이언트는 모델 정제가 끝나기 전에 방에 입장할 수 있습니다.
+     */
+    private void addScriptsReadyNode(TaskGraph.Builder builder, String ruid, Map<String, String> resumedScripts,
+                                     List<String> scriptNodes) {
+        builder.add(TaskNode.blocking(NODE_SCRIPTS_READY, results -> {
+                    JsonObject data = new JsonObject();
+                    data.addProperty("scripts", mergeScriptResults(resumedScripts, scriptNodes, results).size());
+                    eventBus.publish(ruid, RoomEvent.TYPE_SCRIPTS_READY, data);
+                    return null;
+                })
+                .dependsOn(scriptNodes)
+                .build());
+    }
 
+    /**
+     * 작업 그래프를 실행하고 완료를 기다립니다.
+     */
+    @NotNull
+    private TaskResults executeRoomTaskGraph(@NotNull RoomTaskGraph roomGraph, String ruid) {
+        try {
+            TaskResults results = roomGraph.graph().execute(executorService).join();
+            log.debug("작업 그래프 노드별 소요 시간 - ruid: {}, {}", ruid, results.getDurations());
+            return results;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("방 생성 작업 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 시나리오에서 모델을 생성할 오브젝트들을 고릅니다.
+     */
+    @NotNull
+    private List<ModelSpec> planModels(@NotNull JsonObject scenario, boolean isFreeModeling) {
+        JsonArray objectInstructions = scenario.getAsJsonArray("object_instructions");
         if (isObjectInstructionsEmpty(objectInstructions)) {
             return new ArrayList<>();
         }
 
-        log.info("3D 모델 생성 시작 - objects: {}, freeModeling: {}",
-                objectInstructions.size(), isFreeModeling);
+        log.info("3D 모델 생성 시작 - objects: {}, freeModeling: {}", objectInstructions.size(), isFreeModeling);
 
-        List<CompletableFuture<ModelGenerationResult>> futures = createModelGenerationFutures(objectInstructions, isFreeModeling);
+        List<ModelSpec> models = new ArrayList<>();
+        for (int i = 0; i < objectInstructions.size(); i++) {
+            JsonObject instruction = objectInstructions.get(i).getAsJsonObject();
+            if (shouldSkipModelGeneration(instruction, isFreeModeling)) {
+                continue;
+            }
 
-        log.debug("모델 생성 태스크 {} 개 추가", futures.size());
-        return futures;
+            String objectName = instruction.get("name").getAsString();
+            String visualDescription = extractVisualDescription(instruction, isFreeModeling);
+            if (isValidForModelGeneration(objectName, visualDescription)) {
+                models.add(new ModelSpec(i, objectName, visualDescription));
+            }
+        }
+        return models;
     }
 
     /**
-     * 객체 지시사항이 비어있는지 확인합니다.
+     * 모델 생성 노드들을 추가합니다.
      */
-    private boolean isObjectInstructionsEmpty(JsonArray objectInstructions) {
-        if (objectInstructions == null || objectInstructions.isEmpty()) {
-            log.warn("오브젝트 설명(object_instructions)이 없어 3D 모델 생성을 건너뜁니다");
-            return true;
+    @NotNull
+    private List<String> addModelNodes(TaskGraph.Builder builder, @NotNull List<ModelSpec> models, boolean isFreeModeling,
+                                       JobCheckpointStore.JobCheckpoints checkpoints) {
+        List<String> nodeIds = new ArrayList<>();
+        for (ModelSpec model : models) {
+            nodeIds.add(addModelNode(builder, model, isFreeModeling, checkpoints));
         }
-        return false;
+
+        log.debug("모델 생성 노드 {} 개 추가", nodeIds.size());
+        return nodeIds;
     }
 
     /**
-     * 모델 생성 Future 리스트를 생성합니다.
+     * 모델 생성을 방 작업과 분리된 백그라운드 모델 작업으로 시작합니다.
+     * 오브젝트별 모델 작업 ID를 추적 정보로 반환하며, 방 작업은 모델 완료를 기다리지 않습니다.
      */
     @NotNull
-    private List<CompletableFuture<ModelGenerationResult>> createModelGenerationFutures(@NotNull JsonArray objectInstructions, boolean isFreeModeling) {
-        List<CompletableFuture<ModelGenerationResult>> futures = new ArrayList<>();
-
-        for (int i = 0; i < objectInstructions.size(); i++) {
-            JsonObject instruction = objectInstructions.get(i).getAsJsonObject();
-            processObjectInstruction(instruction, i, isFreeModeling, futures);
+    private JsonObject startModelJobs(String ruid, @NotNull List<ModelSpec> models, boolean isFreeModeling) {
+        if (models.isEmpty()) {
+            return createEmptyTracking();
         }
 
-        return futures;
+        JsonObject tracking = new JsonObject();
+        for (ModelSpec model : models) {
+            ModelJobTable.ModelJob job = modelJobTable.create(ruid, model.name());
+            runModelJob(job.id(), model, isFreeModeling);
+            tracking.addProperty(model.name(), job.id());
+        }
+        log.info("모델 작업 {}개를 백그라운드로 시작 - ruid: {}", models.size(), ruid);
+        return tracking;
     }
 
     /**
-     * 개별 객체 지시사항을 처리합니다.
+     * 모델 작업 하나를 실행하고 결과를 모델 작업 표에 기록합니다.
+     * 방 작업의 체크포인트와는 무관하게 진행됩니다.
+     * 모델 서비스가 돌려준 오류 추적 ID는 실패로 기록하고, 시간 초과되면 진행 중인 생성을 취소합니다.
      */
-    private void processObjectInstruction(JsonObject instruction, int index, boolean isFreeModeling, List<CompletableFuture<ModelGenerationResult>> futures) {
-        if (shouldSkipModelGeneration(instruction, isFreeModeling)) {
+    private void runModelJob(String jobId, @NotNull ModelSpec model, boolean isFreeModeling) {
+        String namespace = isFreeModeling ? MODEL_NAMESPACE_LOCAL : MODEL_NAMESPACE_MESHY;
+        Optional<String> reused = findReusableModel(namespace, model.prompt(), model.name());
+        if (reused.isPresent()) {
+            modelJobTable.complete(jobId, reused.get());
             return;
         }
 
-        String objectName = instruction.get("name").getAsString();
-        String visualDescription = extractVisualDescription(instruction, isFreeModeling);
+        MeshService modelService = isFreeModeling ? localModelService : meshService;
+        CompletableFuture<String> generation;
+        try {
+            generation = modelService.generateModelAsync(model.prompt(), model.name(), model.index(), executorService,
+                    ModelTaskState.EMPTY, state -> modelJobTable.updateProgress(jobId, state));
+        } catch (Exception e) {
+            generation = CompletableFuture.failedFuture(e);
+        }
 
-        if (isValidForModelGeneration(objectName, visualDescription)) {
-            futures.add(createModelTask(visualDescription, objectName, index, isFreeModeling));
+        CompletableFuture<String> source = generation;
+        source.copy().orTimeout(modelTimeout.toMillis(), TimeUnit.MILLISECONDS).whenComplete((trackingId, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                log.error("모델 작업 실패: {} - {}", model.name(), cause.getMessage());
+                if (cause instanceof TimeoutException) {
+                    source.cancel(true);
+                }
+                modelJobTable.fail(jobId, cause instanceof TimeoutException ? "timeout" : String.valueOf(cause.getMessage()));
+            } else if (!isValidTrackingId(trackingId)) {
+                modelJobTable.fail(jobId, "no tracking id");
+            } else if (isErrorTrackingId(trackingId.trim())) {
+                log.error("모델 작업 실패: {} - {}", model.name(), trackingId);
+                modelJobTable.fail(jobId, trackingId.trim());
+            } else {
+                modelReuseIndex.record(namespace, model.prompt(), trackingId);
+                modelJobTable.complete(jobId, trackingId.trim());
+            }
+        });
+    }
+
+    /**
+     * 객체 지시사항이 비어있는지 확인합니다.
+     */
+    private boolean isObjectInstructionsEmpty(JsonArray objectInstructions) {
+        if (objectInstructions == null || objectInstructions.isEmpty()) {
+            log.warn("오브젝트 설명(object_instructions)이 없어 3D 모델 생성을 건너뜁니다");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 개별 객체의 모델 생성 노드를 추가합니다.
+     * 시간 초과나 실패 시 오류 추적 ID로 대체됩니다.
+     */
+    @NotNull
+    private String addModelNode(TaskGraph.Builder builder, @NotNull ModelSpec model, boolean isFreeModeling,
+                                JobCheckpointStore.JobCheckpoints checkpoints) {
+        String nodeId = NODE_MODEL_PREFIX + model.index() + ":" + model.name();
+        builder.add(TaskNode.<ModelGenerationResult>async(nodeId,
+                        results -> createModelTask(model.prompt(), model.name(), model.index(), isFreeModeling,
+                                checkpoints, nodeId))
+                .timeout(modelTimeout)
+                .fallback(error -> handleModelNodeFailure(model.name(), error))
+                .build());
+        return nodeId;
+    }
+
+    /**
+     * 모델 노드 실패를 처리합니다.
+     */
+    @NotNull
+    private ModelGenerationResult handleModelNodeFailure(String objectName, Throwable error) {
+        if (error instanceof TimeoutException) {
+            log.warn("모델 생성 타임아웃: {}", objectName);
+            return new ModelGenerationResult(objectName, "timeout-" + System.currentTimeMillis());
         }
+        return handleModelGenerationError(objectName, error);
     }
 
     /**
@@ -355,35 +776,96 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
 
     /**
      * 모델 생성 태스크를 생성합니다.
+     * 결과가 나오면 실패 여부와 함께 모델 이벤트를 발행합니다.
      */
     @NotNull
-    @Contract("_, _, _, _ -> new")
-    private CompletableFuture<ModelGenerationResult> createModelTask(String prompt, String name, int index, boolean isFreeModeling) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return generateModel(prompt, name, index, isFreeModeling);
-            } catch (Exception e) {
-                return handleModelGenerationError(name, e);
-            }
-        }, executorService);
+    private CompletableFuture<ModelGenerationResult> createModelTask(String prompt, String name, int index, boolean isFreeModeling,
+                                                                     JobCheckpointStore.JobCheckpoints checkpoints, String stage) {
+        CompletableFuture<ModelGenerationResult> task;
+        try {
+            task = generateModel(prompt, name, index, isFreeModeling, checkpoints, stage).handle((result, error) ->
+                    error != null ? handleModelGenerationError(name, error) : result);
+        } catch (Exception e) {
+            task = CompletableFuture.completedFuture(handleModelGenerationError(name, e));
+        }
+        return task.thenApply(result -> {
+            JsonObject data = createModelEvent(name, index);
+            data.addProperty("trackingId", result.getTrackingId());
+            data.addProperty("failed", result.getTrackingId() == null || isErrorTrackingId(result.getTrackingId()));
+            eventBus.publish(checkpoints.getRuid(), RoomEvent.TYPE_MODEL, data);
+            return result;
+        });
     }
 
     /**
      * 모델을 생성합니다.
+     * 체크포인트에 완료된 결과가 있으면 그대로 사용하고, 진행 중이던 외부 작업이 있으면 그 작업에 다시 연결합니다.
+     * 유사한 묘사로 생성된 모델이 있으면 재사용하고, 없으면 모델 서비스의 비동기 API를 사용합니다.
      */
     @NotNull
-    @Contract("_, _, _, _ -> new")
-    private ModelGenerationResult generateModel(@NotNull String prompt, String name, int index, boolean isFreeModeling) {
+    private CompletableFuture<ModelGenerationResult> generateModel(@NotNull String prompt, String name, int index, boolean isFreeModeling,
+                                                                   @NotNull JobCheckpointStore.JobCheckpoints checkpoints, String stage) {
         log.debug("3D 모델 생성 요청 - index: {}, name: {}, promptLength: {}, free: {}",
                 index, name, prompt.length(), isFreeModeling);
 
+        JsonObject checkpoint = checkpoints.load(stage).filter(JsonElement::isJsonObject)
+                .map(JsonElement::getAsJsonObject).orElse(null);
+        if (checkpoint != null && checkpoint.has(STAGE_MODEL_RESULT)) {
+            log.info("{}의 모델을 체크포인트 결과로 사용", name);
+            return CompletableFuture.completedFuture(new ModelGenerationResult(name, checkpoint.get(STAGE_MODEL_RESULT).getAsString()));
+        }
+
+        String namespace = isFreeModeling ? MODEL_NAMESPACE_LOCAL : MODEL_NAMESPACE_MESHY;
+        Optional<String> reused = findReusableModel(namespace, prompt, name);
+        if (reused.isPresent()) {
+            return CompletableFuture.completedFuture(new ModelGenerationResult(name, reused.get()));
+        }
+
         MeshService modelService = isFreeModeling ? localModelService : meshService;
-        String trackingId = modelService.generateModel(prompt, name, index);
+        ModelTaskState resumeState = ModelTaskState.fromJson(checkpoint);
+        return modelService.generateModelAsync(prompt, name, index, executorService, resumeState,
+                state -> saveModelProgress(checkpoints, stage, state, name, index)).thenApply(trackingId -> {
+            modelReuseIndex.record(namespace, prompt, trackingId);
+            String resultId = (trackingId != null && !trackingId.trim().isEmpty()) ?
+                    trackingId : "pending-" + UUID.randomUUID().toString().substring(0, 8);
+            saveModelResultCheckpoint(checkpoints, stage, resultId);
+            return new ModelGenerationResult(name, resultId);
+        });
+    }
 
-        String resultId = (trackingId != null && !trackingId.trim().isEmpty()) ?
-                trackingId : "pending-" + UUID.randomUUID().toString().substring(0, 8);
+    /**
+     * 유사한 묘사로 생성된 모델이 있으면 그 추적 ID를 반환합니다.
+     */
+    @NotNull
+    private Optional<String> findReusableModel(String namespace, @NotNull String prompt, String name) {
+        Optional<MinHashLshIndex.Match> similar = modelReuseIndex.findSimilar(namespace, prompt);
+        similar.ifPresent(match -> log.info("{}의 모델을 유사 묘사의 기존 모델로 재사용 - similarity: {}, 원본: '{}'",
+                name, String.format("%.2f", match.similarity()), match.text()));
+        return similar.map(MinHashLshIndex.Match::payload);
+    }
 
-        return new ModelGenerationResult(name, resultId);
+    /**
+     * 외부 모델 작업의 진행 상태를 체크포인트로 저장합니다.
+     * 정제 작업이 만들어졌다면 프리뷰가 끝난 것이므로 프리뷰 완료 이벤트를 발행합니다.
+     */
+    private void saveModelProgress(@NotNull JobCheckpointStore.JobCheckpoints checkpoints, String stage,
+                                   @NotNull ModelTaskState state, String name, int index) {
+        checkpoints.save(stage, state.toJson());
+        if (state.refineId() != null) {
+            eventBus.publish(checkpoints.getRuid(), RoomEvent.TYPE_MODEL_PREVIEW, createModelEvent(name, index));
+        }
+    }
+
+    /**
+     * 정상적으로 완료된 모델 결과를 체크포인트로 저장합니다.
+     */
+    private void saveModelResultCheckpoint(@NotNull JobCheckpointStore.JobCheckpoints checkpoints, String stage, @NotNull String resultId) {
+        if (isErrorTrackingId(resultId)) {
+            return;
+        }
+        JsonObject data = new JsonObject();
+        data.addProperty(STAGE_MODEL_RESULT, resultId);
+        checkpoints.save(stage, data);
     }
 
     /**
@@ -391,33 +873,69 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
      */
     @NotNull
     @Contract("_, _ -> new")
-    private ModelGenerationResult handleModelGenerationError(String name, @NotNull Exception e) {
+    private ModelGenerationResult handleModelGenerationError(String name, @NotNull Throwable e) {
         log.error("모델 생성 실패: {} - {}", name, e.getMessage());
         return new ModelGenerationResult(name, "error-" + UUID.randomUUID().toString().substring(0, 8));
     }
 
     /**
-     * 통합 스크립트를 생성합니다.
+     * 스크립트 생성 노드들을 추가합니다.
+     * 오브젝트 수가 적으면 단일 요청 노드 하나를, 많으면 배치별 노드를 추가합니다.
+     * 단일 요청 결과가 체크포인트에 있으면 노드를 추가하지 않습니다.
      */
     @NotNull
-    private Map<String, String> createUnifiedScripts(JsonObject scenario) {
-        try {
-            JsonArray objectInstructions = scenario.getAsJsonArray("object_instructions");
-            int totalObjects = objectInstructions != null ? objectInstructions.size() : 0;
+    private List<String> addScriptNodes(TaskGraph.Builder builder, @NotNull JsonObject scenario,
+                                        Map<String, String> resumedScripts, JobCheckpointStore.JobCheckpoints checkpoints) {
+        JsonArray objectInstructions = scenario.getAsJsonArray("object_instructions");
+        int totalObjects = objectInstructions != null ? objectInstructions.size() : 0;
 
-            logScriptCreationStart(totalObjects);
+        logScriptCreationStart(totalObjects);
 
-            if (totalObjects < PARALLEL_THRESHOLD) {
-                log.debug("단일 요청 모드 사용 - objects: {}", totalObjects);
-                return createUnifiedScriptsSingleRequest(scenario);
-            } else {
-                log.debug("병렬 처리 모드 사용 - objects: {}", totalObjects);
-                return createUnifiedScriptsParallel(scenario);
+        if (totalObjects < PARALLEL_THRESHOLD) {
+            if (checkpoints.load(NODE_SCRIPTS_UNIFIED).isPresent()) {
+                log.debug("단일 요청 스크립트를 체크포인트에서 사용 - objects: {}", totalObjects);
+                return List.of();
             }
+            log.debug("단일 요청 모드 사용 - objects: {}", totalObjects);
+            builder.add(TaskNode.blocking(NODE_SCRIPTS_UNIFIED, results -> {
+                        Map<String, String> streamed = new HashMap<>();
+                        Map<String, String> scripts = createUnifiedScriptsSingleRequest(scenario,
+                                scriptArrivalPublisher(checkpoints.getRuid(), NODE_SCRIPTS_UNIFIED, streamed));
+                        saveScriptsCheckpoint(checkpoints, NODE_SCRIPTS_UNIFIED, NODE_SCRIPTS_UNIFIED, scripts, streamed);
+                        return scripts;
+                    })
+                    .timeout(scriptTimeout)
+                    .build());
+            return List.of(NODE_SCRIPTS_UNIFIED);
+        }
 
-        } catch (Exception e) {
-            throw new RuntimeException("스크립트 생성 실패: " + e.getMessage(), e);
+        log.debug("병렬 처리 모드 사용 - objects: {}", totalObjects);
+        return addParallelScriptNodes(builder, scenario, resumedScripts, checkpoints);
+    }
+
+    /**
+     * 수집된 스크립트를 합칩니다.
+     * 체크포인트에서 이어받은 스크립트 위에 이번 실행에서 생성된 스크립트를 덮어씁니다.
+     */
+    @NotNull
+    private Map<String, String> collectScripts(@NotNull RoomTaskGraph roomGraph, TaskResults results) {
+        Map<String, String> allScripts = mergeScriptResults(roomGraph.resumedScripts(), roomGraph.scriptNodes(), results);
+        log.info("스크립트 생성 완료 - total: {}", allScripts.size());
+        return allScripts;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private Map<String, String> mergeScriptResults(@NotNull Map<String, String> resumedScripts,
+                                                   @NotNull List<String> scriptNodes, TaskResults results) {
+        Map<String, String> allScripts = new LinkedHashMap<>(resumedScripts);
+        for (String nodeId : scriptNodes) {
+            Map<String, String> scripts = results.get(nodeId, Map.class);
+            if (scripts != null) {
+                allScripts.putAll(scripts);
+            }
         }
+        return allScripts;
     }
 
     /**
@@ -430,34 +948,109 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
 
     /**
      * 단일 요청으로 스크립트를 생성합니다.
+     * 스크립트 캐시에 있는 오브젝트는 요청에서 빼고, 새로 생성한 스크립트는 캐시에 저장합니다.
+     * 생성 중 완성된 스크립트는 하나씩 리스너에 전달합니다.
      */
-    private Map<String, String> createUnifiedScriptsSingleRequest(JsonObject scenario) {
+    private Map<String, String> createUnifiedScriptsSingleRequest(JsonObject scenario, BiConsumer<String, String> scriptListener) {
         String prompt = configManager.getPrompt("unified_scripts");
-        JsonObject scriptRequest = buildScriptRequest(scenario);
-        return aiService.generateUnifiedScripts(prompt, scriptRequest);
+        GameManagerContract contract = GameManagerContract.fromScenario(scenario);
+        List<JsonObject> objects = new ArrayList<>();
+        scenario.getAsJsonArray("object_instructions").forEach(obj -> objects.add(obj.getAsJsonObject()));
+
+        ScriptCache.Lookup cached = scriptCache.lookup(prompt, objects, contract, getModelScales(scenario));
+        logScriptCacheLookup(cached);
+        if (cached.misses().isEmpty()) {
+            return new LinkedHashMap<>(cached.scripts());
+        }
+
+        JsonObject scriptRequest = buildScriptRequest(scenario, cached.misses(), contract);
+        Map<String, String> generated = aiService.generateUnifiedScripts(prompt, scriptRequest, scriptListener);
+        if (!TaskAttempt.isAbandoned()) {
+            scriptCache.store(prompt, cached.misses(), contract, getModelScales(scenario), generated);
+        }
+
+        Map<String, String> scripts = new LinkedHashMap<>(cached.scripts());
+        scripts.putAll(generated);
+        return scripts;
     }
 
     /**
-     * 병렬로 스크립트를 생성합니다.
+     * 스크립트 캐시 조회 결과를 로깅합니다.
      */
-    @NotNull
-    private Map<String, String> createUnifiedScriptsParallel(@NotNull JsonObject scenario) {
-        Map<String, String> allScripts = new ConcurrentHashMap<>();
+    private void logScriptCacheLookup(@NotNull ScriptCache.Lookup cached) {
+        if (!cached.scripts().isEmpty()) {
+            log.info("스크립트 캐시 적중 - cached: {}, generating: {}", cached.scripts().size(), cached.misses().size());
+        }
+    }
 
+    /**
+     * 시나리오의 모델 스케일을 반환합니다.
+     */
+    @Nullable
+    private JsonObject getModelScales(@NotNull JsonObject scenario) {
+        return scenario.has("model_scales") ? scenario.getAsJsonObject("model_scales") : null;
+    }
+
+    /**
+     * 스크립트 수신을 로깅합니다.
+     */
+    private void logScriptArrival(String scriptName, long startTime) {
+        log.debug("스크립트 수신 - name: {}, elapsed: {}ms", scriptName, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 병렬 스크립트 생성 노드들을 추가합니다.
+     * GameManager와 오브젝트 배치는 모두 시나리오에서 도출한 같은 API 계약을 기준으로 생성되므로,
+     * 서로의 결과를 기다리지 않고 동시에 시작됩니다.
+     * 체크포인트에 스크립트가 있는 오브젝트는 배치 구성에서 제외합니다.
+     */
+    @NotNull
+    private List<String> addParallelScriptNodes(TaskGraph.Builder builder, @NotNull JsonObject scenario,
+                                                @NotNull Map<String, String> resumedScripts,
+                                                JobCheckpointStore.JobCheckpoints checkpoints) {
         List<JsonObject> gameManagerList = new ArrayList<>();
         List<JsonObject> otherObjects = new ArrayList<>();
 
         separateGameManagerAndObjects(scenario.getAsJsonArray("object_instructions"), gameManagerList, otherObjects);
+        GameManagerContract contract = GameManagerContract.fromScenario(scenario);
+        List<JsonObject> pendingObjects = filterPendingObjects(otherObjects, resumedScripts);
+
+        log.debug("병렬 처리 시작 - gameManager: {}, others: {}, resumed: {}, stateKeys: {}",
+                gameManagerList.size(), pendingObjects.size(), otherObjects.size() - pendingObjects.size(),
+                contract.getStateKeys().size());
+
+        List<String> scriptNodes = new ArrayList<>();
+        if (!resumedScripts.containsKey("GameManager")) {
+            builder.add(TaskNode.blocking(NODE_GAME_MANAGER, results -> {
+                        Map<String, String> streamed = new HashMap<>();
+                        Map<String, String> scripts = generateGameManagerScript(scenario, gameManagerList, contract,
+                                scriptArrivalPublisher(checkpoints.getRuid(), NODE_GAME_MANAGER, streamed));
+                        saveScriptsCheckpoint(checkpoints, NODE_GAME_MANAGER, NODE_GAME_MANAGER, scripts, streamed);
+                        return scripts;
+                    })
+                    .timeout(scriptTimeout)
+                    .retries(scriptBatchRetries, Duration.ofSeconds(SCRIPT_RETRY_BACKOFF_SECONDS))
+                    .build());
+            scriptNodes.add(NODE_GAME_MANAGER);
+        }
+        scriptNodes.addAll(addBatchNodes(builder, scenario, pendingObjects, contract, checkpoints));
+        return scriptNodes;
+    }
 
-        log.debug("병렬 처리 시작 - gameManager: {}, others: {}",
-                gameManagerList.size(), otherObjects.size());
-
-        String gameManagerScript = processFirstBatch(scenario, gameManagerList, otherObjects, allScripts);
-        String decodedGameManagerScript = new String(Base64.getDecoder().decode(gameManagerScript), StandardCharsets.UTF_8);
-        processRemainingBatches(scenario, otherObjects, decodedGameManagerScript, allScripts);
-
-        log.info("병렬 스크립트 생성 완료 - total: {}", allScripts.size());
-        return allScripts;
+    /**
+     * 체크포인트에 스크립트가 없는 오브젝트만 남깁니다.
+     */
+    @NotNull
+    private List<JsonObject> filterPendingObjects(@NotNull List<JsonObject> objects, @NotNull Map<String, String> resumedScripts) {
+        if (resumedScripts.isEmpty()) {
+            return objects;
+        }
+        return objects.stream()
+                .filter(obj -> {
+                    String name = obj.get("name").getAsString();
+                    return !resumedScripts.containsKey(name) && !resumedScripts.containsKey(name + "C");
+                })
+                .collect(Collectors.toList());
     }
 
     /**
@@ -475,150 +1068,120 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
     }
 
     /**
-     * 첫 번째 배치를 처리합니다.
-     */
-    @NotNull
-    private String processFirstBatch(JsonObject scenario, List<JsonObject> gameManagerList, List<JsonObject> otherObjects, @NotNull Map<String, String> allScripts) {
-        List<JsonObject> firstBatch = buildFirstBatch(gameManagerList, otherObjects);
-        logFirstBatch(gameManagerList, firstBatch);
-
-        Map<String, String> firstBatchResult = generateFirstBatchScripts(scenario, firstBatch);
-        allScripts.putAll(firstBatchResult);
-
-        return extractAndValidateGameManagerScript(firstBatchResult);
-    }
-
-    /**
-     * 첫 번째 배치를 구성합니다.
+     * 계약을 구현하는 GameManager 스크립트를 생성합니다.
+     * GameManager는 모든 오브젝트가 의존하므로 대체값 없이 실패하면 방 생성이 실패합니다.
+     * 결과에는 GameManager만 쓰이므로 리스너에도 GameManager 스크립트만 전달합니다.
      */
     @NotNull
-    private List<JsonObject> buildFirstBatch(List<JsonObject> gameManagerList, @NotNull List<JsonObject> otherObjects) {
-        int firstBatchSize = Math.min(FIRST_BATCH_SIZE, otherObjects.size());
-        List<JsonObject> firstBatch = new ArrayList<>(gameManagerList);
-        firstBatch.addAll(otherObjects.subList(0, firstBatchSize));
-        return firstBatch;
-    }
-
-    /**
-     * 첫 번째 배치를 로깅합니다.
-     */
-    private void logFirstBatch(@NotNull List<JsonObject> gameManagerList, @NotNull List<JsonObject> firstBatch) {
-        log.debug("첫 번째 배치 - gameManager: {}, objects: {}, total: {}",
-                gameManagerList.size(), firstBatch.size() - gameManagerList.size(), firstBatch.size());
-    }
+    private Map<String, String> generateGameManagerScript(JsonObject scenario, List<JsonObject> gameManagerList,
+                                                          GameManagerContract contract, BiConsumer<String, String> scriptListener) {
+        JsonObject request = buildBatchRequest(scenario, gameManagerList, contract);
 
-    /**
-     * 첫 번째 배치 스크립트를 생성합니다.
-     */
-    private Map<String, String> generateFirstBatchScripts(JsonObject scenario, List<JsonObject> firstBatch) {
-        JsonObject firstBatchRequest = buildBatchRequest(scenario, firstBatch, true, null);
+        Map<String, String> result = aiService.generateUnifiedScripts(configManager.getPrompt("unified_scripts"), request,
+                (name, script) -> {
+                    if ("GameManager".equals(name)) {
+                        scriptListener.accept(name, script);
+                    }
+                });
 
-        return aiService.generateUnifiedScripts(configManager.getPrompt("unified_scripts"), firstBatchRequest);
+        String gameManagerScript = extractAndValidateGameManagerScript(result);
+        return Map.of("GameManager", gameManagerScript);
     }
 
     /**
      * GameManager 스크립트를 추출하고 검증합니다.
      */
     @NotNull
-    private String extractAndValidateGameManagerScript(@NotNull Map<String, String> firstBatchResult) {
-        String gameManagerScript = firstBatchResult.get("GameManager");
+    private String extractAndValidateGameManagerScript(@NotNull Map<String, String> result) {
+        String gameManagerScript = result.get("GameManager");
         if (gameManagerScript == null || gameManagerScript.isEmpty()) {
             throw new RuntimeException("GameManager 스크립트 생성 실패");
         }
 
-        log.debug("GameManager 생성 완료, 첫 배치 스크립트 수: {}", firstBatchResult.size());
+        log.debug("GameManager 생성 완료");
         return gameManagerScript;
     }
 
     /**
-     * 나머지 배치들을 처리합니다.
+     * 오브젝트 배치 노드들을 추가합니다.
+     * 스크립트 캐시에 있는 오브젝트는 캐시 노드 하나로 모으고, 나머지 오브젝트만 배치로 구성합니다.
+     * 배치는 추정 출력 토큰에 따라 구성되며, 각 배치는 선행 노드 없이 즉시 시작되고 실패 시 재시도 후 빈 결과로 대체됩니다.
+     * 재시작 후에는 배치 구성이 달라질 수 있으므로 배치 체크포인트는 배치 번호가 아닌 오브젝트 구성으로 구분합니다.
      */
-    private void processRemainingBatches(JsonObject scenario, List<JsonObject> allObjects, String gameManagerScript, Map<String, String> allScripts) {
-        List<JsonObject> remainingObjects = getRemainingObjects(allObjects);
-
-        if (remainingObjects.isEmpty()) {
-            return;
+    @NotNull
+    private List<String> addBatchNodes(TaskGraph.Builder builder, JsonObject scenario, @NotNull List<JsonObject> objects,
+                                       GameManagerContract contract, JobCheckpointStore.JobCheckpoints checkpoints) {
+        ScriptCache.Lookup cached = scriptCache.lookup(configManager.getPrompt("scripts_batch"), objects, contract,
+                getModelScales(scenario));
+        logScriptCacheLookup(cached);
+
+        List<String> nodeIds = new ArrayList<>();
+        if (!cached.scripts().isEmpty()) {
+            builder.add(TaskNode.blocking(NODE_SCRIPTS_CACHED, results -> {
+                publishScripts(checkpoints.getRuid(), NODE_SCRIPTS_CACHED, cached.scripts());
+                return cached.scripts();
+            }).build());
+            nodeIds.add(NODE_SCRIPTS_CACHED);
         }
 
-        List<CompletableFuture<Map<String, String>>> futures = createBatchFutures(scenario, remainingObjects, gameManagerScript);
+        List<ScriptBatchPlanner.Batch> batches = scriptBatchPlanner.plan(cached.misses());
+
+        for (ScriptBatchPlanner.Batch batch : batches) {
+            logBatchCreation(batch);
+
+            String nodeId = NODE_SCRIPTS_BATCH_PREFIX + batch.number();
+            String stage = batchStage(batch);
+            builder.add(TaskNode.blocking(nodeId, results -> {
+                        Map<String, String> streamed = new HashMap<>();
+                        Map<String, String> scripts = generateBatchScripts(batch, scenario, contract,
+                                scriptArrivalPublisher(checkpoints.getRuid(), nodeId, streamed));
+                        saveScriptsCheckpoint(checkpoints, nodeId, stage, scripts, streamed);
+                        return scripts;
+                    })
+                    .timeout(scriptTimeout)
+                    .retries(scriptBatchRetries, Duration.ofSeconds(SCRIPT_RETRY_BACKOFF_SECONDS))
+                    .fallback(error -> handleBatchFailure(batch.number(), error))
+                    .build());
+            nodeIds.add(nodeId);
+        }
 
-        waitForAllBatches(futures, allScripts);
+        return nodeIds;
     }
 
     /**
-     * 나머지 객체들을 가져옵니다.
+     * 배치에 속한 오브젝트 이름들로 체크포인트 단계 이름을 만듭니다.
      */
     @NotNull
-    private List<JsonObject> getRemainingObjects(@NotNull List<JsonObject> allObjects) {
-        return allObjects.subList(Math.min(FIRST_BATCH_SIZE, allObjects.size()), allObjects.size());
+    private String batchStage(@NotNull ScriptBatchPlanner.Batch batch) {
+        String[] names = batch.objects().stream()
+                .map(obj -> obj.get("name").getAsString())
+                .sorted()
+                .toArray(String[]::new);
+        return STAGE_SCRIPTS_BATCH_PREFIX + TieredCache.hashKey(names).substring(0, BATCH_STAGE_HASH_LENGTH);
     }
 
     /**
-     * 배치 Future들을 생성합니다.
+     * 배치 최종 실패를 처리합니다.
      */
     @NotNull
-    private List<CompletableFuture<Map<String, String>>> createBatchFutures(JsonObject scenario, @NotNull List<JsonObject> remainingObjects, String gameManagerScript) {
-        List<CompletableFuture<Map<String, String>>> futures = new ArrayList<>();
-
-        for (int i = 0; i < remainingObjects.size(); i += BATCH_SIZE) {
-            int batchEnd = Math.min(i + BATCH_SIZE, remainingObjects.size());
-            List<JsonObject> batch = remainingObjects.subList(i, batchEnd);
-
-            int absoluteBatchStart = FIRST_BATCH_SIZE + i;
-            logBatchCreation(absoluteBatchStart, batchEnd, batch.size());
-
-            CompletableFuture<Map<String, String>> future = CompletableFuture.supplyAsync(
-                    () -> generateBatchScripts(batch, scenario, absoluteBatchStart, gameManagerScript),
-                    executorService);
-
-            futures.add(future);
-        }
-
-        return futures;
+    private Map<String, String> handleBatchFailure(int batchNumber, Throwable error) {
+        log.error("배치 {} 생성 실패", batchNumber, error);
+        return new HashMap<>();
     }
 
     /**
      * 배치 생성을 로깅합니다.
      */
-    private void logBatchCreation(int absoluteBatchStart, int batchEnd, int batchSize) {
-        log.debug("배치 생성 - objects: {}-{} ({}개)",
-                absoluteBatchStart + 1, FIRST_BATCH_SIZE + batchEnd, batchSize);
-    }
-
-    /**
-     * 모든 배치가 완료될 때까지 대기합니다.
-     */
-    private void waitForAllBatches(List<CompletableFuture<Map<String, String>>> futures, Map<String, String> allScripts) {
-        try {
-            CompletableFuture<Void> allFutures = CompletableFuture.allOf(
-                    futures.toArray(new CompletableFuture[0]));
-
-            allFutures.get(5, TimeUnit.MINUTES);
-            collectBatchResults(futures, allScripts);
-
-        } catch (TimeoutException e) {
-            log.error("스크립트 생성 타임아웃");
-            throw new RuntimeException("스크립트 생성 시간 초과");
-        } catch (Exception e) {
-            log.error("병렬 처리 중 오류", e);
-            throw new RuntimeException("병렬 스크립트 생성 실패: " + e.getMessage());
-        }
-    }
-
-    /**
-     * 배치 결과들을 수집합니다.
-     */
-    private void collectBatchResults(@NotNull List<CompletableFuture<Map<String, String>>> futures, Map<String, String> allScripts) throws Exception {
-        for (CompletableFuture<Map<String, String>> future : futures) {
-            allScripts.putAll(future.get());
-        }
+    private void logBatchCreation(@NotNull ScriptBatchPlanner.Batch batch) {
+        log.debug("배치 생성 - batch: {}, objects: {}, estimatedTokens: {}",
+                batch.number(), batch.objects().size(), batch.estimatedTokens());
     }
 
     /**
      * 배치 요청을 빌드합니다.
      */
     @NotNull
-    private JsonObject buildBatchRequest(@NotNull JsonObject scenario, @NotNull List<JsonObject> batch, boolean isFirstBatch, String gameManagerScript) {
+    private JsonObject buildBatchRequest(@NotNull JsonObject scenario, @NotNull List<JsonObject> batch, GameManagerContract contract) {
         JsonObject request = new JsonObject();
         request.add("scenario_data", scenario.getAsJsonObject("scenario_data"));
 
@@ -627,7 +1190,7 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
         request.add("object_instructions", batchArray);
 
         logBatchObjectNames(batch);
-        addBatchMetadata(request, scenario, isFirstBatch, gameManagerScript);
+        addBatchMetadata(request, scenario, contract);
         addModelScalesToRequest(scenario, batch, request);
 
         return request;
@@ -647,14 +1210,9 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
     /**
      * 배치 메타데이터를 추가합니다.
      */
-    private void addBatchMetadata(JsonObject request, JsonObject scenario, boolean isFirstBatch, String gameManagerScript) {
-        if (isFirstBatch) {
-            request.addProperty("is_first_batch", true);
-            request.addProperty("total_objects", scenario.getAsJsonArray("object_instructions").size());
-        } else {
-            request.addProperty("game_manager_script", gameManagerScript);
-            request.addProperty("total_objects", scenario.getAsJsonArray("object_instructions").size());
-        }
+    private void addBatchMetadata(@NotNull JsonObject request, @NotNull JsonObject scenario, @NotNull GameManagerContract contract) {
+        request.add("game_manager_contract", contract.toJson());
+        request.addProperty("total_objects", scenario.getAsJsonArray("object_instructions").size());
     }
 
     /**
@@ -682,49 +1240,67 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
 
     /**
      * 배치 스크립트를 생성합니다.
+     * 생성 중 완성된 스크립트는 하나씩 리스너에 전달합니다.
+     * 응답 크기와 소요 시간은 다음 배치 구성을 위해 기록되고, 생성된 스크립트는 스크립트 캐시에 저장됩니다.
+     * 버려진 노드 시도의 스크립트는 캐시에 저장하지 않습니다.
      */
     @NotNull
-    private Map<String, String> generateBatchScripts(List<JsonObject> batch, JsonObject scenario, int batchStartIndex, String gameManagerScript) {
-        try {
-            String prompt = configManager.getPrompt("scripts_batch");
-            JsonObject request = buildBatchRequest(scenario, batch, false, gameManagerScript);
+    private Map<String, String> generateBatchScripts(ScriptBatchPlanner.Batch batch, JsonObject scenario, GameManagerContract contract,
+                                                     BiConsumer<String, String> scriptListener) {
+        String prompt = configManager.getPrompt("scripts_batch");
+        JsonObject request = buildBatchRequest(scenario, batch.objects(), contract);
 
-            request.addProperty("batch_index", batchStartIndex);
+        request.addProperty("batch_index", batch.number());
 
-            log.debug("배치 {} API 호출 중 - objects: {}",
-                    batchStartIndex / BATCH_SIZE + 1, batch.size());
+        log.debug("배치 {} API 호출 중 - objects: {}, estimatedTokens: {}",
+                batch.number(), batch.objects().size(), batch.estimatedTokens());
 
-            Map<String, String> result = aiService.generateUnifiedScripts(prompt, request);
+        long startTime = System.currentTimeMillis();
+        Map<String, String> result = aiService.generateUnifiedScripts(prompt, request, scriptListener);
+        long elapsed = System.currentTimeMillis() - startTime;
 
-            logBatchCompletion(batchStartIndex, result.size(), batch.size());
-            validateBatchResult(batchStartIndex, result, batch);
+        logBatchCompletion(batch, result.size(), elapsed);
+        boolean complete = validateBatchResult(batch, result);
+        scriptBatchPlanner.recordBatch(batch, estimateResponseBytes(result), elapsed, !complete);
+        if (!TaskAttempt.isAbandoned()) {
+            scriptCache.store(prompt, batch.objects(), contract, getModelScales(scenario), result);
+        }
 
-            return result;
+        return result;
+    }
 
-        } catch (Exception e) {
-            log.error("배치 {} 생성 실패", batchStartIndex / BATCH_SIZE + 1, e);
-            return new HashMap<>();
+    /**
+     * Base64로 인코딩된 스크립트들의 원본 크기를 계산합니다.
+     */
+    private long estimateResponseBytes(@NotNull Map<String, String> scripts) {
+        long encodedLength = 0;
+        for (String script : scripts.values()) {
+            encodedLength += script != null ? script.length() : 0;
         }
+        return encodedLength * 3 / 4;
     }
 
     /**
      * 배치 완료를 로깅합니다.
      */
-    private void logBatchCompletion(int batchStartIndex, int resultSize, int batchSize) {
-        log.debug("배치 {} 완료 - generated: {}, expected: {}",
-                batchStartIndex / BATCH_SIZE + 1, resultSize, batchSize);
+    private void logBatchCompletion(@NotNull ScriptBatchPlanner.Batch batch, int resultSize, long elapsedMs) {
+        log.debug("배치 {} 완료 - generated: {}, expected: {}, elapsed: {}ms",
+                batch.number(), resultSize, batch.objects().size(), elapsedMs);
     }
 
     /**
      * 배치 결과를 검증합니다.
+     * 누락된 스크립트가 있으면 false를 반환합니다.
      */
-    private void validateBatchResult(int batchStartIndex, @NotNull Map<String, String> result, @NotNull List<JsonObject> batch) {
-        if (result.size() < batch.size()) {
+    private boolean validateBatchResult(@NotNull ScriptBatchPlanner.Batch batch, @NotNull Map<String, String> result) {
+        if (result.size() < batch.objects().size()) {
             log.warn("배치 {}: 생성된 스크립트 수({})가 오브젝트 수({})보다 적습니다. 누락된 오브젝트를 확인하세요.",
-                    batchStartIndex / BATCH_SIZE + 1, result.size(), batch.size());
+                    batch.number(), result.size(), batch.objects().size());
 
-            logMissingScripts(result.keySet(), batch);
+            logMissingScripts(result.keySet(), batch.objects());
+            return false;
         }
+        return true;
     }
 
     /**
@@ -741,90 +1317,45 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
 
     /**
      * 스크립트 요청을 빌드합니다.
+     * 스크립트 캐시를 사용하면 캐시된 스크립트와 새 스크립트가 같은 상태 키를 쓰도록 GameManager 계약을 함께 보냅니다.
      */
     @NotNull
-    private JsonObject buildScriptRequest(@NotNull JsonObject scenario) {
+    private JsonObject buildScriptRequest(@NotNull JsonObject scenario, @NotNull List<JsonObject> objects,
+                                          @NotNull GameManagerContract contract) {
         JsonObject scriptRequest = new JsonObject();
         scriptRequest.add("scenario_data", scenario.getAsJsonObject("scenario_data"));
-        scriptRequest.add("object_instructions", scenario.getAsJsonArray("object_instructions"));
 
-        if (scenario.has("model_scales")) {
-            scriptRequest.add("model_scales", scenario.getAsJsonObject("model_scales"));
+        JsonArray objectArray = new JsonArray();
+        objects.forEach(objectArray::add);
+        scriptRequest.add("object_instructions", objectArray);
+
+        if (scriptCache.isEnabled()) {
+            scriptRequest.add("game_manager_contract", contract.toJson());
         }
+        addModelScalesToRequest(scenario, objects, scriptRequest);
 
         return scriptRequest;
     }
 
     /**
-     * 모델 생성이 완료될 때까지 대기합니다.
+     * 모델 노드 결과로 추적 정보를 구성합니다.
      */
     @NotNull
-    private JsonObject waitForModels(@NotNull List<CompletableFuture<ModelGenerationResult>> futures) {
-        if (futures.isEmpty()) {
+    private JsonObject collectModelTracking(@NotNull RoomTaskGraph roomGraph, TaskResults results) {
+        if (roomGraph.modelNodes().isEmpty()) {
             return createEmptyTracking();
         }
 
         JsonObject tracking = new JsonObject();
         JsonObject failedModels = new JsonObject();
 
-        log.info("3D 모델 생성 대기 중 - count: {}, timeout: {}분", futures.size(), MODEL_TIMEOUT_MINUTES);
-
-        try {
-            waitForAllModels(futures);
-            collectResults(futures, tracking, failedModels);
-        } catch (TimeoutException e) {
-            handleTimeout(futures, tracking, failedModels);
-        } catch (Exception e) {
-            log.error("모델 생성 대기 중 오류 발생", e);
+        for (String nodeId : roomGraph.modelNodes()) {
+            addTrackingResult(tracking, failedModels, results.get(nodeId, ModelGenerationResult.class));
         }
 
         return finalizeTracking(tracking, failedModels);
     }
 
-    /**
-     * 모든 모델이 완료될 때까지 대기합니다.
-     */
-    private void waitForAllModels(@NotNull List<CompletableFuture<ModelGenerationResult>> futures) throws Exception {
-        CompletableFuture<Void> allFutures = CompletableFuture.allOf(
-                futures.toArray(new CompletableFuture[0]));
-        allFutures.get(MODEL_TIMEOUT_MINUTES, TimeUnit.MINUTES);
-    }
-
-    /**
-     * 모델 생성 결과를 수집합니다.
-     */
-    private void collectResults(@NotNull List<CompletableFuture<ModelGenerationResult>> futures, JsonObject tracking, JsonObject failedModels) {
-        for (int i = 0; i < futures.size(); i++) {
-            try {
-                ModelGenerationResult result = futures.get(i).get();
-                addTrackingResult(tracking, failedModels, result);
-            } catch (Exception e) {
-                log.error("모델 결과 수집 실패: index={}", i, e);
-                failedModels.addProperty("error_" + i, "collection_error-" + System.currentTimeMillis());
-            }
-        }
-    }
-
-    /**
-     * 타임아웃을 처리합니다.
-     */
-    private void handleTimeout(@NotNull List<CompletableFuture<ModelGenerationResult>> futures, JsonObject tracking, JsonObject failedModels) {
-        log.warn("모델 생성 타임아웃 발생, 현재까지 완료된 결과만 수집");
-
-        for (int i = 0; i < futures.size(); i++) {
-            CompletableFuture<ModelGenerationResult> future = futures.get(i);
-            if (future.isDone() && !future.isCompletedExceptionally()) {
-                try {
-                    addTrackingResult(tracking, failedModels, future.get());
-                } catch (Exception ex) {
-                    log.debug("타임아웃 후 결과 수집 실패: index={}", i);
-                }
-            } else {
-                failedModels.addProperty("timeout_" + i, "timeout-" + System.currentTimeMillis());
-            }
-        }
-    }
-
     /**
      * 추적 결과를 추가합니다.
      */
@@ -1019,7 +1550,8 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
      * 오류 응답을 생성합니다.
      */
     @NotNull
-    private RoomCreationResponse createErrorResponse(@NotNull RoomCreationRequest request, String ruid, String errorMessage) {
+    private RoomCreationResponse createErrorResponse(@NotNull RoomCreationRequest request, String ruid, String errorMessage,
+                                                     RoomCreationResponse.FailureKind failureKind) {
         RoomCreationResponse response = new RoomCreationResponse();
         response.setUuid(request.getUuid());
         response.setPuid(ruid);
@@ -1028,6 +1560,7 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
         response.setDifficulty(request.getValidatedDifficulty());
         response.setSuccess(false);
         response.setErrorMessage(errorMessage != null ? errorMessage : "알 수 없는 오류");
+        response.setFailureKind(failureKind);
 
         return response;
     }
@@ -1039,9 +1572,52 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
     public void close() {
         log.debug("RoomService 종료 시작");
         shutdownExecutorService();
+        closeModelService(meshService);
+        closeModelService(localModelService);
+        modelReuseIndex.close();
         log.debug("RoomService 종료 완료");
     }
 
+    /**
+     * 모델 캐시 지표를 포함한 운영 지표를 반환합니다.
+     */
+    @Override
+    public JsonObject getMetrics() {
+        JsonObject modelCache = new JsonObject();
+        modelCache.addProperty("enabled", meshService instanceof CachingMeshService
+                || localModelService instanceof CachingMeshService);
+        if (meshService instanceof CachingMeshService cachingService) {
+            modelCache.add("meshy", cachingService.getCacheStats());
+        }
+        if (localModelService instanceof CachingMeshService cachingService) {
+            modelCache.add("local", cachingService.getCacheStats());
+        }
+
+        JsonObject metrics = new JsonObject();
+        metrics.add("modelCache", modelCache);
+        metrics.add("modelReuse", modelReuseIndex.getStats());
+        metrics.add("scriptBatching", scriptBatchPlanner.getStats());
+        metrics.add("scenarioCache", scenarioCache.getStats());
+        metrics.add("scriptCache", scriptCache.getStats());
+        metrics.addProperty("checkpointedJobs", checkpointStore.size());
+        metrics.addProperty("eventPublishers", eventBus.size());
+        metrics.add("modelJobs", modelJobTable.getStats());
+        return metrics;
+    }
+
+    /**
+     * 자원을 보유한 모델 서비스를 종료합니다.
+     */
+    private void closeModelService(MeshService modelService) {
+        if (modelService instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("모델 서비스 종료 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+
     /**
      * ExecutorService를 종료합니다.
      */
@@ -1079,4 +1655,19 @@ public class RoomServiceImpl implements RoomService, AutoCloseable {
         executorService.shutdownNow();
         Thread.currentThread().interrupt();
     }
-}
\ No newline at end of file
+
+    /**
+     * 방 생성 작업 그래프와 결과를 모을 노드 목록
+     * resumedScripts는 체크포인트에서 이어받아 다시 생성하지 않는 스크립트입니다.
+     */
+    private record RoomTaskGraph(TaskGraph graph, Map<String, String> resumedScripts,
+                                 List<String> scriptNodes, List<String> modelNodes) {
+    }
+
+    /**
+     * 모델을 생성할 오브젝트
+     * index는 시나리오의 object_instructions 안에서의 위치입니다.
+     */
+    private record ModelSpec(int index, String name, String prompt) {
+    }
+}
@@ -0,0 +1,186 @@
+package com.febrie.eroom.service.room;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.febrie.eroom.service.cache.TieredCache;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 시나리오 응답 캐시
+ * 시나리오 요청에서 요청마다 달라지는 uuid와 ruid를 빼고 정규화한 내용을 키로,
+ * 검증을 통과한 시나리오를 키마다 최대 variants개까지 보관합니다.
+ * 보관 수가 variants에 못 미치면 새로 생성해 채우고, 다 채워지면 보관된 시나리오를 차례로 돌려가며 반환합니다.
+ */
+public class ScenarioCache {
+
+    // 설정 키
+    private static final String KEY_ENABLED = "enabled";
+    private static final String KEY_VARIANTS = "variants";
+
+    // 기본값
+    private static final int DEFAULT_VARIANTS = 3;
+
+    // 캐시 값 필드
+    private static final String FIELD_SCENARIOS = "scenarios";
+    private static final String FIELD_NEXT = "next";
+
+    // 기존 객체에서 키에 반영하는 필드, 시나리오가 원래 id를 그대로 쓰므로 id도 포함합니다
+    private static final List<String> EXISTING_OBJECT_KEY_FIELDS = List.of("id", "name");
+
+    private final TieredCache cache;
+    private final int variants;
+
+    /**
+     * ScenarioCache 생성자
+     * 캐시가 null이면 비활성화됩니다.
+     */
+    public ScenarioCache(@Nullable TieredCache cache, int variants) {
+        this.cache = cache;
+        this.variants = Math.max(1, variants);
+    }
+
+    /**
+     * 설정 섹션에서 시나리오 캐시를 생성합니다.
+     */
+    @NotNull
+    public static ScenarioCache fromConfig(@NotNull ConfigSection section) {
+        if (!section.getBoolean(KEY_ENABLED, false)) {
+            return new ScenarioCache(null, DEFAULT_VARIANTS);
+        }
+        return new ScenarioCache(TieredCache.fromConfig("scenario", section),
+                section.getInt(KEY_VARIANTS, DEFAULT_VARIANTS));
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 시나리오 요청과 프롬프트로 캐시 키를 생성합니다.
+     * 테마는 앞뒤 공백을 제거해 소문자로, 키워드와 기존 객체는 정렬해 순서 차이를 무시합니다.
+     * 기존 객체는 이름과 id만 필드 순서와 관계없이 반영합니다. 생성된 시나리오에 id가 그대로 들어가므로 id가 다르면 다른 키입니다.
+     * 프롬프트가 바뀌면 이전 시나리오는 사용하지 않습니다.
+     */
+    @NotNull
+    public static String createKey(@NotNull JsonObject scenarioRequest, @NotNull String prompt) {
+        return TieredCache.hashKey(
+                TieredCache.hashKey(prompt),
+                scenarioRequest.get("theme").getAsString().trim().toLowerCase(Locale.ROOT),
+                String.valueOf(scenarioRequest.get("difficulty")),
+                String.valueOf(scenarioRequest.get("is_free_modeling")),
+                String.join("\n", sortedStrings(scenarioRequest.getAsJsonArray("keywords"))),
+                String.join("\n", sortedStrings(canonicalizeExistingObjects(scenarioRequest.getAsJsonArray("existing_objects"))))
+        );
+    }
+
+    /**
+     * 보관된 시나리오를 반환합니다.
+     * 보관 수가 variants에 못 미치면 새 시나리오를 생성하도록 빈 값을 반환합니다.
+     * 반환된 시나리오는 복사본이므로 호출자가 수정해도 됩니다.
+     */
+    @NotNull
+    public synchronized Optional<JsonObject> next(@NotNull String key) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+
+        Optional<JsonObject> stored = cache.get(key)
+                .filter(JsonElement::isJsonObject)
+                .map(JsonElement::getAsJsonObject);
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+
+        JsonObject value = stored.get();
+        JsonArray scenarios = value.getAsJsonArray(FIELD_SCENARIOS);
+        if (scenarios == null || scenarios.size() < variants) {
+            return Optional.empty();
+        }
+
+        int index = value.has(FIELD_NEXT) ? value.get(FIELD_NEXT).getAsInt() % scenarios.size() : 0;
+        value.addProperty(FIELD_NEXT, (index + 1) % scenarios.size());
+        cache.put(key, value);
+        return Optional.of(scenarios.get(index).getAsJsonObject().deepCopy());
+    }
+
+    /**
+     * 검증을 통과한 시나리오를 보관합니다. 이미 variants개가 있으면 가장 오래된 것을 교체합니다.
+     */
+    public synchronized void add(@NotNull String key, @NotNull JsonObject scenario) {
+        if (cache == null) {
+            return;
+        }
+
+        JsonObject value = cache.get(key)
+                .filter(JsonElement::isJsonObject)
+                .map(JsonElement::getAsJsonObject)
+                .orElseGet(JsonObject::new);
+        JsonArray scenarios = value.has(FIELD_SCENARIOS) ? value.getAsJsonArray(FIELD_SCENARIOS) : new JsonArray();
+        while (scenarios.size() >= variants) {
+            scenarios.remove(0);
+        }
+        scenarios.add(scenario.deepCopy());
+        value.add(FIELD_SCENARIOS, scenarios);
+        cache.put(key, value);
+    }
+
+    /**
+     * 캐시 상태를 JSON으로 반환합니다.
+     */
+    @NotNull
+    public JsonObject getStats() {
+        if (cache == null) {
+            JsonObject stats = new JsonObject();
+            stats.addProperty("enabled", false);
+            return stats;
+        }
+        JsonObject stats = cache.toJson();
+        stats.addProperty("enabled", true);
+        stats.addProperty("variants", variants);
+        return stats;
+    }
+
+    /**
+     * 기존 객체를 키 필드만 정해진 순서로 남긴 객체로 바꿉니다.
+     */
+    @Nullable
+    private static JsonArray canonicalizeExistingObjects(@Nullable JsonArray existingObjects) {
+        if (existingObjects == null) {
+            return null;
+        }
+        JsonArray canonical = new JsonArray();
+        for (JsonElement element : existingObjects) {
+            if (!element.isJsonObject()) {
+                canonical.add(element);
+                continue;
+            }
+            JsonObject object = element.getAsJsonObject();
+            JsonObject content = new JsonObject();
+            for (String field : EXISTING_OBJECT_KEY_FIELDS) {
+                if (object.has(field) && !object.get(field).isJsonNull()) {
+                    content.add(field, object.get(field));
+                }
+            }
+            canonical.add(content);
+        }
+        return canonical;
+    }
+
+    @NotNull
+    private static List<String> sortedStrings(@Nullable JsonArray array) {
+        List<String> values = new ArrayList<>();
+        if (array != null) {
+            array.forEach(element -> values.add(element.toString()));
+        }
+        values.sort(null);
+        return values;
+    }
+}
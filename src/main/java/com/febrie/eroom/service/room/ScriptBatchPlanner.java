@@ -0,0 +1,250 @@
+package com.febrie.eroom.service.room;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 스크립트 배치 구성기
+ * 오브젝트 지시사항에서 출력 토큰 수를 추정하고, 토큰 예산과 지연 목표(SLO)에 맞춰 배치를 나눕니다.
+ * 배치별 추정 토큰이 고르게 분배되도록 큰 오브젝트부터 가장 가벼운 배치에 배정합니다.
+ * 실제 응답 크기와 소요 시간으로 추정 보정 계수와 토큰당 지연 시간을 학습합니다.
+ */
+public class ScriptBatchPlanner {
+
+    // 설정 키
+    private static final String KEY_TOKEN_BUDGET_FRACTION = "tokenBudgetFraction";
+    private static final String KEY_LATENCY_SLO_SECONDS = "latencySloSeconds";
+    private static final String KEY_MAX_OBJECTS_PER_BATCH = "maxObjectsPerBatch";
+    private static final String KEY_BASE_TOKENS_PER_SCRIPT = "baseTokensPerScript";
+    private static final String KEY_INTERACTIVE_TOKENS_PER_CHAR = "interactiveTokensPerChar";
+    private static final String KEY_MONOLOGUE_TOKENS_PER_CHAR = "monologueTokensPerChar";
+    private static final String KEY_HISTORY_ALPHA = "historyAlpha";
+
+    // 기본값
+    private static final int DEFAULT_MAX_TOKENS = 16000;
+    private static final double DEFAULT_TOKEN_BUDGET_FRACTION = 0.6;
+    private static final long DEFAULT_LATENCY_SLO_SECONDS = 90;
+    private static final int DEFAULT_MAX_OBJECTS_PER_BATCH = 8;
+    private static final int DEFAULT_BASE_TOKENS_PER_SCRIPT = 500;
+    private static final double DEFAULT_INTERACTIVE_TOKENS_PER_CHAR = 3.0;
+    private static final double DEFAULT_MONOLOGUE_TOKENS_PER_CHAR = 1.2;
+    private static final double DEFAULT_HISTORY_ALPHA = 0.3;
+
+    // 응답 크기를 토큰으로 환산하는 근사치
+    private static final double BYTES_PER_TOKEN = 3.5;
+    private static final double MIN_CORRECTION = 0.5;
+    private static final double MAX_CORRECTION = 3.0;
+
+    private final int tokenBudget;
+    private final long latencySloMs;
+    private final int maxObjectsPerBatch;
+    private final int baseTokensPerScript;
+    private final double interactiveTokensPerChar;
+    private final double monologueTokensPerChar;
+    private final double historyAlpha;
+
+    private double tokenCorrection = 1.0;
+    private double msPerTokenEwma = -1;
+    private long observedBatches;
+    private long truncatedBatches;
+
+    /**
+     * ScriptBatchPlanner 생성자
+     */
+    public ScriptBatchPlanner(int tokenBudget, long latencySloMs, int maxObjectsPerBatch, int baseTokensPerScript,
+                              double interactiveTokensPerChar, double monologueTokensPerChar, double historyAlpha) {
+        this.tokenBudget = Math.max(1000, tokenBudget);
+        this.latencySloMs = Math.max(0, latencySloMs);
+        this.maxObjectsPerBatch = Math.max(1, maxObjectsPerBatch);
+        this.baseTokensPerScript = Math.max(0, baseTokensPerScript);
+        this.interactiveTokensPerChar = Math.max(0, interactiveTokensPerChar);
+        this.monologueTokensPerChar = Math.max(0, monologueTokensPerChar);
+        this.historyAlpha = Math.min(1.0, Math.max(0.01, historyAlpha));
+    }
+
+    /**
+     * 설정 섹션에서 구성기를 생성합니다.
+     * 토큰 예산은 모델의 maxTokens에 비율을 곱해 응답 잘림 여유를 남깁니다.
+     */
+    @NotNull
+    public static ScriptBatchPlanner fromConfig(@NotNull ConfigSection section, int maxTokens) {
+        int budget = (int) ((maxTokens > 0 ? maxTokens : DEFAULT_MAX_TOKENS)
+                * section.getDouble(KEY_TOKEN_BUDGET_FRACTION, DEFAULT_TOKEN_BUDGET_FRACTION));
+        return new ScriptBatchPlanner(
+                budget,
+                section.getLong(KEY_LATENCY_SLO_SECONDS, DEFAULT_LATENCY_SLO_SECONDS) * 1000,
+                section.getInt(KEY_MAX_OBJECTS_PER_BATCH, DEFAULT_MAX_OBJECTS_PER_BATCH),
+                section.getInt(KEY_BASE_TOKENS_PER_SCRIPT, DEFAULT_BASE_TOKENS_PER_SCRIPT),
+                section.getDouble(KEY_INTERACTIVE_TOKENS_PER_CHAR, DEFAULT_INTERACTIVE_TOKENS_PER_CHAR),
+                section.getDouble(KEY_MONOLOGUE_TOKENS_PER_CHAR, DEFAULT_MONOLOGUE_TOKENS_PER_CHAR),
+                section.getDouble(KEY_HISTORY_ALPHA, DEFAULT_HISTORY_ALPHA)
+        );
+    }
+
+    /**
+     * 오브젝트 하나의 스크립트 출력 토큰 수를 추정합니다.
+     * 퍼즐 설명은 구현 코드로, 독백은 메시지 배열 그대로 출력된다고 가정합니다.
+     */
+    public int estimateTokens(@NotNull JsonObject instruction) {
+        double tokens = baseTokensPerScript;
+
+        JsonElement interactive = instruction.get("interactive_description");
+        if (interactive != null && interactive.isJsonPrimitive()) {
+            tokens += interactive.getAsString().length() * interactiveTokensPerChar;
+        }
+
+        JsonElement monologue = instruction.get("monologue_messages");
+        if (monologue != null && monologue.isJsonArray()) {
+            int chars = 0;
+            for (JsonElement message : monologue.getAsJsonArray()) {
+                chars += message.isJsonPrimitive() ? message.getAsString().length() : message.toString().length();
+            }
+            tokens += chars * monologueTokensPerChar;
+        }
+
+        return (int) Math.ceil(tokens * getTokenCorrection());
+    }
+
+    /**
+     * 오브젝트들을 배치로 나눕니다.
+     * 배치 수는 전체 추정 토큰을 배치 예산으로 나눠 정하고, 큰 오브젝트부터 가장 가벼운 배치에 배정합니다.
+     * 배정 가능한 배치가 없으면 새 배치를 엽니다.
+     */
+    @NotNull
+    public List<Batch> plan(@NotNull List<JsonObject> objects) {
+        if (objects.isEmpty()) {
+            return List.of();
+        }
+
+        List<Sized> sized = new ArrayList<>(objects.size());
+        long totalTokens = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            int tokens = estimateTokens(objects.get(i));
+            sized.add(new Sized(i, objects.get(i), tokens));
+            totalTokens += tokens;
+        }
+
+        int budget = getBatchTokenBudget();
+        int batchCount = (int) Math.max(
+                Math.ceil((double) totalTokens / budget),
+                Math.ceil((double) objects.size() / maxObjectsPerBatch));
+
+        List<Bin> bins = new ArrayList<>();
+        for (int i = 0; i < batchCount; i++) {
+            bins.add(new Bin());
+        }
+
+        sized.sort(Comparator.comparingInt(Sized::tokens).reversed().thenComparingInt(Sized::index));
+        for (Sized item : sized) {
+            Bin target = bins.stream()
+                    .filter(bin -> bin.items.size() < maxObjectsPerBatch)
+                    .filter(bin -> bin.items.isEmpty() || bin.tokens + item.tokens() <= budget)
+                    .min(Comparator.comparingLong(bin -> bin.tokens))
+                    .orElseGet(() -> {
+                        Bin bin = new Bin();
+                        bins.add(bin);
+                        return bin;
+                    });
+            target.add(item);
+        }
+
+        List<Batch> batches = new ArrayList<>(bins.size());
+        for (Bin bin : bins) {
+            if (bin.items.isEmpty()) {
+                continue;
+            }
+            bin.items.sort(Comparator.comparingInt(Sized::index));
+            List<JsonObject> batchObjects = bin.items.stream().map(Sized::instruction).toList();
+            batches.add(new Batch(batches.size() + 1, batchObjects, (int) bin.tokens));
+        }
+        return batches;
+    }
+
+    /**
+     * 배치 하나에 허용되는 추정 토큰 수를 반환합니다.
+     * 토큰당 지연 시간 이력이 있으면 지연 목표 안에 끝날 수 있는 토큰 수로 더 제한합니다.
+     */
+    public synchronized int getBatchTokenBudget() {
+        if (latencySloMs <= 0 || msPerTokenEwma <= 0) {
+            return tokenBudget;
+        }
+        int latencyBudget = (int) (latencySloMs / msPerTokenEwma);
+        return Math.max(baseTokensPerScript, Math.min(tokenBudget, latencyBudget));
+    }
+
+    /**
+     * 완료된 배치의 실제 응답 크기와 소요 시간을 기록합니다.
+     * 응답 잘림이 의심되면 추정 보정 계수를 더 크게 올립니다.
+     */
+    public synchronized void recordBatch(@NotNull Batch batch, long responseBytes, long elapsedMs, boolean truncated) {
+        observedBatches++;
+        if (truncated) {
+            truncatedBatches++;
+        }
+        if (batch.estimatedTokens() <= 0 || responseBytes <= 0) {
+            return;
+        }
+
+        double actualTokens = responseBytes / BYTES_PER_TOKEN;
+        double rawEstimate = batch.estimatedTokens() / tokenCorrection;
+        double ratio = actualTokens / rawEstimate;
+        if (truncated) {
+            // 잘린 응답은 실제보다 작게 보이므로 최소한 한 단계 크게 보정합니다.
+            ratio = Math.max(ratio, tokenCorrection * 1.25);
+        }
+        tokenCorrection = clamp(historyAlpha * ratio + (1 - historyAlpha) * tokenCorrection, MIN_CORRECTION, MAX_CORRECTION);
+
+        double msPerToken = elapsedMs / actualTokens;
+        msPerTokenEwma = msPerTokenEwma < 0 ? msPerToken : historyAlpha * msPerToken + (1 - historyAlpha) * msPerTokenEwma;
+    }
+
+    public synchronized double getTokenCorrection() {
+        return tokenCorrection;
+    }
+
+    /**
+     * 구성기 상태를 JSON으로 반환합니다.
+     */
+    @NotNull
+    public synchronized JsonObject getStats() {
+        JsonObject stats = new JsonObject();
+        stats.addProperty("tokenBudget", tokenBudget);
+        stats.addProperty("effectiveTokenBudget", getBatchTokenBudget());
+        stats.addProperty("latencySloMs", latencySloMs);
+        stats.addProperty("maxObjectsPerBatch", maxObjectsPerBatch);
+        stats.addProperty("tokenCorrection", Math.round(tokenCorrection * 1000) / 1000.0);
+        stats.addProperty("msPerToken", msPerTokenEwma < 0 ? 0 : Math.round(msPerTokenEwma * 1000) / 1000.0);
+        stats.addProperty("observedBatches", observedBatches);
+        stats.addProperty("truncatedBatches", truncatedBatches);
+        return stats;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * 구성된 스크립트 배치
+     */
+    public record Batch(int number, List<JsonObject> objects, int estimatedTokens) {
+    }
+
+    private record Sized(int index, JsonObject instruction, int tokens) {
+    }
+
+    private static final class Bin {
+        private final List<Sized> items = new ArrayList<>();
+        private long tokens;
+
+        private void add(Sized item) {
+            items.add(item);
+            tokens += item.tokens();
+        }
+    }
+}
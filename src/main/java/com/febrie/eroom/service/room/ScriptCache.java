@@ -0,0 +1,178 @@
+package com.febrie.eroom.service.room;
+
+import com.febrie.eroom.config.ConfigSection;
+import com.febrie.eroom.service.cache.TieredCache;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * 오브젝트별 스크립트 캐시
+ * 스크립트는 낮은 온도로 생성되어 거의 결정적이므로, 같은 지시사항의 오브젝트는 이전에 생성한 스크립트를 재사용합니다.
+ * 키는 프롬프트, 키 순서를 정렬한 오브젝트 지시사항 JSON, 그리고 스크립트가 의존하는 문맥의 해시입니다.
+ * 문맥은 GameManager와 상호작용 오브젝트의 경우 GameManager 계약, 모델 스케일이 있는 오브젝트의 경우 그 스케일입니다.
+ */
+public class ScriptCache {
+
+    // 설정 키
+    private static final String KEY_ENABLED = "enabled";
+
+    // 오브젝트 지시사항 필드
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_INTERACTIVE_DESCRIPTION = "interactive_description";
+    private static final String TYPE_GAME_MANAGER = "game_manager";
+
+    // 캐시 값 필드
+    private static final String FIELD_SCRIPT_NAME = "scriptName";
+    private static final String FIELD_SCRIPT = "script";
+
+    // LLM이 클래스 이름에 붙이는 접미사
+    private static final String SCRIPT_NAME_SUFFIX = "C";
+
+    /**
+     * 캐시 조회 결과
+     * scripts는 캐시에서 찾은 스크립트 이름별 스크립트, misses는 새로 생성해야 하는 오브젝트입니다.
+     */
+    public record Lookup(Map<String, String> scripts, List<JsonObject> misses) {
+    }
+
+    private final TieredCache cache;
+
+    /**
+     * ScriptCache 생성자
+     * 캐시가 null이면 비활성화됩니다.
+     */
+    public ScriptCache(@Nullable TieredCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * 설정 섹션에서 스크립트 캐시를 생성합니다.
+     */
+    @NotNull
+    public static ScriptCache fromConfig(@NotNull ConfigSection section) {
+        return new ScriptCache(section.getBoolean(KEY_ENABLED, false) ? TieredCache.fromConfig("script", section) : null);
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * 오브젝트들의 스크립트를 캐시에서 찾습니다.
+     * 캐시가 비활성화되어 있으면 모든 오브젝트를 미스로 반환합니다.
+     */
+    @NotNull
+    public Lookup lookup(@NotNull String prompt, @NotNull List<JsonObject> objects,
+                         @NotNull GameManagerContract contract, @Nullable JsonObject modelScales) {
+        if (cache == null) {
+            return new Lookup(Map.of(), objects);
+        }
+
+        Map<String, String> scripts = new LinkedHashMap<>();
+        List<JsonObject> misses = new ArrayList<>();
+        for (JsonObject object : objects) {
+            Optional<JsonObject> cached = isCacheable(object)
+                    ? cache.get(createKey(prompt, object, contract, modelScales))
+                    .filter(JsonElement::isJsonObject)
+                    .map(JsonElement::getAsJsonObject)
+                    : Optional.empty();
+            if (cached.isPresent()) {
+                scripts.put(cached.get().get(FIELD_SCRIPT_NAME).getAsString(), cached.get().get(FIELD_SCRIPT).getAsString());
+            } else {
+                misses.add(object);
+            }
+        }
+        return new Lookup(scripts, misses);
+    }
+
+    /**
+     * 생성된 스크립트를 오브젝트별로 저장합니다.
+     * 오브젝트 이름 또는 접미사가 붙은 이름의 스크립트가 있는 오브젝트만 저장합니다.
+     */
+    public void store(@NotNull String prompt, @NotNull List<JsonObject> objects, @NotNull GameManagerContract contract,
+                      @Nullable JsonObject modelScales, @NotNull Map<String, String> scripts) {
+        if (cache == null) {
+            return;
+        }
+
+        for (JsonObject object : objects) {
+            if (!isCacheable(object)) {
+                continue;
+            }
+            String name = object.get(FIELD_NAME).getAsString();
+            String scriptName = scripts.containsKey(name) ? name : name + SCRIPT_NAME_SUFFIX;
+            String script = scripts.get(scriptName);
+            if (script == null || script.isEmpty()) {
+                continue;
+            }
+
+            JsonObject value = new JsonObject();
+            value.addProperty(FIELD_SCRIPT_NAME, scriptName);
+            value.addProperty(FIELD_SCRIPT, script);
+            cache.put(createKey(prompt, object, contract, modelScales), value);
+        }
+    }
+
+    /**
+     * 캐시 상태를 JSON으로 반환합니다.
+     */
+    @NotNull
+    public JsonObject getStats() {
+        if (cache == null) {
+            JsonObject stats = new JsonObject();
+            stats.addProperty("enabled", false);
+            return stats;
+        }
+        JsonObject stats = cache.toJson();
+        stats.addProperty("enabled", true);
+        return stats;
+    }
+
+    private boolean isCacheable(@NotNull JsonObject object) {
+        return object.has(FIELD_NAME) && object.get(FIELD_NAME).isJsonPrimitive();
+    }
+
+    /**
+     * 오브젝트 하나의 캐시 키를 생성합니다.
+     */
+    @NotNull
+    private String createKey(@NotNull String prompt, @NotNull JsonObject object,
+                             @NotNull GameManagerContract contract, @Nullable JsonObject modelScales) {
+        String name = object.get(FIELD_NAME).getAsString();
+        boolean usesContract = object.has(FIELD_INTERACTIVE_DESCRIPTION)
+                || (object.has(FIELD_TYPE) && TYPE_GAME_MANAGER.equals(object.get(FIELD_TYPE).getAsString()));
+        JsonElement scale = modelScales != null ? modelScales.get(name) : null;
+
+        return TieredCache.hashKey(
+                TieredCache.hashKey(prompt),
+                canonicalize(object).toString(),
+                usesContract ? canonicalize(contract.toJson()).toString() : "",
+                scale != null ? canonicalize(scale).toString() : ""
+        );
+    }
+
+    /**
+     * 객체의 키를 정렬해 필드 순서가 달라도 같은 문자열이 되도록 합니다.
+     */
+    @NotNull
+    private static JsonElement canonicalize(@NotNull JsonElement element) {
+        if (element.isJsonObject()) {
+            JsonObject sorted = new JsonObject();
+            new TreeMap<>(element.getAsJsonObject().asMap())
+                    .forEach((key, value) -> sorted.add(key, canonicalize(value)));
+            return sorted;
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = new JsonArray();
+            element.getAsJsonArray().forEach(value -> array.add(canonicalize(value)));
+            return array;
+        }
+        return element;
+    }
+}
@@ -0,0 +1,63 @@
+package com.febrie.eroom.service.ai;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamingCodeBlockParserTest {
+
+    private final List<String> blocks = new ArrayList<>();
+    private final StreamingCodeBlockParser parser = new StreamingCodeBlockParser(blocks::add);
+
+    @Test
+    @DisplayName("펜스가 여러 조각에 나뉘어 도착해도 블록을 추출한다")
+    void extractsBlockWithFencesSplitAcrossChunks() {
+        for (String chunk : List.of("설명\n`", "``csh", "arp\npublic class A", " {}\n`", "`", "`\n뒤 설명\n")) {
+            parser.append(chunk);
+        }
+
+        assertEquals(List.of("public class A {}"), blocks);
+        assertEquals(1, parser.getCompletedBlocks());
+    }
+
+    @Test
+    @DisplayName("닫는 펜스가 도착하는 즉시 블록을 전달한다")
+    void deliversBlockAsSoonAsFenceCloses() {
+        parser.append("```csharp\nclass A {}\n```\n```csharp\nclass B");
+        assertEquals(List.of("class A {}"), blocks);
+
+        parser.append(" {}\n```\n");
+        assertEquals(List.of("class A {}", "class B {}"), blocks);
+    }
+
+    @Test
+    @DisplayName("줄 중간의 ```는 펜스로 보지 않는다")
+    void ignoresFenceInsideLine() {
+        parser.append("본문에서 ```csharp 표기를 언급합니다\n");
+        parser.append("```csharp\nvar fence = \"```\" + suffix;\nDebug.Log(fence);\n```\n");
+
+        assertEquals(List.of("var fence = \"```\" + suffix;\nDebug.Log(fence);"), blocks);
+    }
+
+    @Test
+    @DisplayName("코드와 같은 줄에 붙은 닫는 펜스를 처리한다")
+    void handlesClosingFenceOnCodeLine() {
+        parser.append("```csharp\npublic class A\n{\n}```\n");
+
+        assertEquals(List.of("public class A\n{\n}"), blocks);
+    }
+
+    @Test
+    @DisplayName("줄바꿈 없이 끝난 마지막 줄은 finish에서 처리한다")
+    void finishProcessesTrailingLine() {
+        parser.append("```csharp\nclass A {}\n```");
+        assertEquals(List.of(), blocks);
+
+        parser.finish();
+        assertEquals(List.of("class A {}"), blocks);
+    }
+}
@@ -0,0 +1,207 @@
+package com.febrie.eroom.service.journal;
+
+import com.febrie.eroom.service.CompressedResult;
+import com.febrie.eroom.service.JobResultStore;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SegmentedJobJournalTest {
+
+    private static final long SEGMENT_BYTES = 64 * 1024;
+    private static final long RETENTION_MS = 3600_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트 끝에 잘린 기록이 있어도 앞의 기록은 모두 재생한다")
+    void replaysRecordsBeforeTornTail() throws IOException {
+        try (SegmentedJobJournal journal = open()) {
+            journal.recordSubmitted("a", "tenant", request("a"));
+            journal.recordSubmitted("b", "tenant", request("b"));
+            journal.recordStatus("b", JobResultStore.Status.PROCESSING);
+        }
+
+        // 길이 헤더는 100바이트라고 하지만 본문이 10바이트뿐인 기록
+        ByteBuffer torn = ByteBuffer.allocate(18).putInt(100).putInt(0).put(new byte[10]);
+        try (OutputStream out = Files.newOutputStream(lastSegment(), StandardOpenOption.APPEND)) {
+            out.write(torn.array());
+        }
+
+        Map<String, RecoveredJob> jobs = replay();
+        assertEquals(2, jobs.size());
+        assertEquals(JobResultStore.Status.PROCESSING, jobs.get("b").status());
+        assertEquals("b", jobs.get("b").request().get("prompt").getAsString());
+    }
+
+    @Test
+    @DisplayName("CRC가 맞지 않는 기록부터는 무시한다")
+    void stopsAtCorruptRecord() throws IOException {
+        try (SegmentedJobJournal journal = open()) {
+            journal.recordSubmitted("a", "tenant", request("a"));
+            journal.recordSubmitted("b", "tenant", request("b"));
+        }
+
+        Path segment = lastSegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 2] ^= 0x01;
+        Files.write(segment, bytes);
+
+        Map<String, RecoveredJob> jobs = replay();
+        assertEquals(List.of("a"), List.copyOf(jobs.keySet()));
+    }
+
+    @Test
+    @DisplayName("이전 세그먼트를 지운 뒤 중단된 압축을 마무리하고 재생한다")
+    void finishesCompactionInterruptedAfterDelete() throws IOException {
+        writeTwoSessions();
+        List<Path> segments = segments();
+        writeCompactFile(segments);
+        Files.delete(segments.get(0));
+
+        assertRecoveredAfterCompaction(segments);
+    }
+
+    @Test
+    @DisplayName("이전 세그먼트를 지우기 전에 중단된 압축을 마무리하고 재생한다")
+    void finishesCompactionInterruptedBeforeDelete() throws IOException {
+        writeTwoSessions();
+        List<Path> segments = segments();
+        writeCompactFile(segments);
+
+        assertRecoveredAfterCompaction(segments);
+    }
+
+    @Test
+    @DisplayName("압축한 뒤에도 최종 결과를 그대로 재생한다")
+    void keepsResultsThroughCompaction() throws InterruptedException {
+        Random random = new Random(42);
+        Map<String, JsonObject> results = new LinkedHashMap<>();
+        try (SegmentedJobJournal journal = new SegmentedJobJournal(directory, SEGMENT_BYTES, 5, 2, RETENTION_MS)) {
+            for (int i = 0; i < 12; i++) {
+                String ruid = "job" + i;
+                // 압축되지 않는 내용이라 결과마다 세그먼트의 절반 가까이를 차지한다
+                byte[] noise = new byte[24 * 1024];
+                random.nextBytes(noise);
+                JsonObject result = new JsonObject();
+                result.addProperty("payload", Base64.getEncoder().encodeToString(noise));
+                results.put(ruid, result);
+
+                journal.recordSubmitted(ruid, "tenant", request(ruid));
+                journal.recordResult(ruid, JobResultStore.Status.COMPLETED, CompressedResult.of(result));
+            }
+            journal.recordSubmitted("pending", "tenant", request("pending"));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (journal.getStats().get("compactions").getAsLong() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertTrue(journal.getStats().get("compactions").getAsLong() > 0);
+        }
+
+        Map<String, RecoveredJob> jobs = replay();
+        assertEquals(13, jobs.size());
+        assertFalse(jobs.get("pending").isFinished());
+        results.forEach((ruid, result) -> {
+            RecoveredJob job = jobs.get(ruid);
+            assertEquals(JobResultStore.Status.COMPLETED, job.status());
+            assertEquals(result, job.result().toJson());
+        });
+    }
+
+    /**
+     * 두 번에 나눠 기록해 세그먼트 두 개를 만듭니다.
+     */
+    private void writeTwoSessions() {
+        try (SegmentedJobJournal journal = open()) {
+            journal.recordSubmitted("done", "tenant", request("done"));
+            JsonObject result = new JsonObject();
+            result.addProperty("success", true);
+            journal.recordResult("done", JobResultStore.Status.COMPLETED, CompressedResult.of(result));
+            journal.recordSubmitted("removed", "tenant", request("removed"));
+        }
+        try (SegmentedJobJournal journal = open()) {
+            journal.recordSubmitted("pending", "tenant", request("pending"));
+            journal.recordStatus("pending", JobResultStore.Status.PROCESSING);
+            journal.recordDeleted("removed");
+        }
+    }
+
+    /**
+     * 압축이 fsync까지 마친 상태를 흉내 내어, 두 세그먼트의 기록을 마지막 세그먼트 번호의 압축 파일로 씁니다.
+     */
+    private void writeCompactFile(List<Path> segments) throws IOException {
+        assertEquals(2, segments.size());
+        Path target = segments.get(1);
+        try (OutputStream out = Files.newOutputStream(target.resolveSibling(target.getFileName() + ".compact"))) {
+            for (Path segment : segments) {
+                out.write(Files.readAllBytes(segment));
+            }
+        }
+        // 압축 파일과 구별되도록 원래 세그먼트에는 잘린 기록만 남긴다
+        Files.write(target, new byte[]{0, 0});
+    }
+
+    private void assertRecoveredAfterCompaction(List<Path> segments) throws IOException {
+        Map<String, RecoveredJob> jobs = replay();
+
+        assertEquals(2, jobs.size());
+        assertTrue(jobs.get("done").isFinished());
+        assertEquals(JobResultStore.Status.COMPLETED, jobs.get("done").status());
+        assertEquals(JobResultStore.Status.PROCESSING, jobs.get("pending").status());
+        assertFalse(jobs.containsKey("removed"));
+
+        assertFalse(Files.exists(segments.get(0)));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.noneMatch(path -> path.getFileName().toString().endsWith(".compact")));
+        }
+    }
+
+    private SegmentedJobJournal open() {
+        return new SegmentedJobJournal(directory, SEGMENT_BYTES, 5, 4, RETENTION_MS);
+    }
+
+    private Map<String, RecoveredJob> replay() {
+        Map<String, RecoveredJob> jobs = new LinkedHashMap<>();
+        try (SegmentedJobJournal journal = open()) {
+            journal.replay(job -> jobs.put(job.ruid(), job));
+        }
+        return jobs;
+    }
+
+    /**
+     * 비어 있지 않은 세그먼트 파일을 번호 순서로 반환합니다.
+     */
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".log"))
+                    .filter(path -> path.toFile().length() > 0)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path lastSegment() throws IOException {
+        List<Path> segments = segments();
+        return segments.get(segments.size() - 1);
+    }
+
+    private static JsonObject request(String prompt) {
+        JsonObject request = new JsonObject();
+        request.addProperty("prompt", prompt);
+        return request;
+    }
+}
@@ -0,0 +1,122 @@
+package com.febrie.eroom.service.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long LATENCY_MS = 100;
+
+    @Test
+    @DisplayName("제한이 다 쓰일 때만 한 바퀴에 1씩 늘리고 최대값을 넘지 않는다")
+    void increasesAdditivelyUpToMax() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 1, 3, 1);
+
+        runRound(limiter);
+        assertEquals(2, limiter.getLimit());
+
+        for (int i = 0; i < 20; i++) {
+            runRound(limiter);
+        }
+        assertEquals(3, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("제한에 여유가 있으면 성공해도 늘리지 않는다")
+    void doesNotIncreaseWhenUnsaturated() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 1, 8, 4);
+
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire();
+            assertFalse(permit.saturated());
+            limiter.release(permit, LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getStatus().increases());
+    }
+
+    @Test
+    @DisplayName("오류와 속도 제한은 크게 줄이되 최소값 아래로 내리지 않는다")
+    void backsOffMultiplicativelyOnErrorsDownToMin() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 2, 8, 8);
+
+        limiter.release(limiter.acquire(), LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.ERROR);
+        assertEquals(4, limiter.getLimit());
+        limiter.release(limiter.acquire(), LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.RATE_LIMITED);
+        assertEquals(2, limiter.getLimit());
+        limiter.release(limiter.acquire(), LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.ERROR);
+        assertEquals(2, limiter.getLimit());
+        assertEquals(3, limiter.getStatus().errorBackoffs());
+    }
+
+    @Test
+    @DisplayName("단기 처리 시간이 장기 평균보다 크게 늘면 조금 줄인다")
+    void backsOffOnLatencyIncrease() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(true, 1, 8, 4);
+        for (int i = 0; i < 20; i++) {
+            limiter.release(limiter.acquire(), LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        }
+
+        limiter.release(limiter.acquire(), LATENCY_MS * 10, AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(1, limiter.getStatus().latencyBackoffs());
+    }
+
+    @Test
+    @DisplayName("무시할 결과와 고정 모드에서는 제한값이 바뀌지 않는다")
+    void keepsLimitForIgnoredOutcomesAndFixedMode() throws InterruptedException {
+        AdaptiveConcurrencyLimiter adaptive = limiter(true, 1, 8, 4);
+        adaptive.cancel(adaptive.acquire());
+        adaptive.release(adaptive.acquire(), LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.IGNORED);
+        assertEquals(4, adaptive.getLimit());
+
+        AdaptiveConcurrencyLimiter fixed = limiter(false, 1, 8, 4);
+        fixed.release(fixed.acquire(), LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.ERROR);
+        assertEquals(4, fixed.getLimit());
+        assertEquals(0, fixed.getStatus().inFlight());
+    }
+
+    @Test
+    @DisplayName("제한만큼 처리 중이면 슬롯이 반환될 때까지 기다린다")
+    void blocksAcquireAtLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(false, 1, 1, 1);
+        AdaptiveConcurrencyLimiter.Permit held = limiter.acquire();
+
+        CompletableFuture<AdaptiveConcurrencyLimiter.Permit> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(waiting.isDone());
+
+        limiter.release(held, LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.SUCCESS);
+        assertNotNull(waiting.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * 현재 제한만큼 슬롯을 모두 얻은 뒤 같은 처리 시간으로 성공 반환합니다.
+     */
+    private static void runRound(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = limiter.getLimit(); i > 0; i--) {
+            permits.add(limiter.acquire());
+        }
+        permits.forEach(permit -> limiter.release(permit, LATENCY_MS, AdaptiveConcurrencyLimiter.Outcome.SUCCESS));
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(boolean adaptive, int min, int max, int initial) {
+        return new AdaptiveConcurrencyLimiter(adaptive, min, max, initial, 1.5, 0.9, 0.5, 0.3, 0.05);
+    }
+}
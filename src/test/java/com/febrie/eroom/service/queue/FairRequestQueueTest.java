@@ -0,0 +1,107 @@
+package com.febrie.eroom.service.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FairRequestQueueTest {
+
+    @Test
+    @DisplayName("가중치가 같으면 테넌트를 번갈아 꺼낸다")
+    void alternatesTenantsWithEqualWeights() throws InterruptedException {
+        FairRequestQueue<String> queue = new FairRequestQueue<>(100, 0, 1.0, Map.of(), 100, 20);
+        for (int i = 0; i < 3; i++) {
+            queue.offer("a", "a" + i);
+        }
+        for (int i = 0; i < 3; i++) {
+            queue.offer("b", "b" + i);
+        }
+
+        assertEquals(List.of("a0", "b0", "a1", "b1", "a2", "b2"), takeAll(queue, 6));
+    }
+
+    @Test
+    @DisplayName("가중치 비율대로 처리 슬롯을 나눈다")
+    void dispatchesInProportionToWeights() throws InterruptedException {
+        FairRequestQueue<String> queue = new FairRequestQueue<>(100, 0, 1.0, Map.of("heavy", 2.0), 100, 20);
+        for (int i = 0; i < 6; i++) {
+            queue.offer("heavy", "heavy");
+            queue.offer("light", "light");
+        }
+
+        List<String> taken = takeAll(queue, 9);
+        assertEquals(6, taken.stream().filter("heavy"::equals).count());
+        assertEquals(3, taken.stream().filter("light"::equals).count());
+        assertEquals(List.of("heavy", "heavy", "light"), taken.subList(0, 3));
+    }
+
+    @Test
+    @DisplayName("요청을 많이 쌓은 테넌트가 늦게 온 테넌트를 굶기지 않는다")
+    void backloggedTenantDoesNotStarveLateTenant() throws InterruptedException {
+        FairRequestQueue<String> queue = new FairRequestQueue<>(100, 0, 1.0, Map.of(), 100, 20);
+        for (int i = 0; i < 8; i++) {
+            queue.offer("bulk", "bulk" + i);
+        }
+        queue.offer("late", "late");
+
+        assertEquals(List.of("bulk0", "late"), takeAll(queue, 2));
+        assertEquals(7, queue.size());
+        assertEquals(1, queue.backloggedTenants());
+    }
+
+    @Test
+    @DisplayName("비었다가 다시 들어온 테넌트는 쌓아둔 결손값 없이 시작한다")
+    void idleTenantDoesNotKeepDeficit() throws InterruptedException {
+        FairRequestQueue<String> queue = new FairRequestQueue<>(100, 0, 1.0, Map.of("a", 3.0), 100, 20);
+        queue.offer("a", "a0");
+        assertEquals("a0", queue.take());
+
+        queue.offer("b", "b0");
+        queue.offer("b", "b1");
+        queue.offer("a", "a1");
+        queue.offer("a", "a2");
+
+        assertEquals(List.of("b0", "a1", "a2", "b1"), takeAll(queue, 4));
+    }
+
+    @Test
+    @DisplayName("전체 용량과 테넌트별 대기 수를 넘는 요청은 거절한다")
+    void rejectsBeyondCapacityAndTenantLimit() {
+        FairRequestQueue<String> queue = new FairRequestQueue<>(3, 2, 1.0, Map.of(), 100, 20);
+
+        assertEquals(FairRequestQueue.OfferResult.ACCEPTED, queue.offer("a", "a0"));
+        assertEquals(FairRequestQueue.OfferResult.ACCEPTED, queue.offer("a", "a1"));
+        assertEquals(FairRequestQueue.OfferResult.TENANT_LIMIT, queue.offer("a", "a2"));
+        assertEquals(FairRequestQueue.OfferResult.ACCEPTED, queue.offer("b", "b0"));
+        assertEquals(FairRequestQueue.OfferResult.QUEUE_FULL, queue.offer("c", "c0"));
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    @DisplayName("상태 조회는 대기 요청이 많은 테넌트부터 최대 개수까지만 반환한다")
+    void reportsDeepestTenantsUpToLimit() {
+        FairRequestQueue<String> queue = new FairRequestQueue<>(100, 0, 1.0, Map.of(), 100, 2);
+        queue.offer("one", "one");
+        for (int i = 0; i < 3; i++) {
+            queue.offer("three", "three");
+        }
+        queue.offer("two", "two");
+        queue.offer("two", "two");
+
+        List<String> reported = queue.tenantStatuses().stream().map(QueueManager.TenantStatus::tenant).toList();
+        assertEquals(List.of("three", "two"), reported);
+    }
+
+    private static List<String> takeAll(FairRequestQueue<String> queue, int count) throws InterruptedException {
+        List<String> taken = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            taken.add(queue.take());
+        }
+        return taken;
+    }
+}